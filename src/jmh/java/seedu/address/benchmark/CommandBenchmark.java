@@ -0,0 +1,276 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.commands.CapacityCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.commands.OnLeaveCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.storage.MappedAddressBookStorage;
+
+/**
+ * Benchmarks commands that go through every person in the address book.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBenchmark {
+
+    /** Number of persons marked as absent by the attendance benchmark. */
+    private static final int ABSENT_COUNT = 10;
+
+    /** First day of the week searched by the on leave benchmark, in which 30% of the persons are on leave. */
+    private static final LocalDate ON_LEAVE_START_DATE = LocalDate.of(2024, 2, 12);
+
+    /** Query typed one keystroke at a time by the live search benchmark. */
+    private static final String LIVE_SEARCH_QUERY = "bernice yu 12";
+
+    /** Tags of the teams in the capacity benchmark, which between them cover half of the sample persons. */
+    private static final List<Tag> CAPACITY_TAGS = Arrays.asList(new Tag("friends"), new Tag("colleagues"));
+
+    /**
+     * A model of {@code personCount} persons.
+     */
+    @State(Scope.Benchmark)
+    public static class FullModel {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int personCount;
+
+        private Model model;
+
+        /**
+         * Creates the model.
+         */
+        @Setup
+        public void setUp() {
+            model = new ModelManager(SampleDataGenerator.generateAddressBook(personCount), new UserPrefs());
+        }
+    }
+
+    /**
+     * A model of {@code personCount} persons in a random order, whose list is unsorted before every invocation so
+     * that every sort starts from the same unsorted order.
+     */
+    @State(Scope.Benchmark)
+    public static class ShuffledModel {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int personCount;
+
+        private Model model;
+
+        /**
+         * Creates the model of the shuffled persons.
+         */
+        @Setup
+        public void setUp() {
+            List<Person> persons = new ArrayList<>(SampleDataGenerator.generatePersons(personCount));
+            Collections.shuffle(persons, new Random(personCount));
+            AddressBook shuffledAddressBook = new AddressBook();
+            shuffledAddressBook.setPersons(persons);
+            model = new ModelManager(shuffledAddressBook, new UserPrefs());
+        }
+
+        @Setup(Level.Invocation)
+        public void resetOrder() {
+            model.sortFilteredPersonList(null);
+        }
+    }
+
+    /**
+     * A model of {@code personCount} persons loaded from a memory-mapped data file, so that its persons are held
+     * lazily, and listed in order of name. The model is loaded again before every invocation, so that each
+     * invocation changes persons that are held lazily, which the person list reports as changed.
+     */
+    @State(Scope.Benchmark)
+    public static class MappedModel {
+        @Param({"1000", "10000", "100000"})
+        public int personCount;
+
+        private Path folder;
+        private MappedAddressBookStorage storage;
+        private Model model;
+
+        /**
+         * Saves the persons to the data file.
+         */
+        @Setup
+        public void setUp() throws IOException {
+            folder = Files.createTempDirectory("command-benchmark");
+            storage = new MappedAddressBookStorage(folder.resolve("addressbook.map"), DurabilityPolicy.NEVER);
+            storage.saveAddressBook(SampleDataGenerator.generateAddressBook(personCount));
+        }
+
+        /**
+         * Loads the model from the data file and sorts its list.
+         */
+        @Setup(Level.Invocation)
+        public void load() throws DataLoadingException, CommandException {
+            model = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+            new SortCommand("name", "asc").execute(model);
+        }
+
+        /**
+         * Deletes the data file.
+         */
+        @TearDown
+        public void tearDown() throws IOException {
+            try (Stream<Path> paths = Files.walk(folder)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * A model of {@code personCount} persons, which has already indexed them for searching, and the queries of a find
+     * command typed one keystroke at a time.
+     */
+    @State(Scope.Benchmark)
+    public static class LiveSearchState {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int personCount;
+
+        private Model model;
+        private List<SearchQuery> typedQueries;
+
+        /**
+         * Parses the queries, creates the model and searches it once.
+         */
+        @Setup
+        public void setUp() throws ParseException {
+            FindCommandParser parser = new FindCommandParser();
+            typedQueries = new ArrayList<>();
+            for (int length = 1; length <= LIVE_SEARCH_QUERY.length(); length++) {
+                typedQueries.add(parser.parseQuery(" " + LIVE_SEARCH_QUERY.substring(0, length)));
+            }
+            model = new ModelManager(SampleDataGenerator.generateAddressBook(personCount), new UserPrefs());
+            model.searchPersons(typedQueries.get(typedQueries.size() - 1));
+        }
+    }
+
+    @Benchmark
+    public CommandResult sort_byName(ShuffledModel state) throws CommandException {
+        return new SortCommand("name", "asc").execute(state.model);
+    }
+
+    @Benchmark
+    public CommandResult sort_byHireDescending(ShuffledModel state) throws CommandException {
+        return new SortCommand("hire", "desc").execute(state.model);
+    }
+
+    @Benchmark
+    public CommandResult sort_byTagHireAndName(ShuffledModel state) throws CommandException {
+        return new SortCommand(List.of("tag", "hire", "name"), List.of("asc", "desc", "asc")).execute(state.model);
+    }
+
+    /**
+     * Marks the attendance of every person, with a few of them absent.
+     */
+    @Benchmark
+    public CommandResult attendance_markAll(FullModel state) throws CommandException {
+        List<String> absentNrics = new ArrayList<>(ABSENT_COUNT);
+        for (int i = 0; i < ABSENT_COUNT; i++) {
+            absentNrics.add(SampleDataGenerator.generateNric(i * (state.personCount / ABSENT_COUNT)).nric);
+        }
+        return new AttendanceCommand(absentNrics).execute(state.model);
+    }
+
+    /**
+     * Marks the attendance of every person in a sorted list of persons that are held lazily, which changes the
+     * person list once for all of them.
+     */
+    @Benchmark
+    public CommandResult attendance_markAllLoadedLazily(MappedModel state) throws CommandException {
+        return new AttendanceCommand(List.of()).execute(state.model);
+    }
+
+    /**
+     * Lists the persons on leave in a week. The leaves are indexed by the first invocation.
+     */
+    @Benchmark
+    public CommandResult onLeave_oneWeek(FullModel state) {
+        return new OnLeaveCommand(ON_LEAVE_START_DATE, ON_LEAVE_START_DATE.plusDays(6)).execute(state.model);
+    }
+
+    /**
+     * Reports the number of persons on leave in two teams on each day of a year, without exporting the report.
+     */
+    @Benchmark
+    public CommandResult capacity_oneYear(FullModel state) throws CommandException {
+        return new CapacityCommand(CAPACITY_TAGS, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 30),
+                Optional.empty()).execute(state.model);
+    }
+
+    /**
+     * Lists the persons with a name that is one of the sample names. The persons are indexed by the first invocation.
+     */
+    @Benchmark
+    public CommandResult find_oneName(FullModel state) {
+        return new FindCommand(new SearchQuery(List.of("Bernice"))).execute(state.model);
+    }
+
+    /**
+     * Lists the persons with a name similar to a misspelt sample name. The names are indexed by the first invocation.
+     */
+    @Benchmark
+    public CommandResult fuzzyFind_typo(FullModel state) {
+        return new FuzzyFindCommand(List.of("Bernise")).execute(state.model);
+    }
+
+    /**
+     * Searches as a query is typed one keystroke at a time, as the live search does while a find command is typed.
+     * Each keystroke only looks up the words typed in the index kept by the model.
+     */
+    @Benchmark
+    public Set<Nric> liveSearch_typeQuery(LiveSearchState state) {
+        Set<Nric> matches = null;
+        for (SearchQuery query : state.typedQueries) {
+            matches = state.model.searchPersons(query);
+        }
+        return matches;
+    }
+}
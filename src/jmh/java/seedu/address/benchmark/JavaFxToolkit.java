@@ -0,0 +1,22 @@
+package seedu.address.benchmark;
+
+import javafx.application.Platform;
+
+/**
+ * Starts JavaFX for benchmarks of UI components, which need a display.
+ */
+public class JavaFxToolkit {
+
+    private JavaFxToolkit() {}
+
+    /**
+     * Starts JavaFX, unless it was already started for an earlier benchmark in the same fork.
+     */
+    public static void start() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // JavaFX has already been started
+        }
+    }
+}
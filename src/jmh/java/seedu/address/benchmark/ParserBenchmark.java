@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HIRE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks tokenizing arguments and parsing whole commands, as done for every command the user enters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " /name John Doe /nric S1234567A /email johnd@example.com"
+            + " /phone 98765432 /address John street, block 123, #01-01 /hire 2025-03-05";
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public ArgumentMultimap tokenize_addArguments() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_NRIC, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_HIRE);
+    }
+
+    @Benchmark
+    public Command parseCommand_add() throws ParseException {
+        return parser.parseCommand("add" + ADD_ARGUMENTS);
+    }
+
+    @Benchmark
+    public Command parseCommand_edit() throws ParseException {
+        return parser.parseCommand("edit 1 /name Robert Lee /phone 91234567");
+    }
+
+    @Benchmark
+    public Command parseCommand_find() throws ParseException {
+        return parser.parseCommand("find alex david");
+    }
+
+    @Benchmark
+    public Command parseCommand_leaveAdd() throws ParseException {
+        return parser.parseCommand("leave add S1234567A /start 2025-03-05 /end 2025-03-07 /reason Sick Leave");
+    }
+}
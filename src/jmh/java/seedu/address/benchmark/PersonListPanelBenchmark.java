@@ -0,0 +1,86 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.layout.Region;
+import seedu.address.ui.PersonListPanel;
+
+/**
+ * Benchmarks scrolling the person list one row at a time, as when holding down an arrow key.
+ *
+ * Each invocation scrolls the list down by one row, and then styles and lays out the list as JavaFX does for each
+ * frame, so the average time is the frame time for each row scrolled. Run it with the gc profiler of JMH, e.g.
+ * {@code gradlew jmh -Pbenchmarks=PersonListPanelBenchmark -Pprofiler=gc}, to also measure the bytes allocated for
+ * each row scrolled ({@code gc.alloc.rate.norm}).
+ *
+ * The list is laid out on the benchmark thread in a scene that is never shown, which JavaFX allows. The JavaFX
+ * toolkit must still be started, so this benchmark needs a display.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonListPanelBenchmark {
+
+    private static final double WIDTH = 600;
+    private static final double HEIGHT = 800;
+    /** Height of each row, which is the cell size set by {@code PersonListPanel}. */
+    private static final double ROW_HEIGHT = 150;
+
+    @Param({"1000", "50000"})
+    public int personCount;
+
+    private Region root;
+    private VirtualFlow<?> flow;
+    private int scrolledRows;
+    private int maxScrolledRows;
+
+    /**
+     * Creates the person list and lays it out once, which creates the cells that are then reused as it scrolls.
+     */
+    @Setup
+    public void setUp() {
+        JavaFxToolkit.start();
+        root = new PersonListPanel(FXCollections.observableArrayList(SampleDataGenerator.generatePersons(personCount)))
+                .getRoot();
+        new Scene(root, WIDTH, HEIGHT);
+        root.resize(WIDTH, HEIGHT);
+        layOut();
+        flow = (VirtualFlow<?>) root.lookup(".virtual-flow");
+        maxScrolledRows = personCount - (int) (HEIGHT / ROW_HEIGHT) - 1;
+    }
+
+    @Benchmark
+    public void scrollOneRow() {
+        if (scrolledRows == maxScrolledRows) {
+            flow.scrollTo(0);
+            scrolledRows = 0;
+        } else {
+            flow.scrollPixels(ROW_HEIGHT);
+            scrolledRows++;
+        }
+        layOut();
+    }
+
+    private void layOut() {
+        root.applyCss();
+        root.layout();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates address books of any size for the benchmarks, based on the sample persons in {@link SampleDataUtil}.
+ * The generated persons are distinct, and the same count always generates the same persons, so that results can be
+ * compared between runs.
+ */
+public class SampleDataGenerator {
+
+    /** Number of leaves given to each generated person. */
+    public static final int LEAVES_PER_PERSON = 5;
+
+    private static final Person[] SAMPLE_PERSONS = SampleDataUtil.getSamplePersons();
+    private static final LocalDate FIRST_LEAVE_DATE = LocalDate.of(2024, 1, 1);
+
+    private SampleDataGenerator() {}
+
+    /**
+     * Returns {@code count} distinct persons, numbered from 0.
+     */
+    public static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} distinct persons, numbered from 0.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns the person numbered {@code number}, which is based on one of the sample persons.
+     */
+    public static Person generatePerson(int number) {
+        Person sample = SAMPLE_PERSONS[number % SAMPLE_PERSONS.length];
+        return new Person(new Name(sample.getName().fullName + " " + number), generateNric(number),
+                sample.getPhone(), sample.getEmail(), sample.getAddress(), sample.getHire(), sample.getTags(),
+                generateLeaves(number));
+    }
+
+    /**
+     * Returns the NRIC of the person numbered {@code number}.
+     */
+    public static Nric generateNric(int number) {
+        return new Nric(String.format("S%07dA", number));
+    }
+
+    private static List<Leave> generateLeaves(int number) {
+        List<Leave> leaves = new ArrayList<>(LEAVES_PER_PERSON);
+        LocalDate start = FIRST_LEAVE_DATE.plusDays(number % 30);
+        for (int i = 0; i < LEAVES_PER_PERSON; i++) {
+            LocalDate leaveStart = start.plusDays(i * 40L);
+            leaves.add(new Leave(leaveStart, leaveStart.plusDays(2), "Annual Leave"));
+        }
+        return leaves;
+    }
+}
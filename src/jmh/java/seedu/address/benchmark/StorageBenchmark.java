@@ -0,0 +1,100 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+
+/**
+ * Benchmarks saving and loading the address book in each data file format.
+ * Loading includes creating the {@code AddressBook} used by the app.
+ * Saves are not forced onto the storage device, so that the results do not depend on the device.
+ * Each iteration is a single save or load, as both take long enough to be timed on their own.
+ *
+ * The default sizes stop at 100000 persons, as a json data file of a million persons takes close to a gigabyte.
+ * Pass {@code -Ppersons=1000000} to benchmark larger address books.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"JSON", "BINARY", "MAPPED"})
+    public AddressBookFormat format;
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private Path folder;
+    private AddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Creates the address book and saves it once, so that there is a data file to load.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storage-benchmark");
+        addressBook = SampleDataGenerator.generateAddressBook(personCount);
+        storage = createStorage(format, folder);
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the data file and its backups.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook load() throws DataLoadingException {
+        return new AddressBook(storage.readAddressBook().get());
+    }
+
+    private static AddressBookStorage createStorage(AddressBookFormat format, Path folder) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(folder.resolve("addressbook.bin"), DurabilityPolicy.NEVER);
+        case MAPPED:
+            return new MappedAddressBookStorage(folder.resolve("addressbook.map"), DurabilityPolicy.NEVER);
+        default:
+            return new JsonAddressBookStorage(folder.resolve("addressbook.json"), false, DurabilityPolicy.NEVER);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Benchmarks adding persons to a {@link UniquePersonList} and checking whether it contains a person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int personCount;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person presentPerson;
+    private Person absentPerson;
+
+    /**
+     * Creates a list of {@code personCount} persons.
+     */
+    @Setup
+    public void setUp() {
+        persons = SampleDataGenerator.generatePersons(personCount);
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        presentPerson = persons.get(personCount / 2);
+        absentPerson = SampleDataGenerator.generatePerson(personCount);
+    }
+
+    @Benchmark
+    public boolean contains_presentPerson() {
+        return uniquePersonList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean contains_absentPerson() {
+        return uniquePersonList.contains(absentPerson);
+    }
+
+    /**
+     * Adds every person to an empty list one at a time.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList add_allPersons() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+}
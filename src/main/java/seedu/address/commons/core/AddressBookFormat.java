@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * The file format in which the address book is stored.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, which can be edited by hand. */
+    JSON,
+    /** A compact binary format that is smaller and faster to load and save than json, but cannot be edited by hand. */
+    BINARY,
+    /**
+     * A binary format that is mapped into memory rather than read, so that persons are only loaded when they are
+     * needed. Suited to very large address books.
+     */
+    MAPPED
+}
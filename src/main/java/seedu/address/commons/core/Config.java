@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean compactAddressBookJson = false;
+    private DurabilityPolicy addressBookDurability = DurabilityPolicy.BATCHED;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,25 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the address book file should be written without indentation and line breaks.
+     */
+    public boolean isCompactAddressBookJson() {
+        return compactAddressBookJson;
+    }
+
+    public void setCompactAddressBookJson(boolean compactAddressBookJson) {
+        this.compactAddressBookJson = compactAddressBookJson;
+    }
+
+    public DurabilityPolicy getAddressBookDurability() {
+        return addressBookDurability;
+    }
+
+    public void setAddressBookDurability(DurabilityPolicy addressBookDurability) {
+        this.addressBookDurability = addressBookDurability;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +68,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && compactAddressBookJson == otherConfig.compactAddressBookJson
+                && Objects.equals(addressBookDurability, otherConfig.addressBookDurability);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, compactAddressBookJson, addressBookDurability);
     }
 
     @Override
@@ -60,6 +83,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("compactAddressBookJson", compactAddressBookJson)
+                .add("addressBookDurability", addressBookDurability)
                 .toString();
     }
 
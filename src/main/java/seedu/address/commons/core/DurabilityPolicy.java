@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+/**
+ * How often saved data is forced from the operating system's buffers onto the storage device.
+ * Data that has not been forced may be lost if the computer loses power or crashes, even though the save
+ * appeared to succeed.
+ */
+public enum DurabilityPolicy {
+    /** Forces every save onto the storage device before the save completes. */
+    ALWAYS,
+    /**
+     * Forces the contents of every save onto the storage device, but forces the data file being replaced by them at
+     * most once per second, within a second of the save, so a power loss may lose the saves of the last second, but
+     * never corrupts the data file.
+     */
+    BATCHED,
+    /** Never forces saves, leaving it entirely to the operating system. */
+    NEVER
+}
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,7 +11,9 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * API of the Logic component
@@ -16,6 +21,11 @@ import seedu.address.model.person.Person;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     *
+     * The command can be cancelled by interrupting the calling thread. A command interrupted before it starts is not
+     * executed and fails. Once started, commands that change many persons stop early when interrupted, and report the
+     * changes made so far, which are saved as usual. Other commands run to completion.
+     *
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -33,6 +43,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     *
+     * @see seedu.address.model.Model#updateFilteredPersonList(Predicate)
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the {@code Nric}s of the persons matching {@code query}.
+     *
+     * @see seedu.address.model.Model#searchPersons(SearchQuery)
+     */
+    Set<Nric> searchPersons(SearchQuery query);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -47,4 +71,11 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler to be given an error message whenever saving the address book fails in the background,
+     * after the command that changed it has already returned.
+     * The handler may be called from a thread other than the one executing commands.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
@@ -1,8 +1,13 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,7 +20,9 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchQuery;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,12 +34,21 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_COMMAND_CANCELLED = "The command was cancelled before it ran.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /**
+     * Change count of the address book when it was last saved, or -1 if the data in storage is known to be
+     * out of date.
+     */
+    private volatile long savedChangeCount;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -40,6 +56,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedChangeCount = model.getAddressBookChangeCount();
+        storage.setSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
@@ -48,19 +66,48 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (Thread.interrupted()) {
+            throw new CommandException(MESSAGE_COMMAND_CANCELLED);
+        }
         commandResult = command.execute(model);
 
+        // A cancellation that came too late to stop the command must not stop its changes from being saved
+        Thread.interrupted();
+
+        // Commands that did not modify the address book have nothing to save
+        long changeCount = model.getAddressBookChangeCount();
+        if (changeCount == savedChangeCount) {
+            return commandResult;
+        }
+
+        // Set before the save is handed off, so that a failure reported by the writer thread is never overwritten
+        savedChangeCount = changeCount;
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedChangeCount = -1;
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Handles a save that failed after {@code Storage#saveAddressBook} returned.
+     */
+    private void handleSaveFailure(IOException e) {
+        // Storage is now out of date, so the address book is saved again after the next command
+        savedChangeCount = -1;
+        saveFailureHandler.accept(getSaveFailureMessage(e));
+    }
+
+    private static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -71,6 +118,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+    }
+
+    @Override
+    public Set<Nric> searchPersons(SearchQuery query) {
+        return model.searchPersons(query);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -85,4 +142,10 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
 }
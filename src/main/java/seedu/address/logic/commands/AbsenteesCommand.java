@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_START;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.AbsentBetweenPredicate;
+
+/**
+ * Lists all persons in the address book who were absent at least once in a range of dates.
+ * Only absences recorded with a date by the attendance command are considered.
+ */
+public class AbsenteesCommand extends Command {
+
+    public static final String COMMAND_WORD = "absentees";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons who were absent at least once "
+            + "from the start date to the end date, both inclusive.\n"
+            + "Parameters: " + PREFIX_LEAVE_START + " START_DATE [" + PREFIX_LEAVE_END + " END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_LEAVE_START + " 2025-03-01 " + PREFIX_LEAVE_END + " 2025-03-31";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons were absent from %2$s to %3$s";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an AbsenteesCommand to list the persons absent from {@code startDate} to {@code endDate}.
+     */
+    public AbsenteesCommand(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(new AbsentBetweenPredicate(startDate, endDate));
+        return new CommandResult(
+                String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(), startDate, endDate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AbsenteesCommand)) {
+            return false;
+        }
+
+        AbsenteesCommand otherCommand = (AbsenteesCommand) other;
+        return startDate.equals(otherCommand.startDate) && endDate.equals(otherCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
+    }
+}
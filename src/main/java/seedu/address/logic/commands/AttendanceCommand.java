@@ -2,79 +2,129 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_ABSENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_DATE;
 
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 
 /**
- * Marks attendance for all persons in the address book, treating the provided NRICs as absentees.
- * Increments the global working day count by one and increases the absent day count for each person
- * whose NRIC is listed as absent. NRICs that do not correspond to any person in the address book are ignored.
+ * Marks attendance for all persons in the shown person list on a given date, treating the provided NRICs as
+ * absentees. Increments the global working day count by one and increases the absent day count for each person
+ * whose NRIC is listed as absent. Marking attendance again on the same date only updates who was absent.
+ * NRICs that do not correspond to any person in the address book are reported back to the user, but do not
+ * affect anyone's attendance. NRICs of persons who are not shown are not reported, and their attendance is not marked.
+ *
+ * The absent NRICs are normalized into a set once, so that each person is looked up in constant time.
+ *
+ * The command stops early if its thread is interrupted, leaving the rest of the persons unmarked. Marking attendance
+ * on the same date again marks the rest.
  */
 public class AttendanceCommand extends Command {
 
     public static final String COMMAND_WORD = "attendance";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks attendance for everyone. "
-            + "NRIC that does not match with any person will be ignored. "
+            + "NRICs that do not match any person will be reported and otherwise ignored. "
             + "Duplicated NRICs will be regarded as just one NRIC of that particular alphanumerical sequence. "
             + "Parameters: "
             + PREFIX_ATTENDANCE_ABSENT + " LIST OF NRICs separated by at least one whitespace "
             + "(Can contain 0 or more valid NRICs) "
+            + "[" + PREFIX_ATTENDANCE_DATE + " DATE (defaults to today)]"
             + "\n "
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_ATTENDANCE_ABSENT + " T0123456A" + " T1234567B" + " T2345678C ";
+            + PREFIX_ATTENDANCE_ABSENT + " T0123456A" + " T1234567B" + " T2345678C "
+            + PREFIX_ATTENDANCE_DATE + " 2025-03-04";
 
     public static final String MESSAGE_SUCCESS = "Attendance added: %1$s";
-    private final List<String> nricList;
+    public static final String MESSAGE_UNMATCHED_NRICS = "NRICs that did not match anyone: %1$s";
+    public static final String MESSAGE_CANCELLED = "Cancelled after marking attendance for %1$d of %2$d persons. "
+            + "Enter the command again to mark the rest.";
+
+    /** Upper-cased absent NRICs, in the order they were given. */
+    private final Set<String> absentNrics;
+    private final LocalDate date;
 
     /**
-     * Creates an AttendanceCommand to mark attendance, excluding those in the given NRIC list as absent.
+     * Creates an AttendanceCommand to mark today's attendance, excluding those in the given NRIC list as absent.
      *
      * @param nricList List of NRIC strings representing absent individuals.
      */
     public AttendanceCommand(List<String> nricList) {
+        this(nricList, LocalDate.now());
+    }
+
+    /**
+     * Creates an AttendanceCommand to mark attendance on {@code date}, excluding those in the given NRIC list as
+     * absent.
+     *
+     * @param nricList List of NRIC strings representing absent individuals.
+     * @param date The date on which attendance was taken.
+     */
+    public AttendanceCommand(List<String> nricList, LocalDate date) {
         requireNonNull(nricList);
-        this.nricList = nricList;
+        requireNonNull(date);
+        this.date = date;
+        absentNrics = new LinkedHashSet<>();
+        for (String nric : nricList) {
+            absentNrics.add(nric.toUpperCase(Locale.ROOT));
+        }
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Get all persons whose NRIC is in nricList (i.e. absent people)
+        // Get all persons in the current list
         List<Person> personList = model.getFilteredPersonList();
 
-        // Increment work day count once for everyone
-        for (Person person : personList) {
-            person.incrementWorkDay();
+        // Increment work day count once for everyone, and absent day count for absent people.
+        // Nric values are stored in upper case, so they can be looked up in absentNrics directly.
+        int absentCount = 0;
+        Set<String> unmatchedNrics = new LinkedHashSet<>(absentNrics);
+        int markedCount = 0;
+        // The persons are marked in a batch, so that the person list is only updated once
+        model.beginBatch();
+        try {
+            for (Person person : personList) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return new CommandResult(String.format(MESSAGE_CANCELLED, markedCount, personList.size()));
+                }
+                boolean isAbsent = absentNrics.contains(person.getNric().getNric());
+                model.markAttendance(person, date, isAbsent);
+                if (isAbsent) {
+                    absentCount++;
+                    unmatchedNrics.remove(person.getNric().getNric());
+                }
+                markedCount++;
+            }
+        } finally {
+            model.endBatch();
         }
 
-        // Get all persons who are absent (case-insensitive comparison)
-        List<Person> absentPersons = personList.stream()
-                .filter(p -> nricList.stream().anyMatch(nric -> p.getNric().getNric().equalsIgnoreCase(nric)))
-                .toList();
+        // The NRICs left may still belong to persons who are not shown
+        unmatchedNrics.removeIf(nric -> Nric.isValidNric(nric) && model.hasPersonWithNric(new Nric(nric)));
 
-        // Mark absent people by incrementing their absent day count
-        for (Person person : absentPersons) {
-            person.incrementAbsentDay();
+        String feedback = String.format(MESSAGE_SUCCESS, absentCount + " person marked as absent.");
+        if (!unmatchedNrics.isEmpty()) {
+            feedback += "\n" + String.format(MESSAGE_UNMATCHED_NRICS, String.join(" ", unmatchedNrics));
         }
-
-        // Debug: output number of absentees
-        System.out.println("Number of absentees: " + absentPersons.size());
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, absentPersons.size() + " person marked as absent."));
+        return new CommandResult(feedback);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AttendanceCommand // instanceof handles nulls
-                && new HashSet<>(nricList).equals(new HashSet<>(((AttendanceCommand) other).nricList)));
+                && absentNrics.equals(((AttendanceCommand) other).absentNrics)
+                && date.equals(((AttendanceCommand) other).date));
     }
 
 }
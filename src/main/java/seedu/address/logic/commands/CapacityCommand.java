@@ -0,0 +1,154 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_START;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Tag;
+import seedu.address.model.person.TeamLeaveReport;
+import seedu.address.storage.TeamLeaveReportCsvWriter;
+
+/**
+ * Shows how many persons with each of the given tags are on leave on each day in a range of dates, and optionally
+ * exports the counts to a csv file.
+ */
+public class CapacityCommand extends Command {
+
+    public static final String COMMAND_WORD = "capacity";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many persons with each tag are on leave "
+            + "on each day from the start date to the end date, both inclusive, for up to "
+            + TeamLeaveReport.MAX_DAY_COUNT + " days.\n"
+            + "Parameters: " + PREFIX_TAG + " TAG [" + PREFIX_TAG + " TAG]... " + PREFIX_LEAVE_START + " START_DATE "
+            + PREFIX_LEAVE_END + " END_DATE [" + PREFIX_EXPORT + " FILE_PATH]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + " Engineering " + PREFIX_TAG + " Sales "
+            + PREFIX_LEAVE_START + " 2025-01-01 " + PREFIX_LEAVE_END + " 2025-03-31 " + PREFIX_EXPORT
+            + " data/capacity.csv";
+
+    public static final String MESSAGE_SUCCESS = "Leave capacity from %1$s to %2$s:";
+    public static final String MESSAGE_TEAM = "%1$s (%2$d persons): at most %3$d on leave, on %4$s";
+    public static final String MESSAGE_TEAM_NONE_ON_LEAVE = "%1$s (%2$d persons): nobody on leave";
+    public static final String MESSAGE_PERIOD = "  %1$s to %2$s: %3$d on leave";
+    public static final String MESSAGE_EXPORTED = "Exported the daily counts to %1$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write to the file %1$s: %2$s";
+
+    private final List<Tag> tags;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Optional<Path> exportPath;
+
+    /**
+     * Creates a CapacityCommand to report the persons with {@code tags} on leave from {@code startDate} to
+     * {@code endDate}, exporting the report to {@code exportPath} if it is present.
+     */
+    public CapacityCommand(List<Tag> tags, LocalDate startDate, LocalDate endDate, Optional<Path> exportPath) {
+        requireNonNull(tags);
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        requireNonNull(exportPath);
+        this.tags = new ArrayList<>(tags);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.exportPath = exportPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        TeamLeaveReport report = TeamLeaveReport.of(model.getAddressBook().getPersonList(), tags, startDate,
+                endDate);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, startDate, endDate));
+        for (Tag tag : report.getTags()) {
+            message.append('\n').append(summarize(report, tag));
+        }
+
+        if (exportPath.isPresent()) {
+            Path filePath = exportPath.get();
+            try {
+                TeamLeaveReportCsvWriter.write(report, filePath);
+            } catch (IOException e) {
+                throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, e.getMessage()), e);
+            }
+            message.append('\n').append(String.format(MESSAGE_EXPORTED, filePath));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Returns the busiest day of the team with {@code tag}, followed by each period of days on which the same
+     * number of persons in the team are on leave, leaving out the days on which nobody is.
+     */
+    private static String summarize(TeamLeaveReport report, Tag tag) {
+        LocalDate peakDate = report.getStartDate();
+        int peakCount = 0;
+        StringBuilder periods = new StringBuilder();
+        LocalDate periodStart = report.getStartDate();
+        int periodCount = report.getOnLeaveCount(tag, periodStart);
+
+        for (LocalDate date = report.getStartDate(); !date.isAfter(report.getEndDate()); date = date.plusDays(1)) {
+            int count = report.getOnLeaveCount(tag, date);
+            if (count > peakCount) {
+                peakCount = count;
+                peakDate = date;
+            }
+            if (count != periodCount) {
+                appendPeriod(periods, periodStart, date.minusDays(1), periodCount);
+                periodStart = date;
+                periodCount = count;
+            }
+        }
+        appendPeriod(periods, periodStart, report.getEndDate(), periodCount);
+
+        if (peakCount == 0) {
+            return String.format(MESSAGE_TEAM_NONE_ON_LEAVE, tag, report.getTeamSize(tag));
+        }
+        return String.format(MESSAGE_TEAM, tag, report.getTeamSize(tag), peakCount, peakDate) + periods;
+    }
+
+    private static void appendPeriod(StringBuilder periods, LocalDate from, LocalDate to, int count) {
+        if (count > 0) {
+            periods.append('\n').append(String.format(MESSAGE_PERIOD, from, to, count));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CapacityCommand)) {
+            return false;
+        }
+
+        CapacityCommand otherCommand = (CapacityCommand) other;
+        return tags.equals(otherCommand.tags)
+                && startDate.equals(otherCommand.startDate)
+                && endDate.equals(otherCommand.endDate)
+                && exportPath.equals(otherCommand.exportPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .add("exportPath", exportPath)
+                .toString();
+    }
+}
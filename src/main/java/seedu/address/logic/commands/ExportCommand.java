@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Writes all persons in the address book to a json file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes all employees in the address book "
+            + "to the given json file, replacing the file if it exists.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.json";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d employee(s) to %2$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write to the file %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * @param filePath of the json file to export to
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+
+        try {
+            // Backups are only kept of the data file, not of files the user exports to
+            new JsonAddressBookStorage(filePath, false, DurabilityPolicy.BATCHED, false).saveAddressBook(addressBook);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.getPersonList().size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof ExportCommand
+            && filePath.equals(((ExportCommand) other).filePath));
+    }
+}
@@ -1,35 +1,50 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NricsMatchPredicate;
+import seedu.address.model.search.SearchQuery;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose fields contain the argument keywords.
+ * Keyword matching is case insensitive. The persons are found through the index of words kept by the model, rather
+ * than by checking the fields of every person.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with any of the keywords "
+            + "(case-insensitive) in any of their fields, or in the given fields, and displays them as a list with "
+            + "index numbers. Persons must match every field given. A keyword ending with "
+            + SearchQuery.PREFIX_WILDCARD + " matches any word starting with it.\n"
+            + "Parameters: [KEYWORD]... [" + PREFIX_NAME + " KEYWORD...] [" + PREFIX_NRIC + " KEYWORD...] ["
+            + PREFIX_PHONE + " KEYWORD...] [" + PREFIX_EMAIL + " KEYWORD...] [" + PREFIX_ADDRESS + " KEYWORD...] ["
+            + PREFIX_TAG + " KEYWORD...]\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + " ali" + SearchQuery.PREFIX_WILDCARD + " "
+            + PREFIX_TAG + " engineering";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final SearchQuery query;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    public FindCommand(SearchQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(new NricsMatchPredicate(model.searchPersons(query)));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -46,13 +61,13 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return query.equals(otherFindCommand.query);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("query", query)
                 .toString();
     }
 }
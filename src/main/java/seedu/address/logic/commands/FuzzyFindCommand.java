@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.NricsMatchPredicate;
+import seedu.address.model.search.NameTrigramIndex.NameMatch;
+
+/**
+ * Finds and lists all persons in address book whose name has a word similar to any of the argument keywords, allowing
+ * for typos. The closest matches are shown in the result, as the list keeps its own order.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "fuzzyfind";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain a word "
+            + "similar to any of the specified keywords (case-insensitive), allowing 1 typo in keywords of 3 to 5 "
+            + "letters and 2 typos in longer keywords, and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alcie paulnie";
+
+    public static final String MESSAGE_CLOSEST_MATCHES = "Closest matches: %1$s";
+
+    /** Number of closest matches shown in the result. */
+    public static final int MAX_SHOWN_MATCHES = 5;
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FuzzyFindCommand to find the persons with names similar to {@code keywords}.
+     */
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<NameMatch> matches = model.searchSimilarNames(keywords);
+        model.updateFilteredPersonList(new NricsMatchPredicate(matches.stream()
+                .map(NameMatch::getNric)
+                .collect(Collectors.toList())));
+
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matches.size());
+        if (!matches.isEmpty()) {
+            message += "\n" + String.format(MESSAGE_CLOSEST_MATCHES, matches.stream()
+                    .limit(MAX_SHOWN_MATCHES)
+                    .map(NameMatch::getName)
+                    .collect(Collectors.joining(", ")));
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherCommand = (FuzzyFindCommand) other;
+        return keywords.equals(otherCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Replaces the address book with the persons in a json file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Replaces all employees in the address book "
+            + "with the employees in the given json file.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.json";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d employee(s) from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist";
+    public static final String MESSAGE_INVALID_FILE = "The file %1$s could not be imported as it is not in the "
+            + "correct format: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * @param filePath of the json file to import
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<ReadOnlyAddressBook> importedAddressBook;
+        try {
+            importedAddressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+        } catch (DataLoadingException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, cause.getMessage()), e);
+        }
+        if (!importedAddressBook.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        AddressBook addressBook = new AddressBook(importedAddressBook.get());
+        model.setAddressBook(addressBook);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.getPersonList().size(), filePath),
+                false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof ImportCommand
+            && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
@@ -94,9 +94,9 @@ public class LeaveCommand extends Command {
 
         switch (subCommand.toLowerCase()) {
         case "add":
-            return processAdd(targetPerson);
+            return processAdd(model, targetPerson);
         case "remove":
-            return processRemove(targetPerson);
+            return processRemove(model, targetPerson);
         default:
             throw new CommandException(String.format(MESSAGE_UNKNOWN_SUBCOMMAND, subCommand));
         }
@@ -134,7 +134,7 @@ public class LeaveCommand extends Command {
     /**
      * Adds a leave to the person's list of leaves.
      */
-    private CommandResult processAdd(Person person) throws CommandException {
+    private CommandResult processAdd(Model model, Person person) throws CommandException {
         if (leave.getStartDate().isBefore(person.getHire().toLocalDate())) {
             throw new CommandException(String.format(MESSAGE_LEAVE_BEFORE_HIRE,
                     leave.getStartDate(), person.getHire()));
@@ -149,14 +149,14 @@ public class LeaveCommand extends Command {
                     leave.getStartDate(), leave.getEndDate()));
         }
 
-        person.addLeave(leave);
+        model.addLeave(person, leave);
         return new CommandResult(String.format(MESSAGE_ADD_SUCCESS, leave, person.getName()), person);
     }
 
     /**
      * Removes a leave from the person's list of leaves.
      */
-    private CommandResult processRemove(Person person) throws CommandException {
+    private CommandResult processRemove(Model model, Person person) throws CommandException {
         if (!person.hasLeave(leave)) {
             throw new CommandException(String.format(MESSAGE_LEAVE_NOT_FOUND, leave.getStartDate()));
         }
@@ -166,7 +166,7 @@ public class LeaveCommand extends Command {
                 .findFirst()
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_LEAVE_NOT_FOUND, leave.getStartDate())));
 
-        person.removeLeave(actualLeave);
+        model.removeLeave(person, actualLeave);
         return new CommandResult(String.format(MESSAGE_REMOVE_SUCCESS, actualLeave, person.getName()), person);
     }
 
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_START;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.NricsMatchPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists all persons in the address book who are on leave on at least one day in a range of dates.
+ * The persons are found through the index of leaves kept by the model, rather than by checking every person.
+ */
+public class OnLeaveCommand extends Command {
+
+    public static final String COMMAND_WORD = "onleave";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons who are on leave on at least one "
+            + "day from the start date to the end date, both inclusive.\n"
+            + "Parameters: " + PREFIX_LEAVE_START + " START_DATE [" + PREFIX_LEAVE_END + " END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_LEAVE_START + " 2025-03-01 " + PREFIX_LEAVE_END + " 2025-03-07";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons are on leave from %2$s to %3$s";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an OnLeaveCommand to list the persons on leave from {@code startDate} to {@code endDate}.
+     */
+    public OnLeaveCommand(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> personsOnLeave = model.getPersonsOnLeave(startDate, endDate);
+        model.updateFilteredPersonList(new NricsMatchPredicate(personsOnLeave.stream()
+                .map(Person::getNric)
+                .collect(Collectors.toList())));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, personsOnLeave.size(), startDate, endDate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OnLeaveCommand)) {
+            return false;
+        }
+
+        OnLeaveCommand otherCommand = (OnLeaveCommand) other;
+        return startDate.equals(otherCommand.startDate) && endDate.equals(otherCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLLBACK;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Runs the commands in a script file, one on each line, as a single command.
+ *
+ * Every line is parsed before any command runs, so lines that cannot be parsed are reported without running the
+ * others first if the script is to be rolled back on failure. As the script is a single command, the changes made by
+ * all of its commands are saved once, after the last one has run, and the window is updated once. Each command sees
+ * the changes made by the commands before it, so commands can refer to persons by their index in the list shown after
+ * the commands before them.
+ *
+ * Commands that fail are reported by line number. If the script is to be rolled back on failure, the address book is
+ * restored to how it was before the script ran as soon as a command fails, or anything else stops the script, and no
+ * other command runs. The result of the script updates the person details panel as the last command that updated it
+ * did.
+ *
+ * The script stops before its next command if its thread is interrupted.
+ */
+public class ScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "script";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in the given text file, one on each "
+            + "line, and saves their changes once at the end. Blank lines and lines starting with # are skipped. "
+            + "Commands that fail are reported by line number. With " + PREFIX_ROLLBACK + ", no changes are kept "
+            + "if any command fails.\n"
+            + "Parameters: FILE_PATH [" + PREFIX_ROLLBACK + "]\n"
+            + "Example: " + COMMAND_WORD + " data/new-hires.txt " + PREFIX_ROLLBACK;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d of %2$d command(s) from %3$s.";
+    public static final String MESSAGE_CANCELLED = "Cancelled after running %1$d of %2$d command(s) from %3$s.";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made, as a command from %1$s failed.";
+    public static final String MESSAGE_ROLLED_BACK_ON_CANCEL = "Cancelled the commands from %1$s. "
+            + "No changes were made.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    private final Path filePath;
+    private final List<Line> lines;
+    private final boolean isRollbackOnFailure;
+
+    /**
+     * @param filePath of the script, which is only used in messages
+     * @param lines of the script that are not blank or comments, in order
+     * @param isRollbackOnFailure whether to make no changes if any line fails
+     */
+    public ScriptCommand(Path filePath, List<Line> lines, boolean isRollbackOnFailure) {
+        requireNonNull(filePath);
+        requireNonNull(lines);
+        this.filePath = filePath;
+        this.lines = List.copyOf(lines);
+        this.isRollbackOnFailure = isRollbackOnFailure;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Failures are kept in order of line number, whether the line could not be parsed or its command failed
+        Map<Integer, String> failures = new TreeMap<>();
+        for (Line line : lines) {
+            if (line.command == null) {
+                failures.put(line.number, line.parseError);
+            }
+        }
+        if (!isRollbackOnFailure) {
+            return runCommands(model, failures);
+        }
+        if (!failures.isEmpty()) {
+            throw new CommandException(withFailures(String.format(MESSAGE_ROLLED_BACK, filePath), failures));
+        }
+
+        AddressBook backup = copyOf(model.getAddressBook());
+        boolean isCompleted = false;
+        try {
+            CommandResult commandResult = runCommands(model, failures);
+            isCompleted = true;
+            return commandResult;
+        } finally {
+            if (!isCompleted) {
+                model.setAddressBook(backup);
+            }
+        }
+    }
+
+    /**
+     * Runs the command of each line that could be parsed, adding the lines whose commands fail to {@code failures}.
+     * If the script is to be rolled back on failure, a command failing or the thread being interrupted stops the
+     * script with a {@code CommandException}, and the address book is left for the caller to restore.
+     */
+    private CommandResult runCommands(Model model, Map<Integer, String> failures) throws CommandException {
+        int commandCount = lines.size() - failures.size();
+        int runCount = 0;
+        CommandResult detailsPanelResult = null;
+        for (Line line : lines) {
+            if (line.command == null) {
+                continue;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                if (isRollbackOnFailure) {
+                    throw new CommandException(String.format(MESSAGE_ROLLED_BACK_ON_CANCEL, filePath));
+                }
+                return createResult(withFailures(String.format(MESSAGE_CANCELLED, runCount, commandCount, filePath),
+                        failures), detailsPanelResult);
+            }
+
+            try {
+                CommandResult commandResult = line.command.execute(model);
+                runCount++;
+                if (commandResult.getPersonToView() != null || commandResult.isClearDetailsPanel()) {
+                    detailsPanelResult = commandResult;
+                }
+            } catch (CommandException e) {
+                failures.put(line.number, e.getMessage());
+                if (isRollbackOnFailure) {
+                    throw new CommandException(withFailures(String.format(MESSAGE_ROLLED_BACK, filePath), failures));
+                }
+            }
+        }
+
+        return createResult(withFailures(String.format(MESSAGE_SUCCESS, runCount, commandCount, filePath),
+                failures), detailsPanelResult);
+    }
+
+    /**
+     * Returns a copy of {@code addressBook}, including copies of its persons, as commands change some of them in place.
+     */
+    private static AddressBook copyOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).copy();
+        }
+        return new AddressBook(addressBook).copy();
+    }
+
+    /**
+     * Returns a result with {@code feedback}, which updates the person details panel in the same way as
+     * {@code detailsPanelResult}, the result of the last command that updated it, if any. Scripts cannot run the
+     * commands that show help or exit, so no other part of a result is passed on.
+     */
+    private static CommandResult createResult(String feedback, CommandResult detailsPanelResult) {
+        if (detailsPanelResult == null) {
+            return new CommandResult(feedback);
+        }
+        if (detailsPanelResult.getPersonToView() == null) {
+            return new CommandResult(feedback, false, false, detailsPanelResult.isClearDetailsPanel());
+        }
+        return new CommandResult(feedback, detailsPanelResult.getPersonToView(),
+                detailsPanelResult.isClearDetailsPanel());
+    }
+
+    private static String withFailures(String message, Map<Integer, String> failures) {
+        StringBuilder builder = new StringBuilder(message);
+        failures.forEach((number, failure) ->
+                builder.append("\n").append(String.format(MESSAGE_LINE_FAILED, number, failure)));
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScriptCommand)) {
+            return false;
+        }
+
+        ScriptCommand otherScriptCommand = (ScriptCommand) other;
+        return filePath.equals(otherScriptCommand.filePath)
+                && lines.equals(otherScriptCommand.lines)
+                && isRollbackOnFailure == otherScriptCommand.isRollbackOnFailure;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("lines", lines)
+                .add("isRollbackOnFailure", isRollbackOnFailure)
+                .toString();
+    }
+
+    /**
+     * A line of a script, with the command parsed from it, or the reason it could not be parsed.
+     */
+    public static class Line {
+        private final int number;
+        private final Command command;
+        private final String parseError;
+
+        private Line(int number, Command command, String parseError) {
+            this.number = number;
+            this.command = command;
+            this.parseError = parseError;
+        }
+
+        /**
+         * Returns line {@code number}, from which {@code command} was parsed.
+         */
+        public static Line parsed(int number, Command command) {
+            requireNonNull(command);
+            return new Line(number, command, null);
+        }
+
+        /**
+         * Returns line {@code number}, which could not be parsed for the reason given by {@code parseError}.
+         */
+        public static Line unparsable(int number, String parseError) {
+            requireNonNull(parseError);
+            return new Line(number, null, parseError);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Line)) {
+                return false;
+            }
+
+            Line otherLine = (Line) other;
+            return number == otherLine.number
+                    && Objects.equals(command, otherLine.command)
+                    && Objects.equals(parseError, otherLine.parseError);
+        }
+
+        @Override
+        public int hashCode() {
+            // commands do not override hashCode, so equal commands may have different hash codes
+            return Objects.hash(number, parseError);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("number", number)
+                    .add("command", command)
+                    .add("parseError", parseError)
+                    .toString();
+        }
+    }
+}
@@ -1,51 +1,48 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.Arrays;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.comparators.AddressComparator;
-import seedu.address.model.person.comparators.EmailComparator;
-import seedu.address.model.person.comparators.HireComparator;
-import seedu.address.model.person.comparators.NameComparator;
-import seedu.address.model.person.comparators.NricComparator;
-import seedu.address.model.person.comparators.PhoneComparator;
+import seedu.address.model.person.comparators.PersonSortOrder;
+import seedu.address.model.person.comparators.PersonSortOrder.SortCriterion;
+import seedu.address.model.person.comparators.SortAttribute;
 
 /**
- * Sorts all persons in the address book by a specified attribute in either ascending or descending order.
+ * Sorts the list of persons by one or more attributes, each in either ascending or descending order. Only the
+ * displayed list is sorted: the order of the persons in the address book and in its data file is left as it is.
  */
 public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-        + ": Sorts all persons by the specified attribute in the given direction.\n"
-        + "Parameters: [ATTRIBUTE] [DIRECTION]\n"
-        + "ATTRIBUTE must be one of: name, nric, phone, address, email, hire\n"
+        + ": Sorts all persons by the specified attributes in the given directions. Persons with the same first "
+        + "attribute are sorted by the next attribute, and so on.\n"
+        + "Parameters: ATTRIBUTE DIRECTION [ATTRIBUTE DIRECTION]...\n"
+        + "ATTRIBUTE must be one of: name, nric, phone, address, email, hire, tag\n"
         + "DIRECTION must be one of: asc (ascending), desc (descending)\n"
-        + "Example: " + COMMAND_WORD + " name asc";
+        + "Example: " + COMMAND_WORD + " name asc\n"
+        + "Example: " + COMMAND_WORD + " tag asc hire desc name asc";
 
     public static final String MESSAGE_INVALID_ATTRIBUTE = "Invalid attribute specified.\n";
 
     public static final String MESSAGE_INVALID_DIRECTION = "Invalid direction specified.\n";
 
-    public static final String MESSAGE_SUCCESS = "Sorted all persons by %1$s in %2$s order.";
+    public static final String MESSAGE_SUCCESS = "Sorted all persons by %1$s.";
 
-    private static final Set<String> VALID_ATTRIBUTES = new HashSet<>(Arrays.asList("name", "nric", "phone", "address",
-        "email", "hire"));
-    private static final Set<String> VALID_DIRECTIONS = new HashSet<>(Arrays.asList("asc", "desc"));
+    private static final String DIRECTION_ASCENDING = "asc";
+    private static final String DIRECTION_DESCENDING = "desc";
 
-    private final String attribute;
-    private final String direction;
+    private final List<String> attributes;
+    private final List<String> directions;
 
     /**
      * Creates a SortCommand to sort persons by the specified attribute and direction.
@@ -55,56 +52,44 @@ public class SortCommand extends Command {
      * @throws NullPointerException if either attribute or direction is null
      */
     public SortCommand(String attribute, String direction) {
-        requireNonNull(attribute);
-        requireNonNull(direction);
-        this.attribute = attribute;
-        this.direction = direction;
+        this(List.of(attribute), List.of(direction));
+    }
+
+    /**
+     * Creates a SortCommand to sort persons by each of {@code attributes} in turn, in the direction at the same
+     * position of {@code directions}.
+     *
+     * @throws NullPointerException if any attribute or direction is null
+     * @throws IllegalArgumentException if there are no attributes, or not one direction for each of them
+     */
+    public SortCommand(List<String> attributes, List<String> directions) {
+        this.attributes = List.copyOf(attributes);
+        this.directions = List.copyOf(directions);
+        checkArgument(!attributes.isEmpty() && attributes.size() == directions.size(),
+                "There must be one direction for each attribute.");
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> originalPersons = model.getAddressBook().getPersonList();
-
-        ArrayList<Person> sortedPersons = new ArrayList<>(originalPersons);
 
-        if (!VALID_ATTRIBUTES.contains(attribute)) {
-            throw new CommandException(MESSAGE_INVALID_ATTRIBUTE + MESSAGE_USAGE);
-        } else if (!VALID_DIRECTIONS.contains(direction)) {
-            throw new CommandException(MESSAGE_INVALID_DIRECTION + MESSAGE_USAGE);
+        List<SortCriterion> criteria = new ArrayList<>();
+        for (int i = 0; i < attributes.size(); i++) {
+            Optional<SortAttribute> attribute = SortAttribute.fromKeyword(attributes.get(i));
+            if (attribute.isEmpty()) {
+                throw new CommandException(MESSAGE_INVALID_ATTRIBUTE + MESSAGE_USAGE);
+            }
+            String direction = directions.get(i);
+            if (!direction.equals(DIRECTION_ASCENDING) && !direction.equals(DIRECTION_DESCENDING)) {
+                throw new CommandException(MESSAGE_INVALID_DIRECTION + MESSAGE_USAGE);
+            }
+            criteria.add(new SortCriterion(attribute.get(), direction.equals(DIRECTION_ASCENDING)));
         }
 
-        switch (attribute) {
-        case "name":
-            sortedPersons.sort(direction.equals("desc") ? new NameComparator().reversed() : new NameComparator());
-            break;
-        case "nric":
-            sortedPersons.sort(direction.equals("desc") ? new NricComparator().reversed() : new NricComparator());
-            break;
-        case "phone":
-            sortedPersons.sort(direction.equals("desc") ? new PhoneComparator().reversed() : new PhoneComparator());
-            break;
-        case "address":
-            sortedPersons.sort(direction.equals("desc") ? new AddressComparator().reversed() : new AddressComparator());
-            break;
-        case "email":
-            sortedPersons.sort(direction.equals("desc") ? new EmailComparator().reversed() : new EmailComparator());
-            break;
-        case "hire":
-            sortedPersons.sort(direction.equals("desc") ? new HireComparator().reversed() : new HireComparator());
-            break;
-        default:
-            throw new CommandException(MESSAGE_INVALID_ATTRIBUTE + MESSAGE_USAGE);
-        }
-
-        AddressBook newAddressBook = new AddressBook();
-        newAddressBook.setPersons(sortedPersons);
-        model.setAddressBook(newAddressBook);
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, attribute,
-                direction.equals("desc") ? "descending" : "ascending"));
+        PersonSortOrder sortOrder = new PersonSortOrder(criteria);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.sortFilteredPersonList(sortOrder);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder.getDescription()));
     }
 
     @Override
@@ -118,6 +103,14 @@ public class SortCommand extends Command {
         }
 
         SortCommand otherCommand = (SortCommand) other;
-        return attribute.equals(otherCommand.attribute) && direction.equals(otherCommand.direction);
+        return attributes.equals(otherCommand.attributes) && directions.equals(otherCommand.directions);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("attributes", attributes)
+                .add("directions", directions)
+                .toString();
     }
 }
@@ -3,7 +3,9 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_ABSENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_DATE;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -24,15 +26,20 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
      */
     public AttendanceCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ATTENDANCE_ABSENT);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ATTENDANCE_ABSENT,
+                PREFIX_ATTENDANCE_DATE);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_ATTENDANCE_ABSENT)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE));
         }
 
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ATTENDANCE_DATE);
         List<String> nricList = ParserUtil.parseAttendance(argMultimap.getValue(PREFIX_ATTENDANCE_ABSENT).get());
-        return new AttendanceCommand(nricList);
+        LocalDate date = argMultimap.getValue(PREFIX_ATTENDANCE_DATE).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_ATTENDANCE_DATE).get())
+                : LocalDate.now();
+        return new AttendanceCommand(nricList, date);
     }
 
     /**
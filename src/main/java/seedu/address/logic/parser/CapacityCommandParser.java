@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_START;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.CapacityCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Tag;
+import seedu.address.model.person.TeamLeaveReport;
+
+/**
+ * Parses input arguments and creates a new CapacityCommand object
+ */
+public class CapacityCommandParser implements Parser<CapacityCommand> {
+
+    public static final String MESSAGE_RANGE_TOO_LONG = "A capacity report can cover at most "
+            + TeamLeaveReport.MAX_DAY_COUNT + " days.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CapacityCommand
+     * and returns a CapacityCommand object for execution.
+     * Tags are kept in the order they are given, and repeated tags are ignored.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CapacityCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_LEAVE_START,
+                PREFIX_LEAVE_END, PREFIX_EXPORT);
+
+        if (!argMultimap.getValue(PREFIX_TAG).isPresent() || !argMultimap.getValue(PREFIX_LEAVE_START).isPresent()
+                || !argMultimap.getValue(PREFIX_LEAVE_END).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CapacityCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LEAVE_START, PREFIX_LEAVE_END, PREFIX_EXPORT);
+
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (String tag : argMultimap.getAllValues(PREFIX_TAG)) {
+            tags.add(ParserUtil.parseTag(tag));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_LEAVE_START).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_LEAVE_END).get());
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_ORDER);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= TeamLeaveReport.MAX_DAY_COUNT) {
+            throw new ParseException(MESSAGE_RANGE_TOO_LONG);
+        }
+
+        Optional<Path> exportPath = argMultimap.getValue(PREFIX_EXPORT).isPresent()
+                ? Optional.of(ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_EXPORT).get()))
+                : Optional.empty();
+
+        return new CapacityCommand(new ArrayList<>(tags), startDate, endDate, exportPath);
+    }
+}
@@ -12,10 +12,16 @@ public class CliSyntax {
     public static final Prefix PREFIX_EMAIL = new Prefix("/email");
     public static final Prefix PREFIX_ADDRESS = new Prefix("/address");
     public static final Prefix PREFIX_HIRE = new Prefix("/hire");
+    public static final Prefix PREFIX_TAG = new Prefix("/tag");
     /* For Leave Command */
     public static final Prefix PREFIX_LEAVE_START = new Prefix("/start");
     public static final Prefix PREFIX_LEAVE_END = new Prefix("/end");
     public static final Prefix PREFIX_REASON = new Prefix("/reason");
     /* For Attendance Command */
     public static final Prefix PREFIX_ATTENDANCE_ABSENT = new Prefix("/absent");
+    public static final Prefix PREFIX_ATTENDANCE_DATE = new Prefix("/date");
+    /* For Capacity Command */
+    public static final Prefix PREFIX_EXPORT = new Prefix("/export");
+    /* For Script Command */
+    public static final Prefix PREFIX_ROLLBACK = new Prefix("/rollback");
 }
@@ -1,33 +1,77 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Map<SearchField, Prefix> FIELD_PREFIXES = new EnumMap<>(Map.of(
+            SearchField.NAME, PREFIX_NAME,
+            SearchField.NRIC, PREFIX_NRIC,
+            SearchField.PHONE, PREFIX_PHONE,
+            SearchField.EMAIL, PREFIX_EMAIL,
+            SearchField.ADDRESS, PREFIX_ADDRESS,
+            SearchField.TAG, PREFIX_TAG));
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Keywords before the first prefix may be in any field, and keywords after a prefix must be in its field.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        return new FindCommand(parseQuery(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments of a FindCommand into the query it searches for.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchQuery parseQuery(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                FIELD_PREFIXES.values().toArray(new Prefix[0]));
+
+        List<String> keywords = splitKeywords(argMultimap.getPreamble());
+        Map<SearchField, List<String>> fieldKeywords = new EnumMap<>(SearchField.class);
+        for (Map.Entry<SearchField, Prefix> entry : FIELD_PREFIXES.entrySet()) {
+            List<String> values = new ArrayList<>();
+            for (String value : argMultimap.getAllValues(entry.getValue())) {
+                values.addAll(splitKeywords(value));
+            }
+            fieldKeywords.put(entry.getKey(), values);
+        }
+
+        SearchQuery query = new SearchQuery(keywords, fieldKeywords);
+        if (query.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        return query;
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private static List<String> splitKeywords(String value) {
+        String trimmedValue = value.trim();
+        return trimmedValue.isEmpty() ? new ArrayList<>() : Arrays.asList(trimmedValue.split("\\s+"));
     }
 
 }
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_START;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.OnLeaveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new OnLeaveCommand object
+ */
+public class OnLeaveCommandParser implements Parser<OnLeaveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OnLeaveCommand
+     * and returns an OnLeaveCommand object for execution.
+     * The end date defaults to the start date if it is not given.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OnLeaveCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LEAVE_START, PREFIX_LEAVE_END);
+
+        if (!argMultimap.getValue(PREFIX_LEAVE_START).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OnLeaveCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LEAVE_START, PREFIX_LEAVE_END);
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_LEAVE_START).get());
+        LocalDate endDate = argMultimap.getValue(PREFIX_LEAVE_END).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_LEAVE_END).get())
+                : startDate;
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_ORDER);
+        }
+
+        return new OnLeaveCommand(startDate, endDate);
+    }
+}
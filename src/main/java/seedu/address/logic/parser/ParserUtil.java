@@ -2,6 +2,9 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
@@ -30,6 +33,8 @@ import seedu.address.model.person.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not a valid path.";
+    public static final String MESSAGE_INVALID_DATE = "Invalid date: %1$s.\n%2$s";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -217,7 +222,25 @@ public class ParserUtil {
         return new Leave(leaveStart, leaveEnd, reason);
     }
 
-    // Helper method for parseLeave to check if a date is within the valid range
+    /**
+     * Parses a {@code String date} in YYYY-MM-DD format into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is not a valid date.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        try {
+            LocalDate parsedDate = LocalDate.parse(trimmedDate, Leave.DATE_FORMATER);
+            validateYear(parsedDate, "Date: ");
+            return parsedDate;
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DATE, trimmedDate, Leave.DATE_CONSTRAINTS));
+        }
+    }
+
+    // Helper method for parseLeave and parseDate to check if a date is within the valid range
     private static void validateYear(LocalDate date, String fieldName) throws ParseException {
         int year = date.getYear();
         if (year < Leave.MIN_YEAR || year > Leave.MAX_YEAR) {
@@ -253,4 +276,23 @@ public class ParserUtil {
 
         return nricList;
     }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+    }
 }
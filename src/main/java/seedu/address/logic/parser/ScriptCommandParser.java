@@ -0,0 +1,99 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLLBACK;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ScriptCommand;
+import seedu.address.logic.commands.ScriptCommand.Line;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ScriptCommand object.
+ * The script file is read, and each of its lines is parsed, when the command is parsed.
+ */
+public class ScriptCommandParser implements Parser<ScriptCommand> {
+
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist";
+    public static final String MESSAGE_CANNOT_READ_FILE = "The file %1$s could not be read: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts";
+    public static final String MESSAGE_WINDOW_COMMAND = "Scripts cannot run the %1$s command, as it only affects "
+            + "the window";
+
+    private static final String COMMENT_START = "#";
+    /** Words of the commands that only affect the window, which would have no effect when run by a script. */
+    private static final Set<String> WINDOW_COMMAND_WORDS = Set.of(ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScriptCommand
+     * and returns a ScriptCommand object for execution.
+     * Lines of the script that cannot be parsed are kept in the command, to be reported when it is executed.
+     * @throws ParseException if the user input does not conform the expected format, or the script cannot be read
+     */
+    public ScriptCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ROLLBACK);
+
+        if (argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(PREFIX_ROLLBACK).filter(value -> !value.isEmpty()).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScriptCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ROLLBACK);
+
+        Path filePath = ParserUtil.parseFilePath(argMultimap.getPreamble());
+        boolean isRollbackOnFailure = argMultimap.getValue(PREFIX_ROLLBACK).isPresent();
+        return new ScriptCommand(filePath, parseLines(readLines(filePath)), isRollbackOnFailure);
+    }
+
+    /**
+     * Parses each line of a script that is not blank or a comment, numbering the lines from 1.
+     */
+    static List<Line> parseLines(List<String> lines) {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        List<Line> parsedLines = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String text = lines.get(i).trim();
+            int number = i + 1;
+            if (text.isEmpty() || text.startsWith(COMMENT_START)) {
+                continue;
+            }
+            String commandWord = text.split("\\s+", 2)[0];
+            if (commandWord.equals(ScriptCommand.COMMAND_WORD)) {
+                parsedLines.add(Line.unparsable(number, MESSAGE_NESTED_SCRIPT));
+                continue;
+            }
+            if (WINDOW_COMMAND_WORDS.contains(commandWord)) {
+                parsedLines.add(Line.unparsable(number, String.format(MESSAGE_WINDOW_COMMAND, commandWord)));
+                continue;
+            }
+
+            try {
+                parsedLines.add(Line.parsed(number, addressBookParser.parseCommand(text)));
+            } catch (ParseException e) {
+                parsedLines.add(Line.unparsable(number, e.getMessage()));
+            }
+        }
+        return parsedLines;
+    }
+
+    private static List<String> readLines(Path filePath) throws ParseException {
+        if (!FileUtil.isFileExists(filePath)) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+        try {
+            return FileUtil.readFromFile(filePath).lines().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()), e);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -12,7 +15,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class SortCommandParser implements Parser<SortCommand> {
 
     /**
-     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * Parses the given {@code String} of arguments in the context of the SortCommand, as pairs of an attribute
+     * and a direction
      * @throws ParseException if the user input does not conform to the expected format
      */
     public SortCommand parse(String args) throws ParseException {
@@ -23,14 +27,17 @@ public class SortCommandParser implements Parser<SortCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        String[] parameters = trimmedArgs.replaceAll("\\s+", " ").split(" ", 2);
-
-        if (parameters.length != 2 || parameters[1].trim().isEmpty()) {
+        String[] parameters = trimmedArgs.split("\\s+");
+        if (parameters.length % 2 != 0) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        } else {
-            String attribute = parameters[0].toLowerCase();
-            String direction = parameters[1].toLowerCase();
-            return new SortCommand(attribute, direction);
         }
+
+        List<String> attributes = new ArrayList<>();
+        List<String> directions = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i += 2) {
+            attributes.add(parameters[i].toLowerCase());
+            directions.add(parameters[i + 1].toLowerCase());
+        }
+        return new SortCommand(attributes, directions);
     }
 }
@@ -2,12 +2,32 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.LazyPersonSource;
+import seedu.address.model.person.LeaveIndex;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrderIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.comparators.PersonSortOrder;
+import seedu.address.model.person.comparators.PersonSortOrder.SortCriterion;
+import seedu.address.model.person.comparators.SortAttribute;
+import seedu.address.model.search.NameTrigramIndex;
+import seedu.address.model.search.NameTrigramIndex.NameMatch;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * Wraps all data at the address-book level
@@ -17,6 +37,36 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    /** Number of changes made to this address book since it was created. */
+    private long changeCount;
+
+    /**
+     * NRICs of the persons added, changed or removed since the changes were last cleared, in the order they were
+     * first changed, or null if the whole person list was replaced since then.
+     */
+    private Set<Nric> changedNrics;
+
+    /**
+     * Whether a person may have moved since the changes were last cleared, other than by being added at the end of
+     * the list or by a person before it being removed.
+     */
+    private boolean hasMovedPersons;
+
+    /**
+     * Index of the leaves of all persons, which is only built once it is needed, and is then kept up to date by
+     * every operation that changes the persons or their leaves.
+     */
+    private LeaveIndex leaveIndex;
+
+    /** Index of the words in the fields of all persons, which is built and kept up to date like {@code leaveIndex}. */
+    private PersonSearchIndex searchIndex;
+
+    /** Index of the names of all persons by their trigrams, which is built and kept up to date in the same way. */
+    private NameTrigramIndex nameIndex;
+
+    /** Indexes of all persons in order of each attribute they are sorted by, built and kept up to date likewise. */
+    private final Map<SortAttribute, PersonOrderIndex> orderIndexes = new EnumMap<>(SortAttribute.class);
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -46,17 +96,64 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        leaveIndex = null;
+        searchIndex = null;
+        nameIndex = null;
+        orderIndexes.clear();
+        changedNrics = null;
+        changeCount++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is itself an {@code AddressBook}, its persons are already known to be unique
+     * and are copied over without being re-validated.
+     * If {@code newData} is a {@code LazyPersonSource}, its persons are only materialized when they are accessed.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+            leaveIndex = null;
+            searchIndex = null;
+            nameIndex = null;
+            orderIndexes.clear();
+            changedNrics = null;
+            changeCount++;
+            return;
+        }
+        if (newData instanceof LazyPersonSource) {
+            persons.setPersons((LazyPersonSource) newData);
+            leaveIndex = null;
+            searchIndex = null;
+            nameIndex = null;
+            orderIndexes.clear();
+            changedNrics = null;
+            changeCount++;
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    //// batch operations
+
+    /**
+     * Begins a batch of changes to the persons. The changes made until the matching {@link #endBatch()} are
+     * reported to observers of the person list as a single change, instead of one change each. Batches can be nested,
+     * in which case the changes are reported when the outermost batch ends.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends the batch of changes begun by the matching call to {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        persons.endBatch();
+    }
+
     //// person-level operations
 
     /**
@@ -67,12 +164,46 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns true if a person with the given {@code nric} exists in the address book.
+     */
+    public boolean hasPersonWithNric(Nric nric) {
+        requireNonNull(nric);
+        return persons.containsNric(nric);
+    }
+
+    /**
+     * Returns the person with the given {@code nric}, or null if there is no such person in the address book.
+     */
+    public Person getPersonWithNric(Nric nric) {
+        requireNonNull(nric);
+        return persons.get(nric);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        if (leaveIndex != null) {
+            leaveIndex.addAll(p);
+        }
+        if (searchIndex != null) {
+            searchIndex.add(p);
+        }
+        if (nameIndex != null) {
+            nameIndex.add(p);
+        }
+        for (PersonOrderIndex orderIndex : orderIndexes.values()) {
+            orderIndex.add(p);
+        }
+        if (changedNrics != null && changedNrics.contains(p.getNric())) {
+            // A person removed earlier is now at the end instead
+            hasMovedPersons = true;
+        }
+        recordChange(p.getNric());
+        changeCount++;
     }
 
     /**
@@ -84,6 +215,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (leaveIndex != null) {
+            leaveIndex.removeAll(target);
+            leaveIndex.addAll(editedPerson);
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(target);
+            searchIndex.add(editedPerson);
+        }
+        if (nameIndex != null) {
+            nameIndex.remove(target);
+            nameIndex.add(editedPerson);
+        }
+        for (PersonOrderIndex orderIndex : orderIndexes.values()) {
+            orderIndex.remove(target);
+            orderIndex.add(editedPerson);
+        }
+        if (!target.getNric().equals(editedPerson.getNric())) {
+            // A different NRIC now takes the place of the target
+            hasMovedPersons = true;
+        }
+        recordChange(target.getNric());
+        recordChange(editedPerson.getNric());
+        changeCount++;
     }
 
     /**
@@ -92,10 +246,201 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        if (leaveIndex != null) {
+            leaveIndex.removeAll(key);
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(key);
+        }
+        if (nameIndex != null) {
+            nameIndex.remove(key);
+        }
+        for (PersonOrderIndex orderIndex : orderIndexes.values()) {
+            orderIndex.remove(key);
+        }
+        recordChange(key.getNric());
+        changeCount++;
+    }
+
+    /**
+     * Adds {@code leave} to the leaves of {@code target}.
+     * {@code target} must exist in the address book.
+     */
+    public void addLeave(Person target, Leave leave) {
+        requireNonNull(leave);
+
+        target.addLeave(leave);
+        if (leaveIndex != null) {
+            leaveIndex.add(target.getNric(), leave);
+        }
+        persons.markChanged(target);
+        recordChange(target.getNric());
+        changeCount++;
+    }
+
+    /**
+     * Removes {@code leave} from the leaves of {@code target}.
+     * {@code target} must exist in the address book.
+     */
+    public void removeLeave(Person target, Leave leave) {
+        requireNonNull(leave);
+
+        if (leaveIndex != null) {
+            int index = target.getLeaves().indexOf(leave);
+            if (index != -1) {
+                leaveIndex.remove(target.getNric(), target.getLeaves().get(index));
+            }
+        }
+        target.removeLeave(leave);
+        persons.markChanged(target);
+        recordChange(target.getNric());
+        changeCount++;
+    }
+
+    /**
+     * Records that the attendance of {@code target} was taken on {@code date}, counting it as an absence if
+     * {@code isAbsent}. {@code target} must exist in the address book.
+     */
+    public void markAttendance(Person target, LocalDate date, boolean isAbsent) {
+        requireNonNull(date);
+
+        target.markAttendance(date, isAbsent);
+        persons.markChanged(target);
+        recordChange(target.getNric());
+        changeCount++;
+    }
+
+    /**
+     * Returns the persons with leaves overlapping the dates from {@code startDate} to {@code endDate}, both
+     * inclusive, in order of the start date of their earliest such leave.
+     * Once the leaves are indexed, this takes time proportional to the number of overlapping leaves, up to a
+     * logarithmic factor.
+     */
+    public List<Person> getPersonsOnLeave(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        if (leaveIndex == null) {
+            leaveIndex = new LeaveIndex(persons);
+        }
+
+        List<Person> personsOnLeave = new ArrayList<>();
+        for (Nric nric : leaveIndex.findOverlapping(startDate, endDate)) {
+            personsOnLeave.add(persons.get(nric));
+        }
+        return personsOnLeave;
+    }
+
+    /**
+     * Returns the {@code Nric}s of the persons matching {@code query}.
+     * Once the persons are indexed, this takes time proportional to the number of persons with the words searched
+     * for, rather than to the number of persons in the address book.
+     */
+    public Set<Nric> searchPersons(SearchQuery query) {
+        requireNonNull(query);
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex(persons);
+        }
+        return searchIndex.search(query);
+    }
+
+    /**
+     * Returns the persons with a word in their name similar to any of {@code keywords}, closest first.
+     * See {@link NameTrigramIndex#search(List)} for the words that are similar.
+     */
+    public List<NameMatch> searchSimilarNames(List<String> keywords) {
+        requireNonNull(keywords);
+        if (nameIndex == null) {
+            nameIndex = new NameTrigramIndex(persons);
+        }
+        return nameIndex.search(keywords);
+    }
+
+    /**
+     * Returns all persons sorted by {@code sortOrder}.
+     * Once the persons are indexed by the first attribute of {@code sortOrder}, this takes linear time, apart from
+     * sorting the persons that are equal in that attribute by the rest of {@code sortOrder}.
+     */
+    public List<Person> getPersonsInOrder(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        SortCriterion firstCriterion = sortOrder.getCriteria().get(0);
+        PersonOrderIndex orderIndex = orderIndexes.computeIfAbsent(firstCriterion.getAttribute(), attribute ->
+                new PersonOrderIndex(attribute, persons));
+        return orderIndex.getPersons(firstCriterion.isAscending(), sortOrder, persons::get);
+    }
+
+    /**
+     * Returns the number of changes made to this address book since it was created.
+     * Every operation that modifies the address book, including changes to the leaves and attendance
+     * of its persons, increases this count.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Returns the NRICs of the persons added, changed or removed since {@link #clearChanges()} was last called, in
+     * the order they were first changed. Returns an empty {@code Optional} if the whole person list was replaced
+     * since then, or changes were never cleared, in which case any person may have changed or been reordered.
+     */
+    public Optional<Set<Nric>> getChangedNrics() {
+        return Optional.ofNullable(changedNrics).map(Collections::unmodifiableSet);
+    }
+
+    /**
+     * Returns true if, since {@link #clearChanges()} was last called, a person may have moved to a different position
+     * among the persons with other NRICs, other than by being added at the end of the list, or by the persons before
+     * it being added or removed. Only meaningful if {@link #getChangedNrics()} is present.
+     */
+    public boolean hasMovedPersons() {
+        return hasMovedPersons;
+    }
+
+    /**
+     * Starts recording the persons changed from now on afresh.
+     */
+    public void clearChanges() {
+        changedNrics = new LinkedHashSet<>();
+        hasMovedPersons = false;
+    }
+
+    /**
+     * Records the changes recorded by {@code earlier}, which were made before the changes recorded by this address
+     * book, as changes to this address book as well.
+     */
+    public void includeChanges(AddressBook earlier) {
+        requireNonNull(earlier);
+        if (earlier.changedNrics == null || changedNrics == null) {
+            changedNrics = null;
+            return;
+        }
+        // A person removed earlier could have been added again at the end since
+        hasMovedPersons = hasMovedPersons || earlier.hasMovedPersons
+                || !Collections.disjoint(earlier.changedNrics, changedNrics);
+        Set<Nric> includedNrics = new LinkedHashSet<>(earlier.changedNrics);
+        includedNrics.addAll(changedNrics);
+        changedNrics = includedNrics;
+    }
+
+    private void recordChange(Nric nric) {
+        if (changedNrics != null) {
+            changedNrics.add(nric);
+        }
     }
 
     //// util methods
 
+    /**
+     * Returns a copy of this address book that does not share any changeable state with it, so that later changes
+     * to either address book are not seen by the other. The copy starts with the same recorded changes.
+     */
+    public AddressBook copy() {
+        AddressBook copy = new AddressBook();
+        copy.persons.setPersons(persons.copy());
+        copy.changedNrics = changedNrics == null ? null : new LinkedHashSet<>(changedNrics);
+        copy.hasMovedPersons = hasMovedPersons;
+        return copy;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.NameTrigramIndex.NameMatch;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * The API of the Model component.
@@ -57,6 +65,11 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns true if a person with the given {@code nric} exists in the address book.
+     */
+    boolean hasPersonWithNric(Nric nric);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -76,6 +89,60 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Adds {@code leave} to the leaves of the given person {@code target}.
+     * {@code target} must exist in the address book.
+     */
+    void addLeave(Person target, Leave leave);
+
+    /**
+     * Removes {@code leave} from the leaves of the given person {@code target}.
+     * {@code target} must exist in the address book.
+     */
+    void removeLeave(Person target, Leave leave);
+
+    /**
+     * Records that the attendance of the given person {@code target} was taken on {@code date}, counting it as an
+     * absence if {@code isAbsent}.
+     * {@code target} must exist in the address book.
+     */
+    void markAttendance(Person target, LocalDate date, boolean isAbsent);
+
+    /**
+     * Begins a batch of changes to the address book. The changes made until the matching {@link #endBatch()} are
+     * reported to observers of the person lists as a single change, instead of one change each, so that changes to
+     * many persons do not update the UI once for every person. Batches can be nested.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch of changes begun by the matching call to {@link #beginBatch()}.
+     */
+    void endBatch();
+
+    /**
+     * Returns the persons in the address book who are on leave on at least one day from {@code startDate} to
+     * {@code endDate}, both inclusive.
+     */
+    List<Person> getPersonsOnLeave(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the {@code Nric}s of the persons in the address book who match {@code query}.
+     */
+    Set<Nric> searchPersons(SearchQuery query);
+
+    /**
+     * Returns the persons in the address book with a word in their name similar to any of {@code keywords},
+     * closest first.
+     */
+    List<NameMatch> searchSimilarNames(List<String> keywords);
+
+    /**
+     * Returns a count that increases whenever the address book is modified.
+     * Two equal counts taken at different times mean that the address book was not modified in between.
+     */
+    long getAddressBookChangeCount();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -84,4 +151,10 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Sorts the filtered person list by the given {@code comparator}, without changing the order of the persons in
+     * the address book. If {@code comparator} is null, the list is in the order of the address book.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
 }
@@ -4,14 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.comparators.PersonSortOrder;
+import seedu.address.model.search.NameTrigramIndex.NameMatch;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,7 +35,13 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    /** All persons in the address book in {@code sortOrder}, or none if they are listed in address book order. */
+    private final ObservableList<Person> sortedPersons = FXCollections.observableArrayList();
+    /** All persons in the address book, in the order they are listed in. */
+    private final PersonsInOrder personsInOrder;
     private final FilteredList<Person> filteredPersons;
+    /** The order the persons are listed in, or null if they are listed in the order of the address book. */
+    private Comparator<Person> sortOrder;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +53,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        personsInOrder = new PersonsInOrder(this.addressBook.getPersonList());
+        this.addressBook.getPersonList().addListener(this::handlePersonsChanged);
+        filteredPersons = new FilteredList<>(personsInOrder);
     }
 
     public ModelManager() {
@@ -93,6 +115,12 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public boolean hasPersonWithNric(Nric nric) {
+        requireNonNull(nric);
+        return addressBook.hasPersonWithNric(nric);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -111,11 +139,68 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void addLeave(Person target, Leave leave) {
+        requireAllNonNull(target, leave);
+
+        addressBook.addLeave(target, leave);
+    }
+
+    @Override
+    public void removeLeave(Person target, Leave leave) {
+        requireAllNonNull(target, leave);
+
+        addressBook.removeLeave(target, leave);
+    }
+
+    @Override
+    public void markAttendance(Person target, LocalDate date, boolean isAbsent) {
+        requireAllNonNull(target, date);
+
+        addressBook.markAttendance(target, date, isAbsent);
+    }
+
+    @Override
+    public void beginBatch() {
+        addressBook.beginBatch();
+    }
+
+    @Override
+    public void endBatch() {
+        addressBook.endBatch();
+    }
+
+    @Override
+    public List<Person> getPersonsOnLeave(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+
+        return addressBook.getPersonsOnLeave(startDate, endDate);
+    }
+
+    @Override
+    public Set<Nric> searchPersons(SearchQuery query) {
+        requireNonNull(query);
+
+        return addressBook.searchPersons(query);
+    }
+
+    @Override
+    public List<NameMatch> searchSimilarNames(List<String> keywords) {
+        requireNonNull(keywords);
+
+        return addressBook.searchSimilarNames(keywords);
+    }
+
+    @Override
+    public long getAddressBookChangeCount() {
+        return addressBook.getChangeCount();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, sorted and then filtered
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
@@ -128,6 +213,200 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * {@inheritDoc}
+     * A {@code PersonSortOrder} is applied through the index the address book keeps of the persons in order of its
+     * first attribute, so the persons are not sorted again from scratch every time the order changes. Only while the
+     * persons are sorted are they copied out of the address book; otherwise they are listed straight from it, so that
+     * persons loaded lazily are not read until they are needed.
+     */
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        sortOrder = comparator;
+        if (sortOrder == null) {
+            personsInOrder.setPersons(addressBook.getPersonList());
+            sortedPersons.clear();
+            return;
+        }
+        sortedPersons.setAll(getPersonsInOrder());
+        personsInOrder.setPersons(sortedPersons);
+    }
+
+    /**
+     * Returns all persons in the address book in {@code sortOrder}, which must not be null.
+     */
+    private List<Person> getPersonsInOrder() {
+        if (sortOrder instanceof PersonSortOrder) {
+            return addressBook.getPersonsInOrder((PersonSortOrder) sortOrder);
+        }
+        return sortAllPersons();
+    }
+
+    /**
+     * Returns all persons in the address book sorted by {@code sortOrder} from scratch.
+     */
+    private List<Person> sortAllPersons() {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (sortOrder instanceof PersonSortOrder) {
+            ((PersonSortOrder) sortOrder).sort(persons);
+        } else {
+            persons.sort(sortOrder);
+        }
+        return persons;
+    }
+
+    /**
+     * Applies {@code change} to the persons in the address book to {@code sortedPersons} while they are sorted, as a
+     * single change to {@code sortedPersons} as well. A single person added, removed or replaced is applied at its
+     * position in the order. Otherwise, such as after a batch of changes, all persons are sorted again directly, as
+     * the address book may not have finished updating its indexes while it reports the change.
+     */
+    private void handlePersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        if (sortOrder == null) {
+            // the persons are listed straight from the address book
+            return;
+        }
+        if (!isSinglePersonChange(change)) {
+            sortedPersons.setAll(sortAllPersons());
+            return;
+        }
+
+        change.reset();
+        change.next();
+        Person removedPerson = change.wasRemoved() ? change.getRemoved().get(0) : null;
+        Person addedPerson = change.wasAdded() ? change.getAddedSubList().get(0) : null;
+
+        int removedIndex = removedPerson == null ? -1 : indexOfOrderedPerson(removedPerson);
+        if (removedIndex != -1 && addedPerson != null && isInOrderAt(removedIndex, addedPerson)) {
+            sortedPersons.set(removedIndex, addedPerson);
+            return;
+        }
+        if (removedIndex != -1) {
+            sortedPersons.remove(removedIndex);
+        }
+        if (addedPerson != null) {
+            int index = Collections.binarySearch(sortedPersons, addedPerson, sortOrder);
+            sortedPersons.add(index < 0 ? -index - 1 : index, addedPerson);
+        }
+    }
+
+    /**
+     * Returns true if {@code change} only adds, removes or replaces a single person.
+     */
+    private static boolean isSinglePersonChange(ListChangeListener.Change<? extends Person> change) {
+        if (!change.next() || change.wasPermutated() || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+            return false;
+        }
+        return !change.next();
+    }
+
+    /**
+     * Returns true if {@code person} can take the place of the person at {@code index} in {@code sortedPersons}
+     * without breaking {@code sortOrder}.
+     */
+    private boolean isInOrderAt(int index, Person person) {
+        int lastIndex = sortedPersons.size() - 1;
+        return (index == 0 || sortOrder.compare(sortedPersons.get(index - 1), person) <= 0)
+                && (index == lastIndex || sortOrder.compare(person, sortedPersons.get(index + 1)) <= 0);
+    }
+
+    /**
+     * Returns the index in {@code sortedPersons} of the person with the same NRIC as {@code person}, or -1 if there
+     * is no such person. The persons with the same position as {@code person} in {@code sortOrder} are searched,
+     * as the same person may have been looked up more than once from the address book.
+     */
+    private int indexOfOrderedPerson(Person person) {
+        int index = Collections.binarySearch(sortedPersons, person, sortOrder);
+        if (index < 0) {
+            return -1;
+        }
+        for (int i = index; i >= 0 && sortOrder.compare(sortedPersons.get(i), person) == 0; i--) {
+            if (sortedPersons.get(i).getNric().equals(person.getNric())) {
+                return i;
+            }
+        }
+        for (int i = index + 1; i < sortedPersons.size() && sortOrder.compare(sortedPersons.get(i), person) == 0;
+                i++) {
+            if (sortedPersons.get(i).getNric().equals(person.getNric())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A view of the persons in a list, which can be switched to the persons in another list. Changes to the list
+     * currently viewed are reported as changes to the view, and a switch as all persons being replaced.
+     */
+    private static class PersonsInOrder extends ObservableListBase<Person> {
+        private final ListChangeListener<Person> listener = this::handleChange;
+        private ObservableList<Person> persons;
+
+        PersonsInOrder(ObservableList<Person> persons) {
+            this.persons = persons;
+            persons.addListener(listener);
+        }
+
+        /**
+         * Views the persons in {@code newPersons} instead of the current persons.
+         */
+        void setPersons(ObservableList<Person> newPersons) {
+            if (newPersons == persons) {
+                return;
+            }
+            List<Person> oldPersons = new ArrayList<>(persons);
+            persons.removeListener(listener);
+            persons = newPersons;
+            persons.addListener(listener);
+
+            beginChange();
+            if (!oldPersons.isEmpty()) {
+                nextRemove(0, oldPersons);
+            }
+            if (!persons.isEmpty()) {
+                nextAdd(0, persons.size());
+            }
+            endChange();
+        }
+
+        private void handleChange(ListChangeListener.Change<? extends Person> change) {
+            beginChange();
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[to - from];
+                    for (int i = from; i < to; i++) {
+                        permutation[i - from] = change.getPermutation(i);
+                    }
+                    nextPermutation(from, to, permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        nextRemove(from, change.getRemoved());
+                    }
+                    if (change.wasAdded()) {
+                        nextAdd(from, to);
+                    }
+                }
+            }
+            endChange();
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
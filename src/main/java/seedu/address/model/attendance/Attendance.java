@@ -1,12 +1,19 @@
 package seedu.address.model.attendance;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
+
 /**
  * Represents the attendance details for a person in the address book.
  * Stores information such as the total number of working days, the number of absent days,
  * and the calculated attendance rate for the person.
  *
+ * The days on which attendance was taken with {@link #mark(LocalDate, boolean)} are also kept in an
+ * {@link AttendanceLedger}, so that absences on particular days can be looked up. The counts also include days that
+ * were counted without a date, such as those counted before the ledger was kept.
+ *
  * Guarantees:
  * The attendance rate is initially set to 100% and is recalculated whenever the absent day count is updated.
  */
@@ -19,6 +26,7 @@ public class Attendance {
     private int absentDayCount;
     // Stores the current attendance rate for this person in that year, initialized as 100% first
     private double attendanceRate;
+    private final AttendanceLedger ledger;
 
     /**
      * Constructs an {@code Attendance} object with default values:
@@ -28,6 +36,7 @@ public class Attendance {
         this.workDayCount = 0;
         this.absentDayCount = 0;
         this.attendanceRate = 100.0;
+        this.ledger = new AttendanceLedger();
     }
 
     /**
@@ -39,9 +48,22 @@ public class Attendance {
      * @throws NullPointerException if {@code workDayCount} or {@code absentDayCount} is null.
      */
     public Attendance(int workDayCount, int absentDayCount) {
-        checkArgument(isValidAttendance(workDayCount, absentDayCount), MESSAGE_CONSTRAINTS);
+        this(workDayCount, absentDayCount, new AttendanceLedger());
+    }
+
+    /**
+     * Constructs an {@code Attendance} object with the specified workday and absent day counts, which include the
+     * days recorded in {@code ledger}.
+     *
+     * @throws IllegalArgumentException if the counts are invalid or do not include the days recorded in
+     *     {@code ledger}.
+     */
+    public Attendance(int workDayCount, int absentDayCount, AttendanceLedger ledger) {
+        requireNonNull(ledger);
+        checkArgument(isValidAttendance(workDayCount, absentDayCount, ledger), MESSAGE_CONSTRAINTS);
         this.workDayCount = workDayCount;
         this.absentDayCount = absentDayCount;
+        this.ledger = ledger;
         calculateAttendanceRate();
     }
 
@@ -60,6 +82,20 @@ public class Attendance {
         return true;
     }
 
+    /**
+     * Returns true if given workDayCount and absentDayCount values are valid, and include the days recorded in
+     * {@code ledger}.
+     */
+    public static boolean isValidAttendance(int workDayCount, int absentDayCount, AttendanceLedger ledger) {
+        if (!isValidAttendance(workDayCount, absentDayCount)) {
+            return false;
+        }
+
+        int undatedWorkDayCount = workDayCount - ledger.getTrackedDayCount();
+        int undatedAbsentDayCount = absentDayCount - ledger.getAbsentDayCount();
+        return isValidAttendance(undatedWorkDayCount, undatedAbsentDayCount);
+    }
+
     /**
      * Returns true if given workDayCount value is valid.
      */
@@ -150,17 +186,39 @@ public class Attendance {
     }
 
     /**
-     * Increments the number of working days for the person.
+     * Returns the record of the days on which attendance was taken with {@link #mark(LocalDate, boolean)}.
+     * The ledger should only be changed through this {@code Attendance}.
      */
-    public void incrementWorkDay() {
-        this.workDayCount++;
+    public AttendanceLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Records that attendance was taken on {@code date}, counting it as an absence if {@code isAbsent}.
+     * If attendance was already taken on {@code date}, only whether the person was absent on that day is changed.
+     */
+    public void mark(LocalDate date, boolean isAbsent) {
+        requireNonNull(date);
+        boolean wasTracked = ledger.isTracked(date);
+        boolean wasAbsent = ledger.isAbsent(date);
+        ledger.record(date, isAbsent);
+
+        if (!wasTracked) {
+            workDayCount++;
+        }
+        if (isAbsent && !wasAbsent) {
+            absentDayCount++;
+        } else if (!isAbsent && wasAbsent) {
+            absentDayCount--;
+        }
+        calculateAttendanceRate();
     }
 
     /**
-     * Increments the number of absent days for the person.
+     * Returns a copy of this attendance that can be changed without changing this attendance.
      */
-    public void incrementAbsentDay() {
-        this.absentDayCount++;
+    public Attendance copy() {
+        return new Attendance(workDayCount, absentDayCount, ledger.copy());
     }
 
     @Override
@@ -176,7 +234,8 @@ public class Attendance {
 
         Attendance otherAttendance = (Attendance) other;
         return this.workDayCount == otherAttendance.workDayCount
-                && this.absentDayCount == otherAttendance.absentDayCount;
+                && this.absentDayCount == otherAttendance.absentDayCount
+                && this.ledger.equals(otherAttendance.ledger);
     }
 
     @Override
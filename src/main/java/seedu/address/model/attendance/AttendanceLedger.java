@@ -0,0 +1,310 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.leave.Leave;
+
+/**
+ * Records the days on which the attendance of a person was taken, and the days on which they were absent.
+ *
+ * The days on which attendance was taken are kept as a bitset for each year. As most persons have their attendance
+ * taken on the same days, these bitsets are shared between persons, see {@link DaySet}. Absences are much rarer, so
+ * they are kept as a sorted array of days instead. Both support counting the days in a range without going through
+ * the days one at a time.
+ */
+public class AttendanceLedger {
+
+    public static final String MESSAGE_CONSTRAINTS = "Attendance records must be for years between " + Leave.MIN_YEAR
+            + " and " + Leave.MAX_YEAR + ", with " + DaySet.WORD_COUNT + " words of days for each year, "
+            + "and a person can only be absent on days that attendance was taken.";
+
+    private static final int[] NO_DAYS = new int[0];
+    private static final DaySet[] NO_YEARS = new DaySet[0];
+
+    /** Year of {@code trackedDays[0]}. */
+    private int firstYear;
+    /** Days on which attendance was taken, for each year from {@code firstYear}. */
+    private DaySet[] trackedDays = NO_YEARS;
+    /** Days on which the person was absent, as sorted epoch days in the first {@code absentDayCount} elements. */
+    private int[] absentDays = NO_DAYS;
+    private int absentDayCount;
+
+    /**
+     * Creates an empty ledger.
+     */
+    public AttendanceLedger() {}
+
+    /**
+     * Creates a ledger with the given days on which attendance was taken and the person was absent.
+     *
+     * @param trackedDays Bitsets of the days of the year on which attendance was taken, for each year.
+     *                    The bit for the 1st of January is the lowest bit of the first word.
+     * @param absentDays Days on which the person was absent.
+     * @throws IllegalArgumentException if the bitsets are invalid, or attendance was not taken on any of the days
+     *     the person was absent.
+     */
+    public static AttendanceLedger of(Map<Integer, long[]> trackedDays, List<LocalDate> absentDays) {
+        requireNonNull(trackedDays);
+        requireNonNull(absentDays);
+        checkArgument(trackedDays.entrySet().stream()
+                .allMatch(entry -> isValidTrackedDays(entry.getKey(), entry.getValue())), MESSAGE_CONSTRAINTS);
+
+        AttendanceLedger ledger = new AttendanceLedger();
+        for (Map.Entry<Integer, long[]> entry : trackedDays.entrySet()) {
+            int index = ledger.getYearIndex(entry.getKey());
+            ledger.trackedDays[index] = DaySet.of(entry.getValue());
+        }
+        for (LocalDate date : absentDays) {
+            checkArgument(ledger.isTracked(date), MESSAGE_CONSTRAINTS);
+            ledger.record(date, true);
+        }
+        return ledger;
+    }
+
+    /**
+     * Returns true if {@code year} is in the range of supported years and {@code words} is a valid bitset of the
+     * days in {@code year}.
+     */
+    public static boolean isValidTrackedDays(int year, long[] words) {
+        if (year < Leave.MIN_YEAR || year > Leave.MAX_YEAR || words == null || words.length != DaySet.WORD_COUNT) {
+            return false;
+        }
+        int daysInYear = LocalDate.ofYearDay(year, 1).lengthOfYear();
+        for (int day = daysInYear; day < DaySet.WORD_COUNT * Long.SIZE; day++) {
+            if ((words[day >> 6] & (1L << day)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that attendance was taken on {@code date}, and whether the person was absent.
+     * Recording a date again replaces whether the person was absent on that date.
+     */
+    void record(LocalDate date, boolean isAbsent) {
+        requireNonNull(date);
+        int index = getYearIndex(date.getYear());
+        trackedDays[index] = trackedDays[index].with(date.getDayOfYear() - 1);
+
+        int epochDay = (int) date.toEpochDay();
+        int position = Arrays.binarySearch(absentDays, 0, absentDayCount, epochDay);
+        if (isAbsent && position < 0) {
+            insertAbsentDay(-position - 1, epochDay);
+        } else if (!isAbsent && position >= 0) {
+            System.arraycopy(absentDays, position + 1, absentDays, position, absentDayCount - position - 1);
+            absentDayCount--;
+        }
+    }
+
+    /**
+     * Returns the index of {@code year} in {@code trackedDays}, adding empty years as needed to include it.
+     */
+    private int getYearIndex(int year) {
+        if (trackedDays.length == 0) {
+            firstYear = year;
+            trackedDays = new DaySet[] {DaySet.EMPTY};
+        } else if (year < firstYear) {
+            DaySet[] newTrackedDays = new DaySet[trackedDays.length + firstYear - year];
+            Arrays.fill(newTrackedDays, DaySet.EMPTY);
+            System.arraycopy(trackedDays, 0, newTrackedDays, firstYear - year, trackedDays.length);
+            trackedDays = newTrackedDays;
+            firstYear = year;
+        } else if (year >= firstYear + trackedDays.length) {
+            int oldLength = trackedDays.length;
+            trackedDays = Arrays.copyOf(trackedDays, year - firstYear + 1);
+            Arrays.fill(trackedDays, oldLength, trackedDays.length, DaySet.EMPTY);
+        }
+        return year - firstYear;
+    }
+
+    private void insertAbsentDay(int position, int epochDay) {
+        if (absentDayCount == absentDays.length) {
+            absentDays = Arrays.copyOf(absentDays, Math.max(4, absentDayCount * 2));
+        }
+        System.arraycopy(absentDays, position, absentDays, position + 1, absentDayCount - position);
+        absentDays[position] = epochDay;
+        absentDayCount++;
+    }
+
+    /**
+     * Returns true if attendance was taken on {@code date}.
+     */
+    public boolean isTracked(LocalDate date) {
+        return getTrackedDays(date.getYear()).contains(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * Returns true if the person was absent on {@code date}.
+     */
+    public boolean isAbsent(LocalDate date) {
+        return Arrays.binarySearch(absentDays, 0, absentDayCount, (int) date.toEpochDay()) >= 0;
+    }
+
+    /**
+     * Returns the number of days from {@code from} to {@code to}, both inclusive, on which attendance was taken.
+     */
+    public int countTrackedDays(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int count = 0;
+        for (int year = Math.max(from.getYear(), firstYear);
+                year <= Math.min(to.getYear(), firstYear + trackedDays.length - 1); year++) {
+            int fromDay = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int toDay = year == to.getYear() ? to.getDayOfYear() - 1 : DaySet.WORD_COUNT * Long.SIZE - 1;
+            count += trackedDays[year - firstYear].count(fromDay, toDay);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of days from {@code from} to {@code to}, both inclusive, on which the person was absent.
+     */
+    public int countAbsentDays(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        return findAbsentDay(to.toEpochDay() + 1) - findAbsentDay(from.toEpochDay());
+    }
+
+    /**
+     * Returns the days from {@code from} to {@code to}, both inclusive, on which the person was absent, in order.
+     */
+    public List<LocalDate> getAbsentDays(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<LocalDate> days = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return days;
+        }
+        int end = findAbsentDay(to.toEpochDay() + 1);
+        for (int i = findAbsentDay(from.toEpochDay()); i < end; i++) {
+            days.add(LocalDate.ofEpochDay(absentDays[i]));
+        }
+        return days;
+    }
+
+    /**
+     * Returns the position of the first absent day on or after {@code epochDay}.
+     */
+    private int findAbsentDay(long epochDay) {
+        int day = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, epochDay));
+        int low = 0;
+        int high = absentDayCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (absentDays[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of days on which attendance was taken.
+     */
+    public int getTrackedDayCount() {
+        int count = 0;
+        for (DaySet days : trackedDays) {
+            count += days.count();
+        }
+        return count;
+    }
+
+    public int getAbsentDayCount() {
+        return absentDayCount;
+    }
+
+    /**
+     * Returns the years in which attendance was taken at least once, in order.
+     */
+    public List<Integer> getYears() {
+        List<Integer> years = new ArrayList<>();
+        for (int i = 0; i < trackedDays.length; i++) {
+            if (!trackedDays[i].isEmpty()) {
+                years.add(firstYear + i);
+            }
+        }
+        return years;
+    }
+
+    /**
+     * Returns the bitset of the days in {@code year} on which attendance was taken, in the format accepted by
+     * {@link #of(Map, List)}.
+     */
+    public long[] getTrackedDayBits(int year) {
+        return getTrackedDays(year).toWords();
+    }
+
+    private DaySet getTrackedDays(int year) {
+        if (year < firstYear || year >= firstYear + trackedDays.length) {
+            return DaySet.EMPTY;
+        }
+        return trackedDays[year - firstYear];
+    }
+
+    /**
+     * Returns a copy of this ledger that can be changed without changing this ledger.
+     */
+    public AttendanceLedger copy() {
+        AttendanceLedger copy = new AttendanceLedger();
+        copy.firstYear = firstYear;
+        copy.trackedDays = trackedDays.clone();
+        copy.absentDays = Arrays.copyOf(absentDays, absentDayCount);
+        copy.absentDayCount = absentDayCount;
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceLedger)) {
+            return false;
+        }
+
+        AttendanceLedger otherLedger = (AttendanceLedger) other;
+        if (absentDayCount != otherLedger.absentDayCount
+                || !Arrays.equals(absentDays, 0, absentDayCount, otherLedger.absentDays, 0, absentDayCount)) {
+            return false;
+        }
+        return hasSameTrackedDays(otherLedger) && otherLedger.hasSameTrackedDays(this);
+    }
+
+    /**
+     * Returns true if {@code other} has the same tracked days as this ledger in every year of this ledger.
+     */
+    private boolean hasSameTrackedDays(AttendanceLedger other) {
+        for (int i = 0; i < trackedDays.length; i++) {
+            if (!trackedDays[i].equals(other.getTrackedDays(firstYear + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTrackedDayCount(), absentDayCount);
+    }
+
+    @Override
+    public String toString() {
+        return "Days tracked: " + getTrackedDayCount() + "; Days absent: " + absentDayCount;
+    }
+}
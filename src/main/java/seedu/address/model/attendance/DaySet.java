@@ -0,0 +1,161 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An immutable set of days in a single year, stored as a bitset of the days of the year.
+ * Days are numbered from 0 for the 1st of January, so a set takes {@value #WORD_COUNT} words for up to 366 days.
+ *
+ * Sets are interned, so that the many persons whose attendance is taken on the same days share a single set.
+ * Interned sets that are no longer used by anyone are discarded.
+ */
+final class DaySet {
+
+    /** Number of words in the bitset, which is enough for the days of a leap year. */
+    static final int WORD_COUNT = 6;
+
+    static final DaySet EMPTY = new DaySet(new long[WORD_COUNT]);
+
+    private static final Map<DaySet, WeakReference<DaySet>> internedSets = new WeakHashMap<>();
+
+    private final long[] words;
+    private final int hashCode;
+
+    /** The set last returned by {@link #with(int)}, so that adding the same day again needs no lookup. */
+    private Addition lastAddition;
+
+    private DaySet(long[] words) {
+        this.words = words;
+        this.hashCode = Arrays.hashCode(words);
+    }
+
+    /**
+     * Returns the set of the days whose bits are set in {@code words}.
+     * {@code words} must have {@value #WORD_COUNT} elements, and is not changed or kept.
+     */
+    static DaySet of(long[] words) {
+        requireNonNull(words);
+        if (words.length != WORD_COUNT) {
+            throw new IllegalArgumentException("Expected " + WORD_COUNT + " words, got " + words.length);
+        }
+        return intern(new DaySet(words.clone()));
+    }
+
+    private static synchronized DaySet intern(DaySet set) {
+        if (set.equals(EMPTY)) {
+            return EMPTY;
+        }
+        WeakReference<DaySet> reference = internedSets.get(set);
+        DaySet interned = reference == null ? null : reference.get();
+        if (interned == null) {
+            internedSets.put(set, new WeakReference<>(set));
+            interned = set;
+        }
+        return interned;
+    }
+
+    /**
+     * Returns the set of the days in this set and {@code dayOfYear}.
+     */
+    DaySet with(int dayOfYear) {
+        if (contains(dayOfYear)) {
+            return this;
+        }
+        Addition addition = lastAddition;
+        if (addition != null && addition.dayOfYear == dayOfYear) {
+            return addition.result;
+        }
+
+        long[] newWords = words.clone();
+        newWords[dayOfYear >> 6] |= 1L << dayOfYear;
+        DaySet result = intern(new DaySet(newWords));
+        lastAddition = new Addition(dayOfYear, result);
+        return result;
+    }
+
+    boolean contains(int dayOfYear) {
+        return (words[dayOfYear >> 6] & (1L << dayOfYear)) != 0;
+    }
+
+    boolean isEmpty() {
+        return this.equals(EMPTY);
+    }
+
+    /**
+     * Returns the number of days in this set.
+     */
+    int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of days in this set from {@code fromDay} to {@code toDay}, both inclusive.
+     */
+    int count(int fromDay, int toDay) {
+        if (fromDay > toDay) {
+            return 0;
+        }
+        int fromWord = fromDay >> 6;
+        int toWord = toDay >> 6;
+        long fromMask = -1L << fromDay;
+        long toMask = -1L >>> (63 - (toDay & 63));
+        if (fromWord == toWord) {
+            return Long.bitCount(words[fromWord] & fromMask & toMask);
+        }
+
+        int count = Long.bitCount(words[fromWord] & fromMask);
+        for (int i = fromWord + 1; i < toWord; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count + Long.bitCount(words[toWord] & toMask);
+    }
+
+    /**
+     * Returns a copy of the bitset of this set.
+     */
+    long[] toWords() {
+        return words.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DaySet)) {
+            return false;
+        }
+
+        DaySet otherSet = (DaySet) other;
+        return hashCode == otherSet.hashCode && Arrays.equals(words, otherSet.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * The result of adding a day to a set.
+     */
+    private static class Addition {
+        private final int dayOfYear;
+        private final DaySet result;
+
+        Addition(int dayOfYear, DaySet result) {
+            this.dayOfYear = dayOfYear;
+            this.result = result;
+        }
+    }
+}
@@ -56,6 +56,23 @@ public class Leave {
         this.reason = reason;
     }
 
+    /**
+     * Constructs a {@code Leave} from dates that have already been parsed.
+     *
+     * @param startDate A valid start date.
+     * @param endDate   A valid end date.
+     * @param reason     A valid reason.
+     */
+    public Leave(LocalDate startDate, LocalDate endDate, String reason) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        requireNonNull(reason);
+        checkArgument(isValidLeave(startDate, endDate, reason), DATE_CONSTRAINTS);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.reason = reason;
+    }
+
     /**
      * Returns true if a given string is a valid leave.
      */
@@ -67,6 +84,22 @@ public class Leave {
                 && isValidDuration(startDate, endDate);
     }
 
+    /**
+     * Returns true if the given dates and reason form a valid leave.
+     * Same as {@link #isValidLeave(String, String, String)}, for dates that have already been parsed.
+     */
+    public static boolean isValidLeave(LocalDate startDate, LocalDate endDate, String reason) {
+        return isValidYear(startDate)
+                && isValidYear(endDate)
+                && isValidReason(reason)
+                && !startDate.isAfter(endDate)
+                && ChronoUnit.DAYS.between(startDate, endDate) + 1 <= MAX_LEAVE_DURATION;
+    }
+
+    private static boolean isValidYear(LocalDate date) {
+        return date.getYear() >= MIN_YEAR && date.getYear() <= MAX_YEAR;
+    }
+
     /**
      * Returns true if a given string is a valid date.
      */
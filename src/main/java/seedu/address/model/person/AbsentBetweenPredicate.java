@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} was absent at least once from the start date to the end date, both inclusive.
+ */
+public class AbsentBetweenPredicate implements Predicate<Person> {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates a predicate for absences from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public AbsentBetweenPredicate(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getAttendance().getLedger().countAbsentDays(startDate, endDate) > 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AbsentBetweenPredicate)) {
+            return false;
+        }
+
+        AbsentBetweenPredicate otherPredicate = (AbsentBetweenPredicate) other;
+        return startDate.equals(otherPredicate.startDate) && endDate.equals(otherPredicate.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("startDate", startDate).add("endDate", endDate).toString();
+    }
+}
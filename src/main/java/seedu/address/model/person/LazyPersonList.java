@@ -0,0 +1,337 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list of persons that can hold the persons of a {@link LazyPersonSource} without materializing them.
+ *
+ * Each element of the list is either a person held directly, or the index of a person in the source. Persons in the
+ * source are only materialized when they are accessed, and the most recently accessed of them are cached. Once a
+ * person from the source is replaced or removed, the source is no longer consulted for that person.
+ *
+ * Persons from the source must not be changed in place unless they are then passed to {@link #hold(Person)}, as the
+ * changes are otherwise lost once the person drops out of the cache.
+ *
+ * Changes made in a batch (see {@link #beginBatch()}) are reported together once the batch ends, as a single change
+ * that replaces all the persons. Merging many separate changes into one instead would take time quadratic in the
+ * number of changes when they are scattered across the list.
+ */
+class LazyPersonList extends ObservableListBase<Person> {
+
+    /** Number of materialized persons from the source that are kept. */
+    static final int CACHE_SIZE = 256;
+
+    /** Each element is either a {@code Person}, or the {@code Integer} index of a person in {@code source}. */
+    private ArrayList<Object> elements = new ArrayList<>();
+    private LazyPersonSource source;
+    /** Index in {@code elements} of each person in {@code source}, or -1 if the person was replaced or removed. */
+    private int[] elementIndices = new int[0];
+
+    /** Number of batches begun and not yet ended. */
+    private int batchDepth;
+    /** The persons in the list when the outermost batch began, or null if no batch is being made. */
+    private List<Person> personsBeforeBatch;
+    private boolean isChangedInBatch;
+
+    private final Map<Integer, Person> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    @Override
+    public Person get(int index) {
+        Object element = elements.get(index);
+        if (element instanceof Person) {
+            return (Person) element;
+        }
+        return cache.computeIfAbsent((Integer) element, source::get);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void add(int index, Person person) {
+        requireNonNull(person);
+        elements.add(index, person);
+        updateElementIndices(index + 1);
+        modCount++;
+
+        if (!deferChange()) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+    }
+
+    @Override
+    public Person set(int index, Person person) {
+        requireNonNull(person);
+        Person oldPerson = get(index);
+        detach(index);
+        elements.set(index, person);
+
+        if (!deferChange()) {
+            beginChange();
+            nextSet(index, oldPerson);
+            endChange();
+        }
+        return oldPerson;
+    }
+
+    @Override
+    public Person remove(int index) {
+        Person oldPerson = get(index);
+        detach(index);
+        elements.remove(index);
+        updateElementIndices(index);
+        modCount++;
+
+        if (!deferChange()) {
+            beginChange();
+            nextRemove(index, oldPerson);
+            endChange();
+        }
+        return oldPerson;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}.
+     * If {@code persons} is another {@code LazyPersonList}, the persons it holds lazily are held lazily by this list
+     * as well, and the persons it holds directly are shared.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        List<Person> oldPersons = new ElementList(elements, source);
+
+        if (persons instanceof LazyPersonList) {
+            LazyPersonList other = (LazyPersonList) persons;
+            elements = new ArrayList<>(other.elements);
+            source = other.source;
+            elementIndices = other.elementIndices.clone();
+        } else {
+            elements = new ArrayList<>(persons);
+            source = null;
+            elementIndices = new int[0];
+        }
+        cache.clear();
+        modCount++;
+
+        fireReplaced(oldPersons);
+        return true;
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code source}, without materializing any of them.
+     */
+    void setSource(LazyPersonSource source) {
+        requireNonNull(source);
+        List<Person> oldPersons = new ElementList(elements, this.source);
+
+        int size = source.size();
+        elements = new ArrayList<>(size);
+        elementIndices = new int[size];
+        for (int i = 0; i < size; i++) {
+            elements.add(i);
+            elementIndices[i] = i;
+        }
+        this.source = source;
+        cache.clear();
+        modCount++;
+
+        fireReplaced(oldPersons);
+    }
+
+    /**
+     * Begins a batch of changes, which are reported once the outermost batch ends. Each call must be matched by a
+     * call to {@link #endBatch()}.
+     */
+    void beginBatch() {
+        if (batchDepth == 0) {
+            personsBeforeBatch = new ElementList(new ArrayList<>(elements), source);
+        }
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch of changes begun by the matching call to {@link #beginBatch()}. If it is the outermost batch
+     * and the list was changed in it, reports the changes as a single change that replaces all the persons.
+     */
+    void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch has begun");
+        }
+        batchDepth--;
+        if (batchDepth > 0) {
+            return;
+        }
+
+        List<Person> oldPersons = personsBeforeBatch;
+        boolean isChanged = isChangedInBatch;
+        personsBeforeBatch = null;
+        isChangedInBatch = false;
+        if (isChanged) {
+            fireReplaced(oldPersons);
+        }
+    }
+
+    /**
+     * Returns the index of the person with {@code nric}, or -1 if there is no such person.
+     */
+    int indexOfNric(Nric nric) {
+        requireNonNull(nric);
+        int lazyIndex = lazyIndexOf(nric);
+        if (lazyIndex != -1) {
+            return lazyIndex;
+        }
+
+        for (int i = 0; i < elements.size(); i++) {
+            Object element = elements.get(i);
+            if (element instanceof Person && ((Person) element).getNric().equals(nric)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the person with {@code nric} is in the list, but is only held lazily.
+     */
+    boolean isHeldLazily(Nric nric) {
+        return lazyIndexOf(nric) != -1;
+    }
+
+    /**
+     * Makes this list hold {@code person} directly in place of the person with the same {@code Nric} that it holds
+     * lazily, so that changes made to {@code person} are kept. Does nothing if that person is not held lazily.
+     */
+    void hold(Person person) {
+        int index = lazyIndexOf(person.getNric());
+        if (index != -1) {
+            set(index, person);
+        }
+    }
+
+    /**
+     * Returns the persons that this list holds directly.
+     */
+    List<Person> getHeldPersons() {
+        List<Person> heldPersons = new ArrayList<>();
+        for (Object element : elements) {
+            if (element instanceof Person) {
+                heldPersons.add((Person) element);
+            }
+        }
+        return heldPersons;
+    }
+
+    /**
+     * Returns a copy of this list in which the persons held directly are copied with {@link Person#copy()}, and
+     * the persons held lazily are shared with this list.
+     */
+    LazyPersonList copy() {
+        LazyPersonList copy = new LazyPersonList();
+        copy.elements.ensureCapacity(elements.size());
+        for (Object element : elements) {
+            copy.elements.add(element instanceof Person ? ((Person) element).copy() : element);
+        }
+        copy.source = source;
+        copy.elementIndices = elementIndices.clone();
+        return copy;
+    }
+
+    private int lazyIndexOf(Nric nric) {
+        if (source == null) {
+            return -1;
+        }
+        int sourceIndex = source.indexOf(nric);
+        return sourceIndex == -1 ? -1 : elementIndices[sourceIndex];
+    }
+
+    /**
+     * Stops the source from being consulted for the person at {@code index}, which is about to be replaced or removed.
+     */
+    private void detach(int index) {
+        Object element = elements.get(index);
+        if (element instanceof Integer) {
+            elementIndices[(Integer) element] = -1;
+            cache.remove(element);
+        }
+    }
+
+    /**
+     * Updates the recorded indices of the persons from the source, from {@code fromIndex} to the end of the list.
+     */
+    private void updateElementIndices(int fromIndex) {
+        for (int i = fromIndex; i < elements.size(); i++) {
+            Object element = elements.get(i);
+            if (element instanceof Integer) {
+                elementIndices[(Integer) element] = i;
+            }
+        }
+    }
+
+    /**
+     * Records a change made during a batch, to be reported when the batch ends. Returns false if no batch is being
+     * made, in which case the change must be reported now.
+     */
+    private boolean deferChange() {
+        if (batchDepth == 0) {
+            return false;
+        }
+        isChangedInBatch = true;
+        return true;
+    }
+
+    private void fireReplaced(List<Person> oldPersons) {
+        if (deferChange()) {
+            return;
+        }
+        beginChange();
+        if (!oldPersons.isEmpty()) {
+            nextRemove(0, oldPersons);
+        }
+        if (!elements.isEmpty()) {
+            nextAdd(0, elements.size());
+        }
+        endChange();
+    }
+
+    /**
+     * A read-only view of the persons in {@code elements}, which materializes persons from {@code source} on access.
+     */
+    private static class ElementList extends AbstractList<Person> {
+        private final List<Object> elements;
+        private final LazyPersonSource source;
+
+        ElementList(List<Object> elements, LazyPersonSource source) {
+            this.elements = elements;
+            this.source = source;
+        }
+
+        @Override
+        public Person get(int index) {
+            Object element = elements.get(index);
+            return element instanceof Person ? (Person) element : source.get((Integer) element);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+}
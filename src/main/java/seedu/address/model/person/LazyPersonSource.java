@@ -0,0 +1,26 @@
+package seedu.address.model.person;
+
+/**
+ * A fixed sequence of unique persons that are only materialized when they are asked for, such as the persons in a
+ * memory-mapped data file.
+ *
+ * Every call to {@link #get(int)} materializes a new {@code Person}, so changes made to a returned person are not
+ * seen by later calls. Implementations must be safe to use from multiple threads at once.
+ */
+public interface LazyPersonSource {
+
+    /**
+     * Returns the number of persons in this source.
+     */
+    int size();
+
+    /**
+     * Materializes the person at {@code index}.
+     */
+    Person get(int index);
+
+    /**
+     * Returns the index of the person with {@code nric}, or -1 if there is no such person.
+     */
+    int indexOf(Nric nric);
+}
@@ -0,0 +1,299 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.leave.Leave;
+
+/**
+ * An index of leaves by the dates they cover, which finds the leaves overlapping a range of dates without going
+ * through every leave.
+ *
+ * The index is an interval tree: a balanced binary search tree of leaves ordered by their start date, in which each
+ * node also keeps the latest end date in its subtree. Subtrees whose leaves all end before a range, or all start after
+ * it, are skipped. Each leave is indexed together with the {@code Nric} of the person taking it, so that a single
+ * index can hold the leaves of many persons.
+ */
+public class LeaveIndex {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Creates an empty index.
+     */
+    public LeaveIndex() {}
+
+    /**
+     * Creates an index of the leaves of {@code persons}.
+     * The leaves are sorted once and built into a balanced tree directly, rather than being added one at a time.
+     */
+    public LeaveIndex(Iterable<Person> persons) {
+        List<Node> nodes = new ArrayList<>();
+        for (Person person : persons) {
+            for (Leave leave : person.getLeaves()) {
+                nodes.add(new Node(person.getNric(), leave));
+            }
+        }
+        Collections.sort(nodes);
+        root = build(nodes, 0, nodes.size());
+        size = nodes.size();
+    }
+
+    /**
+     * Adds {@code leave}, taken by the person with {@code nric}, to the index.
+     */
+    public void add(Nric nric, Leave leave) {
+        requireAllNonNull(nric, leave);
+        root = insert(root, new Node(nric, leave));
+        size++;
+    }
+
+    /**
+     * Adds all leaves of {@code person} to the index.
+     */
+    public void addAll(Person person) {
+        for (Leave leave : person.getLeaves()) {
+            add(person.getNric(), leave);
+        }
+    }
+
+    /**
+     * Removes {@code leave}, taken by the person with {@code nric}, from the index.
+     * Returns true if the leave was in the index.
+     */
+    public boolean remove(Nric nric, Leave leave) {
+        requireAllNonNull(nric, leave);
+        Node key = new Node(nric, leave);
+        if (find(root, key) == null) {
+            return false;
+        }
+        root = delete(root, key);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all leaves of {@code person} from the index.
+     */
+    public void removeAll(Person person) {
+        for (Leave leave : person.getLeaves()) {
+            remove(person.getNric(), leave);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if any leave in the index overlaps the dates from {@code startDate} to {@code endDate}, both
+     * inclusive. Takes time logarithmic in the number of leaves in the index.
+     */
+    public boolean hasOverlapping(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        long from = startDate.toEpochDay();
+        long to = endDate.toEpochDay();
+
+        // If the left subtree has a leave ending in the range but no overlapping leave, that leave starts after the
+        // range, and so does every leave in the right subtree.
+        Node node = root;
+        while (node != null) {
+            if (node.start <= to && node.end >= from) {
+                return true;
+            }
+            node = node.left != null && node.left.maxEnd >= from ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the {@code Nric}s of the persons with leaves overlapping the dates from {@code startDate} to
+     * {@code endDate}, both inclusive, in order of the start date of their earliest such leave.
+     * Takes time proportional to the number of overlapping leaves, up to a logarithmic factor.
+     */
+    public Set<Nric> findOverlapping(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        Set<Nric> nrics = new LinkedHashSet<>();
+        collectOverlapping(root, startDate.toEpochDay(), endDate.toEpochDay(), nrics);
+        return nrics;
+    }
+
+    private static void collectOverlapping(Node node, long from, long to, Set<Nric> nrics) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, nrics);
+        if (node.start > to) {
+            return; // as do all leaves in the right subtree
+        }
+        if (node.end >= from) {
+            nrics.add(node.nric);
+        }
+        collectOverlapping(node.right, from, to, nrics);
+    }
+
+    /**
+     * Returns the root of a balanced tree of the sorted {@code nodes} from {@code from}, inclusive, to {@code to},
+     * exclusive.
+     */
+    private static Node build(List<Node> nodes, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node node = nodes.get(middle);
+        node.left = build(nodes, from, middle);
+        node.right = build(nodes, middle + 1, to);
+        node.update();
+        return node;
+    }
+
+    private static Node find(Node node, Node key) {
+        while (node != null) {
+            int comparison = key.compareTo(node);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (newNode.compareTo(node) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Deletes a node equal to {@code key} from the subtree rooted at {@code node}, which must contain one.
+     */
+    private static Node delete(Node node, Node key) {
+        int comparison = key.compareTo(node);
+        if (comparison < 0) {
+            node.left = delete(node.left, key);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, key);
+        } else if (node.left == null || node.right == null) {
+            return node.left != null ? node.left : node.right;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteFirst(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private static Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * Restores the balance of {@code node}, whose subtrees differ in height by at most 2, and returns the root of
+     * the balanced subtree.
+     */
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A leave in the index. Nodes are ordered by start date, then by {@code Nric} and end date.
+     */
+    private static class Node implements Comparable<Node> {
+        private final long start;
+        private final long end;
+        private final Nric nric;
+        private Node left;
+        private Node right;
+        private int height;
+        /** Latest end date of the leaves in the subtree rooted at this node. */
+        private long maxEnd;
+
+        Node(Nric nric, Leave leave) {
+            this.start = leave.getStartDate().toEpochDay();
+            this.end = leave.getEndDate().toEpochDay();
+            this.nric = nric;
+            update();
+        }
+
+        /**
+         * Recomputes the height and latest end date of this subtree from those of its children.
+         */
+        void update() {
+            height = 1 + Math.max(height(left), height(right));
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            if (start != other.start) {
+                return Long.compare(start, other.start);
+            }
+            int comparison = nric.nric.compareTo(other.nric.nric);
+            return comparison != 0 ? comparison : Long.compare(end, other.end);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Nric} is one of the nrics given.
+ */
+public class NricsMatchPredicate implements Predicate<Person> {
+    private final Set<Nric> nrics;
+
+    /**
+     * Creates a predicate that matches the persons with any of the given {@code nrics}.
+     */
+    public NricsMatchPredicate(Collection<Nric> nrics) {
+        requireNonNull(nrics);
+        this.nrics = new HashSet<>(nrics);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return nrics.contains(person.getNric());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NricsMatchPredicate)) {
+            return false;
+        }
+
+        NricsMatchPredicate otherPredicate = (NricsMatchPredicate) other;
+        return nrics.equals(otherPredicate.nrics);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("nrics", nrics).toString();
+    }
+}
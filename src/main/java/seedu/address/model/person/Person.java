@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +29,8 @@ public class Person {
     private final TagSet tags;
     private final List<Leave> leaves = new ArrayList<>();
     private final Attendance attendance;
+    /** Index of {@code leaves}, which is only built once it is needed. */
+    private LeaveIndex leaveIndex;
 
     /**
      * Every field must be present and not null.
@@ -105,25 +108,34 @@ public class Person {
      */
     public void addLeave(Leave leave) {
         leaves.add(leave);
+        if (leaveIndex != null) {
+            leaveIndex.add(nric, leave);
+        }
     }
 
     public Attendance getAttendance() {
         return attendance;
     }
 
-    public void incrementAbsentDay() {
-        this.attendance.incrementAbsentDay();
-    }
-
-    public void incrementWorkDay() {
-        this.attendance.incrementWorkDay();
+    /**
+     * Records that attendance was taken on {@code date}, counting it as an absence if {@code isAbsent}.
+     */
+    public void markAttendance(LocalDate date, boolean isAbsent) {
+        this.attendance.mark(date, isAbsent);
     }
 
     /**
      * Removes a leave from the person's list of leaves.
      */
     public void removeLeave(Leave leave) {
-        leaves.remove(leave);
+        int index = leaves.indexOf(leave);
+        if (index == -1) {
+            return;
+        }
+        Leave removedLeave = leaves.remove(index);
+        if (leaveIndex != null) {
+            leaveIndex.remove(nric, removedLeave);
+        }
     }
 
     /**
@@ -135,14 +147,21 @@ public class Person {
 
     /**
      * Checks if the person has an overlapping leave.
+     * The leaves are indexed the first time this is checked, so that later checks take logarithmic time.
      */
     public boolean hasOverlappingLeave(Leave newLeave) {
-        for (Leave existingLeave : leaves) {
-            if (existingLeave.overlaps(newLeave)) {
-                return true;
-            }
+        if (leaveIndex == null) {
+            leaveIndex = new LeaveIndex(List.of(this));
         }
-        return false;
+        return leaveIndex.hasOverlapping(newLeave.getStartDate(), newLeave.getEndDate());
+    }
+
+    /**
+     * Returns a copy of this person that does not share its leaves or attendance with this person, so that changes
+     * made to either person are not seen by the other.
+     */
+    public Person copy() {
+        return new Person(name, nric, phone, email, address, hire, tags, leaves, attendance.copy());
     }
 
     /**
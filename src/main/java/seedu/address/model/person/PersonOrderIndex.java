@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.model.person.comparators.PersonSortOrder;
+import seedu.address.model.person.comparators.SortAttribute;
+
+/**
+ * An index of persons ordered by one {@link SortAttribute}, which lists the persons in order of the attribute
+ * without sorting them.
+ *
+ * The persons are kept in a balanced binary search tree, ordered by their key for the attribute and then by NRIC,
+ * so adding or removing a person takes logarithmic time, and listing all persons in either direction takes linear
+ * time. Only persons with equal keys are left to be put in order when the persons are listed. Each person is indexed
+ * by their {@code Nric}, and looked up when the persons are listed, so that changes made to persons in place are seen.
+ */
+public class PersonOrderIndex {
+
+    private final SortAttribute attribute;
+    private final TreeMap<Entry, Nric> nrics = new TreeMap<>();
+
+    /**
+     * Creates an index of {@code persons} by {@code attribute}.
+     */
+    public PersonOrderIndex(SortAttribute attribute, Iterable<Person> persons) {
+        requireAllNonNull(attribute, persons);
+        this.attribute = attribute;
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        nrics.put(new Entry(attribute.getSortKey(person), person.getNric().toString()), person.getNric());
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        nrics.remove(new Entry(attribute.getSortKey(person), person.getNric().toString()));
+    }
+
+    /**
+     * Returns all persons in the index, looked up by {@code persons}, in ascending order of their keys if
+     * {@code isAscending} and in descending order otherwise. Each run of persons with equal keys is sorted by
+     * {@code tieOrder}, which takes time linear in the length of the run if the run is already in order, or in
+     * reverse order, by NRIC.
+     */
+    public List<Person> getPersons(boolean isAscending, PersonSortOrder tieOrder, Function<Nric, Person> persons) {
+        requireAllNonNull(tieOrder, persons);
+        NavigableMap<Entry, Nric> orderedNrics = isAscending ? nrics : nrics.descendingMap();
+        List<Person> result = new ArrayList<>(nrics.size());
+        int runStart = 0;
+        String runKey = null;
+        for (Map.Entry<Entry, Nric> entry : orderedNrics.entrySet()) {
+            if (!entry.getKey().key.equals(runKey)) {
+                sortRun(result, runStart, tieOrder);
+                runStart = result.size();
+                runKey = entry.getKey().key;
+            }
+            result.add(persons.apply(entry.getValue()));
+        }
+        sortRun(result, runStart, tieOrder);
+        return result;
+    }
+
+    private static void sortRun(List<Person> persons, int runStart, PersonSortOrder tieOrder) {
+        tieOrder.sort(persons.subList(runStart, persons.size()));
+    }
+
+    /**
+     * The position of a person in the index.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final String key;
+        private final String nric;
+
+        Entry(String key, String nric) {
+            this.key = key;
+            this.nric = nric;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int comparison = key.compareTo(other.key);
+            return comparison != 0 ? comparison : nric.compareTo(other.nric);
+        }
+    }
+}
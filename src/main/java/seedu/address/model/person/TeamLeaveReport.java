@@ -0,0 +1,154 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.leave.Leave;
+
+/**
+ * The number of persons with each of a list of tags who are on leave on each day in a range of dates.
+ *
+ * The report is built in a single pass over the leaves of the persons. Each leave adds one to the first day it covers
+ * and subtracts one from the day after it ends, in a difference array kept for each tag, so that the number of persons
+ * on leave on each day is the running sum of the array up to that day. This takes time proportional to the number of
+ * leaves plus the number of days, rather than to their product.
+ */
+public class TeamLeaveReport {
+
+    /** Maximum number of days in a report, which is enough for a whole year. */
+    public static final int MAX_DAY_COUNT = 366;
+
+    public static final String MESSAGE_CONSTRAINTS = "A leave report needs at least one tag, and can cover from 1 to "
+            + MAX_DAY_COUNT + " days.";
+
+    private final List<Tag> tags;
+    private final Map<Tag, Integer> tagIndices = new HashMap<>();
+    private final LocalDate startDate;
+    private final int dayCount;
+    private final int[] teamSizes;
+    /** Number of persons on leave, by the index of their tag in {@code tags} and then by day from the start date. */
+    private final int[][] onLeaveCounts;
+
+    private TeamLeaveReport(List<Tag> tags, LocalDate startDate, int dayCount) {
+        this.tags = tags;
+        for (int i = 0; i < tags.size(); i++) {
+            tagIndices.put(tags.get(i), i);
+        }
+        this.startDate = startDate;
+        this.dayCount = dayCount;
+        this.teamSizes = new int[tags.size()];
+        // One extra day for the end of leaves that last until the end date
+        this.onLeaveCounts = new int[tags.size()][dayCount + 1];
+    }
+
+    /**
+     * Returns the report for the persons in {@code persons} with any of {@code tags}, from {@code startDate} to
+     * {@code endDate}, both inclusive. A person with more than one of the tags is counted for each of them.
+     *
+     * @throws IllegalArgumentException if {@code tags} is empty or the range of dates is longer than
+     *     {@value #MAX_DAY_COUNT} days or ends before it starts.
+     */
+    public static TeamLeaveReport of(Iterable<Person> persons, List<Tag> tags, LocalDate startDate,
+                                     LocalDate endDate) {
+        requireAllNonNull(persons, tags, startDate, endDate);
+        long dayCount = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        checkArgument(!tags.isEmpty() && dayCount >= 1 && dayCount <= MAX_DAY_COUNT, MESSAGE_CONSTRAINTS);
+
+        TeamLeaveReport report = new TeamLeaveReport(new ArrayList<>(new LinkedHashSet<>(tags)), startDate,
+                (int) dayCount);
+        int[] personTagIndices = new int[report.tags.size()];
+        for (Person person : persons) {
+            int personTagCount = 0;
+            for (Tag tag : person.getTags().getTags()) {
+                Integer tagIndex = report.tagIndices.get(tag);
+                if (tagIndex != null) {
+                    personTagIndices[personTagCount++] = tagIndex;
+                    report.teamSizes[tagIndex]++;
+                }
+            }
+            if (personTagCount > 0) {
+                report.addLeaves(person.getLeaves(), personTagIndices, personTagCount);
+            }
+        }
+
+        for (int[] counts : report.onLeaveCounts) {
+            for (int day = 1; day < counts.length; day++) {
+                counts[day] += counts[day - 1];
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Adds {@code leaves} to the difference arrays of the first {@code tagCount} tags in {@code tagIndices}.
+     */
+    private void addLeaves(List<Leave> leaves, int[] tagIndices, int tagCount) {
+        long startDay = startDate.toEpochDay();
+        for (Leave leave : leaves) {
+            long firstDay = Math.max(leave.getStartDate().toEpochDay() - startDay, 0);
+            long lastDay = Math.min(leave.getEndDate().toEpochDay() - startDay, dayCount - 1);
+            if (firstDay > lastDay) {
+                continue; // the leave is outside the report
+            }
+            for (int i = 0; i < tagCount; i++) {
+                onLeaveCounts[tagIndices[i]][(int) firstDay]++;
+                onLeaveCounts[tagIndices[i]][(int) lastDay + 1]--;
+            }
+        }
+    }
+
+    /**
+     * Returns the tags in the report, in the order they were given and without duplicates.
+     */
+    public List<Tag> getTags() {
+        return Collections.unmodifiableList(tags);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return startDate.plusDays(dayCount - 1);
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    public int getTeamSize(Tag tag) {
+        return teamSizes[indexOf(tag)];
+    }
+
+    /**
+     * Returns the number of persons with {@code tag} who are on leave on {@code date}.
+     *
+     * @throws IllegalArgumentException if {@code tag} or {@code date} is not in the report.
+     */
+    public int getOnLeaveCount(Tag tag, LocalDate date) {
+        requireNonNull(date);
+        long day = ChronoUnit.DAYS.between(startDate, date);
+        checkArgument(day >= 0 && day < dayCount, "Date is not in the report: " + date);
+        return onLeaveCounts[indexOf(tag)][(int) day];
+    }
+
+    private int indexOf(Tag tag) {
+        requireNonNull(tag);
+        Integer tagIndex = tagIndices.get(tag);
+        checkArgument(tagIndex != null, "Tag is not in the report: " + tag);
+        return tagIndex;
+    }
+}
@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +22,50 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is fully determined by their {@code Nric}, the list also keeps an index from
+ * {@code Nric} to {@code Person} so that identity checks do not need to scan the whole list.
+ *
+ * The list can also hold the persons of a {@link LazyPersonSource}, which are then only materialized when they are
+ * accessed. Persons that are changed in place must be passed to {@link #markChanged(Person)} to keep the changes.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final LazyPersonList internalList = new LazyPersonList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** Persons held directly by {@code internalList}, which excludes the persons it still holds lazily. */
+    private final Map<Nric, Person> nricIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return containsNric(toCheck.getNric());
+    }
+
+    /**
+     * Returns true if the list contains a person with the given {@code nric}, without loading the person.
+     */
+    public boolean containsNric(Nric nric) {
+        requireNonNull(nric);
+        return nricIndex.containsKey(nric) || internalList.isHeldLazily(nric);
+    }
+
+    /**
+     * Returns the person with the given {@code nric}, or null if there is no such person in the list.
+     */
+    public Person get(Nric nric) {
+        requireNonNull(nric);
+        Person person = nricIndex.get(nric);
+        if (person == null && internalList.isHeldLazily(nric)) {
+            person = internalList.get(internalList.indexOfNric(nric));
+        }
+        return person;
     }
 
     /**
@@ -46,6 +78,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        nricIndex.put(toAdd.getNric(), toAdd);
     }
 
     /**
@@ -56,16 +89,15 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        int index = indexOf(target);
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        nricIndex.remove(target.getNric());
+        nricIndex.put(editedPerson.getNric(), editedPerson);
     }
 
     /**
@@ -74,14 +106,28 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        internalList.remove(indexOf(toRemove));
+        nricIndex.remove(toRemove.getNric());
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * As {@code replacement} already enforces uniqueness, its persons are not re-validated.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nricIndex.clear();
+        nricIndex.putAll(replacement.nricIndex);
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code source}, without materializing any of them.
+     */
+    public void setPersons(LazyPersonSource source) {
+        requireNonNull(source);
+        internalList.setSource(source);
+        nricIndex.clear();
     }
 
     /**
@@ -95,6 +141,49 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildIndex();
+    }
+
+    /**
+     * Begins a batch of changes to the list. The changes made until the matching {@link #endBatch()} are reported to
+     * observers of the list as a single change that replaces all the persons. Batches can be nested.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch of changes begun by the matching call to {@link #beginBatch()}.
+     *
+     * @throws IllegalStateException if no batch has begun.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Records that {@code person}, which is in the list, has been changed in place.
+     * If the list only held the person lazily, it now holds {@code person} itself so that the changes are kept.
+     */
+    public void markChanged(Person person) {
+        requireNonNull(person);
+        if (internalList.isHeldLazily(person.getNric())) {
+            internalList.hold(person);
+            nricIndex.put(person.getNric(), person);
+        }
+    }
+
+    /**
+     * Returns a copy of this list that does not share any changeable state with this list.
+     * See {@link Person#copy()}. Persons held lazily stay lazy in the copy.
+     */
+    public UniquePersonList copy() {
+        UniquePersonList copy = new UniquePersonList();
+        copy.internalList.setAll(internalList.copy());
+        for (Person person : copy.internalList.getHeldPersons()) {
+            copy.nricIndex.put(person.getNric(), person);
+        }
+        return copy;
     }
 
     /**
@@ -134,15 +223,37 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the index of the person equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person in the list.
+     */
+    private int indexOf(Person person) {
+        int index = internalList.indexOfNric(person.getNric());
+        if (index == -1 || !internalList.get(index).equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Rebuilds the {@code Nric} index from the current contents of the list.
+     */
+    private void rebuildIndex() {
+        nricIndex.clear();
+        for (Person person : internalList) {
+            nricIndex.put(person.getNric(), person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Nric> seenNrics = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNrics.add(person.getNric())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,184 @@
+package seedu.address.model.person.comparators;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A comparator that sorts persons by a list of attributes, each in ascending or descending order. Persons equal in
+ * one attribute are sorted by the next, and persons equal in all of them are sorted by NRIC, so that the order of
+ * persons does not depend on the order they were in before.
+ *
+ * A single comparison works out the keys of the attributes of both persons. {@link #sort(List)} works out the keys of
+ * each person once for the whole sort instead, rather than once for each comparison, and keeps them only until the
+ * sort is done, as persons can be changed in place and replaced while the sort order is in use.
+ */
+public class PersonSortOrder implements Comparator<Person> {
+
+    private final List<SortCriterion> criteria;
+
+    /**
+     * Creates a sort order by {@code criteria}, the first of which matters most.
+     *
+     * @throws IllegalArgumentException if {@code criteria} is empty.
+     */
+    public PersonSortOrder(List<SortCriterion> criteria) {
+        requireNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), "A sort order needs at least one attribute.");
+        this.criteria = List.copyOf(criteria);
+    }
+
+    public List<SortCriterion> getCriteria() {
+        return criteria;
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return compare(new KeyedPerson(first), new KeyedPerson(second));
+    }
+
+    /**
+     * Sorts {@code persons} in this order, working out the keys of each person once.
+     */
+    public void sort(List<Person> persons) {
+        requireNonNull(persons);
+        if (persons.size() < 2) {
+            return;
+        }
+
+        KeyedPerson[] keyedPersons = new KeyedPerson[persons.size()];
+        for (int i = 0; i < keyedPersons.length; i++) {
+            keyedPersons[i] = new KeyedPerson(persons.get(i));
+        }
+        Arrays.sort(keyedPersons, this::compare);
+
+        ListIterator<Person> iterator = persons.listIterator();
+        for (KeyedPerson keyedPerson : keyedPersons) {
+            iterator.next();
+            iterator.set(keyedPerson.person);
+        }
+    }
+
+    private int compare(KeyedPerson first, KeyedPerson second) {
+        for (int i = 0; i < first.keys.length; i++) {
+            int comparison = first.keys[i].compareTo(second.keys[i]);
+            if (comparison != 0) {
+                return criteria.get(i).isAscending() ? comparison : -comparison;
+            }
+        }
+        return first.person.getNric().toString().compareTo(second.person.getNric().toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortOrder)) {
+            return false;
+        }
+
+        PersonSortOrder otherSortOrder = (PersonSortOrder) other;
+        return criteria.equals(otherSortOrder.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criteria", criteria)
+                .toString();
+    }
+
+    /**
+     * Returns a description of the sort order, such as {@code name in ascending order, then hire in descending order}.
+     */
+    public String getDescription() {
+        return criteria.stream().map(SortCriterion::getDescription).collect(Collectors.joining(", then "));
+    }
+
+    /**
+     * A person with the keys of the attributes of this sort order.
+     */
+    private class KeyedPerson {
+        private final Person person;
+        private final String[] keys;
+
+        KeyedPerson(Person person) {
+            this.person = person;
+            keys = new String[criteria.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = criteria.get(i).getAttribute().getSortKey(person);
+            }
+        }
+    }
+
+    /**
+     * An attribute to sort persons by, in ascending or descending order.
+     */
+    public static class SortCriterion {
+        private final SortAttribute attribute;
+        private final boolean isAscending;
+
+        /**
+         * Creates a criterion to sort persons by {@code attribute}, in ascending order if {@code isAscending}.
+         */
+        public SortCriterion(SortAttribute attribute, boolean isAscending) {
+            requireNonNull(attribute);
+            this.attribute = attribute;
+            this.isAscending = isAscending;
+        }
+
+        public SortAttribute getAttribute() {
+            return attribute;
+        }
+
+        public boolean isAscending() {
+            return isAscending;
+        }
+
+        private String getDescription() {
+            return attribute.getKeyword() + " in " + (isAscending ? "ascending" : "descending") + " order";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SortCriterion)) {
+                return false;
+            }
+
+            SortCriterion otherCriterion = (SortCriterion) other;
+            return attribute == otherCriterion.attribute && isAscending == otherCriterion.isAscending;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(attribute, isAscending);
+        }
+
+        @Override
+        public String toString() {
+            return attribute.getKeyword() + (isAscending ? " asc" : " desc");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person.comparators;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An attribute of a person that persons can be sorted by.
+ */
+public enum SortAttribute {
+    NAME("name"),
+    NRIC("nric"),
+    PHONE("phone"),
+    ADDRESS("address"),
+    EMAIL("email"),
+    HIRE("hire"),
+    TAG("tag");
+
+    private final String keyword;
+
+    SortAttribute(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the word that names this attribute in a command.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the attribute named {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<SortAttribute> fromKeyword(String keyword) {
+        for (SortAttribute attribute : values()) {
+            if (attribute.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(attribute);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the key of {@code person} for this attribute, so that persons are sorted by comparing their keys.
+     * Names, NRICs, addresses, emails and tags are compared ignoring case, and hire dates from the earliest. Persons
+     * are sorted by the first of their tags in alphabetical order, and persons without tags come first.
+     */
+    public String getSortKey(Person person) {
+        switch (this) {
+        case NAME:
+            return person.getName().toString().toLowerCase(Locale.ROOT);
+        case NRIC:
+            return person.getNric().toString().toLowerCase(Locale.ROOT);
+        case PHONE:
+            return person.getPhone().toString();
+        case ADDRESS:
+            return person.getAddress().toString().toLowerCase(Locale.ROOT);
+        case EMAIL:
+            return person.getEmail().toString().toLowerCase(Locale.ROOT);
+        case HIRE:
+            return person.getHire().toString();
+        default:
+            return person.getTags().getTags().stream()
+                    .map(tag -> tag.tagName.toLowerCase(Locale.ROOT))
+                    .min(String::compareTo)
+                    .orElse("");
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the words in the names of persons by their trigrams, which finds the persons with names similar to some
+ * keywords without comparing the keywords with every name.
+ *
+ * The trigrams of a word are its substrings of three letters, after marking its start and end with {@code $$}, so
+ * that {@code alice} has the trigrams {@code $$a}, {@code $al}, {@code ali}, {@code lic}, {@code ice}, {@code ce$} and
+ * {@code e$$}. An edit changes at most four trigrams of a word, so a word within {@code k} edits of a keyword shares
+ * all but at most {@code 4k} of the trigrams of the keyword, and only the words sharing enough trigrams with a
+ * keyword are compared with it. The double marks give even a word of three letters one trigram to spare. Each word is
+ * compared once, however many persons share it, by counting the insertions, deletions, substitutions and swaps of
+ * adjacent letters needed to turn the keyword into the word.
+ */
+public class NameTrigramIndex {
+
+    private static final String WORD_BOUNDARY = "$$";
+
+    /** The words in the names of persons, by their trigrams. */
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    /** The persons with each word in their name. */
+    private final Map<String, Set<Entry>> wordEntries = new HashMap<>();
+    private final Map<Nric, Entry> entries = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public NameTrigramIndex() {}
+
+    /**
+     * Creates an index of the names of {@code persons}.
+     */
+    public NameTrigramIndex(Iterable<Person> persons) {
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the number of edits allowed between a keyword of {@code length} letters and a word it matches.
+     * Short keywords must match exactly, as almost any short word is a few edits away from them.
+     */
+    public static int getMaxEdits(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Adds the name of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Entry entry = new Entry(person.getNric(), person.getName().fullName);
+        entries.put(entry.nric, entry);
+        for (String word : entry.words) {
+            Set<Entry> persons = wordEntries.get(word);
+            if (persons == null) {
+                persons = new HashSet<>();
+                wordEntries.put(word, persons);
+                for (String trigram : getTrigrams(word)) {
+                    postings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            persons.add(entry);
+        }
+    }
+
+    /**
+     * Removes the name of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Entry entry = entries.remove(person.getNric());
+        if (entry == null) {
+            return;
+        }
+        for (String word : entry.words) {
+            Set<Entry> persons = wordEntries.get(word);
+            if (persons == null || !persons.remove(entry) || !persons.isEmpty()) {
+                continue;
+            }
+            wordEntries.remove(word);
+            for (String trigram : getTrigrams(word)) {
+                Set<String> words = postings.get(trigram);
+                if (words != null && words.remove(word) && words.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the persons with a word in their name within the allowed number of edits of any of {@code keywords},
+     * closest first. Persons matching more keywords come first, then those needing fewer edits in total, and then
+     * persons are ordered by name.
+     */
+    public List<NameMatch> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Entry, NameMatch> matches = new HashMap<>();
+        for (String keyword : keywords) {
+            for (String word : PersonSearchIndex.tokenize(keyword)) {
+                addMatches(word, matches);
+            }
+        }
+
+        List<NameMatch> rankedMatches = new ArrayList<>(matches.values());
+        rankedMatches.sort(Comparator.comparingInt(NameMatch::getMatchedKeywordCount).reversed()
+                .thenComparingInt(NameMatch::getEditCount)
+                .thenComparing(NameMatch::getName)
+                .thenComparing(match -> match.getNric().nric));
+        return rankedMatches;
+    }
+
+    /**
+     * Adds the persons with a word in their name within the allowed number of edits of {@code keyword} to
+     * {@code matches}.
+     */
+    private void addMatches(String keyword, Map<Entry, NameMatch> matches) {
+        int maxEdits = getMaxEdits(keyword.length());
+        Set<String> trigrams = new HashSet<>(getTrigrams(keyword));
+        int minSharedTrigrams = Math.max(1, trigrams.size() - 4 * maxEdits);
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : postings.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigrams.merge(word, 1, Integer::sum);
+            }
+        }
+
+        // The fewest edits to any word in the name of each person, as a name can have more than one similar word
+        Map<Entry, Integer> keywordEdits = new HashMap<>();
+        for (Map.Entry<String, Integer> candidate : sharedTrigrams.entrySet()) {
+            if (candidate.getValue() < minSharedTrigrams) {
+                continue;
+            }
+            int edits = getEditDistance(keyword, candidate.getKey(), maxEdits);
+            if (edits > maxEdits) {
+                continue;
+            }
+            for (Entry entry : wordEntries.get(candidate.getKey())) {
+                keywordEdits.merge(entry, edits, Math::min);
+            }
+        }
+
+        keywordEdits.forEach((entry, edits) ->
+                matches.computeIfAbsent(entry, unused -> new NameMatch(entry.nric, entry.name)).addKeyword(edits));
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, with its start and end marked.
+     */
+    static List<String> getTrigrams(String word) {
+        String markedWord = WORD_BOUNDARY + word + WORD_BOUNDARY;
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + 3 <= markedWord.length(); i++) {
+            trigrams.add(markedWord.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and swaps of adjacent letters needed to turn
+     * {@code first} into {@code second}, or {@code maxEdits + 1} if more than {@code maxEdits} are needed.
+     */
+    static int getEditDistance(String first, String second, int maxEdits) {
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        int[] nextRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            nextRow[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(row[j] + 1, nextRow[j - 1] + 1), row[j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, previousRow[j - 2] + 1);
+                }
+                nextRow[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] oldRow = previousRow;
+            previousRow = row;
+            row = nextRow;
+            nextRow = oldRow;
+        }
+        return Math.min(row[second.length()], maxEdits + 1);
+    }
+
+    /**
+     * The name of a person in the index, split into words.
+     */
+    private static class Entry {
+        private final Nric nric;
+        private final String name;
+        private final List<String> words;
+
+        Entry(Nric nric, String name) {
+            this.nric = nric;
+            this.name = name;
+            this.words = PersonSearchIndex.tokenize(name);
+        }
+    }
+
+    /**
+     * A person whose name matches some of the keywords of a search.
+     */
+    public static class NameMatch {
+        private final Nric nric;
+        private final String name;
+        private int matchedKeywordCount;
+        private int editCount;
+
+        NameMatch(Nric nric, String name) {
+            this.nric = nric;
+            this.name = name;
+        }
+
+        private void addKeyword(int edits) {
+            matchedKeywordCount++;
+            editCount += edits;
+        }
+
+        public Nric getNric() {
+            return nric;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of keywords matching a word in the name.
+         */
+        public int getMatchedKeywordCount() {
+            return matchedKeywordCount;
+        }
+
+        /**
+         * Returns the total number of edits between the matching keywords and the words they match.
+         */
+        public int getEditCount() {
+            return editCount;
+        }
+    }
+}
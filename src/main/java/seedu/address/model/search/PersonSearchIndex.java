@@ -0,0 +1,177 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the words in the fields of persons, which finds the persons matching a {@code SearchQuery} without
+ * going through every person.
+ *
+ * For each field, the index maps every word in that field to the {@code Nric}s of the persons whose field has the
+ * word. Words are the runs of letters and digits in a field, in lower case, so that an email such as
+ * {@code alice@example.com} has the words {@code alice}, {@code example} and {@code com}. The words are kept sorted,
+ * so that the words starting with a prefix are next to each other.
+ */
+public class PersonSearchIndex {
+
+    private final Map<SearchField, TreeMap<String, Set<Nric>>> fieldIndexes = new EnumMap<>(SearchField.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonSearchIndex() {
+        for (SearchField field : SearchField.values()) {
+            fieldIndexes.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Creates an index of {@code persons}.
+     */
+    public PersonSearchIndex(Iterable<Person> persons) {
+        this();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the words of {@code text}, in lower case and in order.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && isWordChar(text.charAt(i));
+            if (isWordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!isWordChar && wordStart >= 0) {
+                words.add(text.substring(wordStart, i).toLowerCase(Locale.ROOT));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, matching {@code \p{Alnum}} in the validation of fields.
+     */
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Adds the words in the fields of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (SearchField field : SearchField.values()) {
+            TreeMap<String, Set<Nric>> index = fieldIndexes.get(field);
+            for (String value : field.getValues(person)) {
+                for (String word : tokenize(value)) {
+                    index.computeIfAbsent(word, unused -> new HashSet<>()).add(person.getNric());
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the words in the fields of {@code person} from the index.
+     * {@code person} must have the same fields as when it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (SearchField field : SearchField.values()) {
+            TreeMap<String, Set<Nric>> index = fieldIndexes.get(field);
+            for (String value : field.getValues(person)) {
+                for (String word : tokenize(value)) {
+                    Set<Nric> nrics = index.get(word);
+                    if (nrics != null && nrics.remove(person.getNric()) && nrics.isEmpty()) {
+                        index.remove(word);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code Nric}s of the persons matching {@code query}, in no particular order.
+     */
+    public Set<Nric> search(SearchQuery query) {
+        requireNonNull(query);
+        Set<Nric> matches = null;
+        if (!query.getKeywords().isEmpty()) {
+            matches = findAny(query.getKeywords(), List.of(SearchField.values()));
+        }
+        for (Map.Entry<SearchField, List<String>> entry : query.getFieldKeywords().entrySet()) {
+            Set<Nric> fieldMatches = findAny(entry.getValue(), List.of(entry.getKey()));
+            if (matches == null) {
+                matches = fieldMatches;
+            } else {
+                matches.retainAll(fieldMatches);
+            }
+        }
+        return matches == null ? new HashSet<>() : matches;
+    }
+
+    /**
+     * Returns the {@code Nric}s of the persons matching any of {@code keywords} in any of {@code fields}.
+     */
+    private Set<Nric> findAny(List<String> keywords, List<SearchField> fields) {
+        Set<Nric> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            boolean isPrefix = keyword.endsWith(SearchQuery.PREFIX_WILDCARD);
+            List<String> words = tokenize(keyword);
+            if (words.isEmpty()) {
+                continue;
+            }
+            for (SearchField field : fields) {
+                matches.addAll(findAll(fieldIndexes.get(field), words, isPrefix));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the {@code Nric}s of the persons with all of {@code words} in {@code index}.
+     * If {@code isLastPrefix}, the last word matches any word that starts with it.
+     */
+    private static Set<Nric> findAll(TreeMap<String, Set<Nric>> index, List<String> words, boolean isLastPrefix) {
+        Set<Nric> matches = null;
+        for (int i = 0; i < words.size(); i++) {
+            Set<Nric> wordMatches = isLastPrefix && i == words.size() - 1
+                    ? findPrefix(index, words.get(i))
+                    : index.getOrDefault(words.get(i), Collections.emptySet());
+            if (matches == null) {
+                matches = new HashSet<>(wordMatches);
+            } else {
+                matches.retainAll(wordMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Nric> findPrefix(TreeMap<String, Set<Nric>> index, String prefix) {
+        Set<Nric> matches = new HashSet<>();
+        for (Set<Nric> nrics : index.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            matches.addAll(nrics);
+        }
+        return matches;
+    }
+}
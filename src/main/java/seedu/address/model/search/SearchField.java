@@ -0,0 +1,38 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A field of a person that can be searched.
+ */
+public enum SearchField {
+    NAME,
+    NRIC,
+    PHONE,
+    EMAIL,
+    ADDRESS,
+    TAG;
+
+    /**
+     * Returns the text of this field of {@code person}, with one element for each tag.
+     */
+    public List<String> getValues(Person person) {
+        switch (this) {
+        case NAME:
+            return List.of(person.getName().fullName);
+        case NRIC:
+            return List.of(person.getNric().nric);
+        case PHONE:
+            return List.of(person.getPhone().value);
+        case EMAIL:
+            return List.of(person.getEmail().value);
+        case ADDRESS:
+            return List.of(person.getAddress().value);
+        default:
+            return person.getTags().getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A query for persons, made of keywords that may be in any field and keywords that must be in a given field.
+ *
+ * A person matches the query if they match at least one of the keywords for each field that has keywords, and at
+ * least one of the keywords for any field if there are such keywords. A person matches a keyword if the words of the
+ * keyword are all among the words of one field. Matching ignores case, and a keyword ending with
+ * {@value #PREFIX_WILDCARD} matches any word that starts with its last word.
+ */
+public class SearchQuery {
+
+    public static final String PREFIX_WILDCARD = "*";
+
+    private final List<String> keywords;
+    private final Map<SearchField, List<String>> fieldKeywords;
+
+    /**
+     * Creates a query for the persons matching {@code keywords} in any field and {@code fieldKeywords} in the
+     * given fields.
+     */
+    public SearchQuery(List<String> keywords, Map<SearchField, List<String>> fieldKeywords) {
+        requireNonNull(keywords);
+        requireNonNull(fieldKeywords);
+        this.keywords = List.copyOf(keywords);
+        this.fieldKeywords = new EnumMap<>(SearchField.class);
+        fieldKeywords.forEach((field, values) -> {
+            if (!values.isEmpty()) {
+                this.fieldKeywords.put(field, List.copyOf(values));
+            }
+        });
+    }
+
+    /**
+     * Creates a query for the persons matching {@code keywords} in any field.
+     */
+    public SearchQuery(List<String> keywords) {
+        this(keywords, Collections.emptyMap());
+    }
+
+    /**
+     * Returns the keywords that may be in any field.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the keywords that must be in each field, leaving out the fields without keywords.
+     */
+    public Map<SearchField, List<String>> getFieldKeywords() {
+        return Collections.unmodifiableMap(fieldKeywords);
+    }
+
+    /**
+     * Returns true if the query has no keywords at all.
+     */
+    public boolean isEmpty() {
+        return keywords.isEmpty() && fieldKeywords.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchQuery)) {
+            return false;
+        }
+
+        SearchQuery otherQuery = (SearchQuery) other;
+        return keywords.equals(otherQuery.keywords) && fieldKeywords.equals(otherQuery.fieldKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, fieldKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .add("fieldKeywords", fieldKeywords)
+                .toString();
+    }
+}
@@ -42,4 +42,9 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Forces the saves whose forcing onto the storage device was deferred by the durability policy onto it now.
+     */
+    void syncPendingWrites();
+
 }
@@ -0,0 +1,266 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Writes data files so that a failed write never leaves a partially written file behind, and keeps the previous
+ * {@value #BACKUP_COUNT} versions of each file as backups unless told not to.
+ *
+ * Each write goes to a temporary file that replaces the data file in a single step once it is complete.
+ * Writes are forced onto the storage device according to a {@link DurabilityPolicy}, so that unless the policy is
+ * {@code NEVER}, a power loss leaves either the new or a previous complete version of the data file.
+ *
+ * Under {@code BATCHED}, a change that is not forced right away is forced on a background thread at the end of the
+ * current interval, or earlier by {@link #syncPending()}, so every change is forced at most
+ * {@value #BATCHED_SYNC_INTERVAL_MILLIS} ms after it is made.
+ */
+class AtomicFileWriter {
+
+    /** Number of previous versions of a data file that are kept. */
+    static final int BACKUP_COUNT = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicFileWriter.class);
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final long BATCHED_SYNC_INTERVAL_MILLIS = 1000;
+
+    private static final ScheduledExecutorService syncScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "deferred-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final DurabilityPolicy durabilityPolicy;
+    private final boolean isBackedUp;
+    private long lastSyncMillis;
+    /** Files and folders whose changes are yet to be forced onto the storage device, in the order they changed. */
+    private final Set<Path> pendingSyncPaths = new LinkedHashSet<>();
+    /** The deferred call to {@link #syncPending()}, or null if none is scheduled. */
+    private ScheduledFuture<?> scheduledSync;
+
+    /**
+     * Writes the contents of a data file.
+     */
+    @FunctionalInterface
+    interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the contents of a data file.
+     */
+    @FunctionalInterface
+    interface ContentReader<T> {
+        /**
+         * Returns the contents of the file at {@code filePath}, or {@code Optional.empty()} if there is no such file.
+         */
+        Optional<T> read(Path filePath) throws DataLoadingException;
+    }
+
+    AtomicFileWriter(DurabilityPolicy durabilityPolicy) {
+        this(durabilityPolicy, true);
+    }
+
+    /**
+     * Creates an {@code AtomicFileWriter} that keeps backups of the files it replaces only if {@code isBackedUp}.
+     */
+    AtomicFileWriter(DurabilityPolicy durabilityPolicy, boolean isBackedUp) {
+        requireNonNull(durabilityPolicy);
+        this.durabilityPolicy = durabilityPolicy;
+        this.isBackedUp = isBackedUp;
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with the contents written by {@code contentWriter}.
+     * The contents are first written to a temporary file, which then replaces the data file in a single step.
+     * The replaced data file becomes the newest backup, if backups are kept.
+     *
+     * Unless the policy is {@code NEVER}, the temporary file is forced onto the storage device before it replaces
+     * the data file, so the data file is complete even if the computer loses power right after. Only forcing the
+     * replacement itself is batched, which at worst leaves the previous version of the data file after a power loss.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    void write(Path filePath, ContentWriter contentWriter) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        boolean isForced = durabilityPolicy != DurabilityPolicy.NEVER;
+
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            contentWriter.writeTo(Channels.newOutputStream(channel));
+            if (isForced) {
+                channel.force(true);
+            }
+        }
+
+        if (isBackedUp) {
+            rotateBackups(filePath);
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (shouldSync(directory)) {
+            force(directory);
+        }
+    }
+
+    /**
+     * Returns true if the change just made to the file or folder at {@code path}, such as replacing a data file in
+     * a folder or appending to a journal, should be forced onto the storage device now by the caller.
+     * Under {@code BATCHED}, a change made too soon after the last forced one is instead forced by this writer at the
+     * end of the interval, and false is returned.
+     */
+    synchronized boolean shouldSync(Path path) {
+        requireNonNull(path);
+        switch (durabilityPolicy) {
+        case ALWAYS:
+            return true;
+        case BATCHED:
+            long now = System.currentTimeMillis();
+            long delayMillis = lastSyncMillis + BATCHED_SYNC_INTERVAL_MILLIS - now;
+            if (delayMillis <= 0) {
+                lastSyncMillis = now;
+                return true;
+            }
+            pendingSyncPaths.add(path);
+            if (scheduledSync == null) {
+                scheduledSync = syncScheduler.schedule(this::syncPending, delayMillis, TimeUnit.MILLISECONDS);
+            }
+            return false;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Forces the changes whose forcing was deferred by {@link #shouldSync(Path)} onto the storage device now.
+     */
+    void syncPending() {
+        List<Path> paths;
+        synchronized (this) {
+            if (scheduledSync != null) {
+                scheduledSync.cancel(false);
+                scheduledSync = null;
+            }
+            if (pendingSyncPaths.isEmpty()) {
+                return;
+            }
+            paths = new ArrayList<>(pendingSyncPaths);
+            pendingSyncPaths.clear();
+            lastSyncMillis = System.currentTimeMillis();
+        }
+        paths.forEach(AtomicFileWriter::force);
+    }
+
+    /**
+     * Returns true if some changes are yet to be forced by {@link #syncPending()}.
+     */
+    synchronized boolean hasPendingSyncs() {
+        return !pendingSyncPaths.isEmpty();
+    }
+
+    /**
+     * Reads the file at {@code filePath} with {@code contentReader}.
+     * If the file is invalid, its newest valid backup is read instead. A missing file is not considered invalid.
+     *
+     * @throws DataLoadingException if the file is invalid and none of its backups are valid.
+     */
+    static <T> Optional<T> readWithBackups(Path filePath, ContentReader<T> contentReader)
+            throws DataLoadingException {
+        try {
+            return contentReader.read(filePath);
+        } catch (DataLoadingException e) {
+            for (int i = 1; i <= BACKUP_COUNT; i++) {
+                Path backupPath = getBackupPath(filePath, i);
+                try {
+                    Optional<T> backup = contentReader.read(backupPath);
+                    if (backup.isPresent()) {
+                        logger.warning("Data file " + filePath + " is invalid, using backup " + backupPath
+                                + " instead");
+                        return backup;
+                    }
+                } catch (DataLoadingException backupException) {
+                    logger.warning("Backup " + backupPath + " is invalid as well");
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the path of the {@code index}-th newest backup of {@code filePath}, starting from 1.
+     */
+    static Path getBackupPath(Path filePath, int index) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX + index);
+    }
+
+    /**
+     * Shifts each backup of {@code filePath} one place older, dropping the oldest, and makes the current
+     * data file the newest backup. The data file itself stays in place.
+     */
+    private static void rotateBackups(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        for (int i = BACKUP_COUNT - 1; i >= 1; i--) {
+            Path backupPath = getBackupPath(filePath, i);
+            if (Files.exists(backupPath)) {
+                Files.move(backupPath, getBackupPath(filePath, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestBackupPath = getBackupPath(filePath, 1);
+        Files.deleteIfExists(newestBackupPath);
+        try {
+            // A hard link keeps the old contents without copying them, as the data file is replaced rather than
+            // overwritten
+            Files.createLink(newestBackupPath, filePath);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(filePath, newestBackupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the file or folder at {@code path} onto the storage device. Forcing a folder makes a completed rename in
+     * it survive a crash, which not all platforms support, in which case nothing is done. A file that no longer
+     * exists, such as a journal that has since been compacted, is skipped as well.
+     */
+    private static void force(Path path) {
+        StandardOpenOption mode = Files.isDirectory(path) ? StandardOpenOption.READ : StandardOpenOption.WRITE;
+        try (FileChannel channel = FileChannel.open(path, mode)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Unable to sync " + path + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a dictionary of every tag in the address
+ * book, so that each person refers to its tags by their index in the dictionary. Each person is then stored as a
+ * record prefixed by its length in bytes. See {@link BinaryPersonCodec} for the layout of each record.
+ *
+ * Like {@link JsonAddressBookStorage}, saves replace the data file in a single step and keep backups of the previous
+ * versions. See {@link AtomicFileWriter}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Identifies the file as a binary address book. Spells "AB3B" in ASCII. */
+    static final int MAGIC = 0x41423342;
+    /** Version of the format written. Files of earlier versions can still be read. */
+    static final int VERSION = BinaryPersonCodec.LEDGER_VERSION;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private AtomicFileWriter fileWriter;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, DurabilityPolicy.BATCHED);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that forces saves onto the storage device according to
+     * {@code durabilityPolicy}.
+     */
+    public BinaryAddressBookStorage(Path filePath, DurabilityPolicy durabilityPolicy) {
+        this.filePath = filePath;
+        this.fileWriter = new AtomicFileWriter(durabilityPolicy);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        return AtomicFileWriter.readWithBackups(filePath, BinaryAddressBookStorage::readFile);
+    }
+
+    private static Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readPersons(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the address book from {@code in}, in the format written by {@link #writePersons(List, OutputStream)}.
+     *
+     * @throws IOException if the data could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook readPersons(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary address book file");
+        }
+        int version = in.readInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported binary address book version " + version);
+        }
+
+        Tag[] tags = new Tag[BinaryPersonCodec.readCount(in)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = BinaryPersonCodec.readTag(in);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = BinaryPersonCodec.readCount(in);
+        byte[] record = new byte[0];
+        for (int i = 0; i < personCount; i++) {
+            int recordLength = BinaryPersonCodec.readCount(in);
+            if (record.length < recordLength) {
+                record = new byte[recordLength];
+            }
+            in.readFully(record, 0, recordLength);
+
+            DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(record, 0, recordLength));
+            Person person = BinaryPersonCodec.readPerson(recordIn, tags, version);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        fileWriter.write(filePath, out -> writePersons(persons, out));
+    }
+
+    @Override
+    public void syncPendingWrites() {
+        fileWriter.syncPending();
+    }
+
+    /**
+     * Writes {@code persons} in the binary format to {@code out}, without closing it.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    private static void writePersons(List<Person> persons, OutputStream out) throws IOException {
+        Map<Tag, Integer> tagIndices = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags().getTags()) {
+                tagIndices.putIfAbsent(tag, tagIndices.size());
+            }
+        }
+
+        DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(VERSION);
+
+        dataOut.writeInt(tagIndices.size());
+        for (Tag tag : tagIndices.keySet()) {
+            BinaryPersonCodec.writeTag(tag, dataOut);
+        }
+
+        // Each record is written to a reusable buffer first, as its length has to be written before it
+        ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+        dataOut.writeInt(persons.size());
+        for (Person person : persons) {
+            recordBuffer.reset();
+            BinaryPersonCodec.writePerson(person, recordOut, tagIndices);
+            dataOut.writeInt(recordBuffer.size());
+            recordBuffer.writeTo(dataOut);
+        }
+        dataOut.flush();
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceLedger;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Hire;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Tag;
+import seedu.address.model.person.TagSet;
+
+/**
+ * Encodes and decodes the binary record of a single {@code Person}, as stored by the binary data file formats.
+ *
+ * Tags are stored as indices into a dictionary of tags that is kept separately from the records. Dates are stored as
+ * days since the epoch, and attendance as the work and absent day counts followed by the attendance ledger. The
+ * ledger is stored as the bitset of the days on which attendance was taken for each year, and the days on which the
+ * person was absent. Strings are stored in modified UTF-8, as written by {@link DataOutputStream#writeUTF(String)}.
+ */
+class BinaryPersonCodec {
+
+    /** The first version of the binary formats whose records include the attendance ledger. */
+    static final int LEDGER_VERSION = 2;
+
+    private BinaryPersonCodec() {}
+
+    /**
+     * Reads a single person record from {@code in}, looking up its tags in {@code tags}.
+     * The record is read as written by version {@code version} of the binary formats.
+     *
+     * @throws IOException if the record could not be read or refers to an unknown tag.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Person readPerson(DataInput in, Tag[] tags, int version) throws IOException, IllegalValueException {
+        Name name = toModelType(in.readUTF(), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::new);
+        Nric nric = toModelType(in.readUTF(), Nric::isValidNric, Nric.MESSAGE_CONSTRAINTS, Nric::new);
+        Phone phone = toModelType(in.readUTF(), Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS, Phone::new);
+        Email email = toModelType(in.readUTF(), Email::isValidEmail, Email.MESSAGE_CONSTRAINTS, Email::new);
+        Address address = toModelType(in.readUTF(), Address::isValidAddress, Address.MESSAGE_CONSTRAINTS,
+                Address::new);
+        String hireDate = LocalDate.ofEpochDay(in.readInt()).format(Leave.DATE_FORMATER);
+        Hire hire = toModelType(hireDate, Hire::isValidHire, Hire.MESSAGE_CONSTRAINTS, Hire::new);
+
+        int tagCount = readCount(in);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = in.readInt();
+            if (tagIndex < 0 || tagIndex >= tags.length) {
+                throw new IOException("Unknown tag index " + tagIndex);
+            }
+            personTags.add(tags[tagIndex]);
+        }
+
+        int leaveCount = readCount(in);
+        List<Leave> leaves = new ArrayList<>(leaveCount);
+        for (int i = 0; i < leaveCount; i++) {
+            LocalDate startDate = LocalDate.ofEpochDay(in.readInt());
+            LocalDate endDate = LocalDate.ofEpochDay(in.readInt());
+            String reason = in.readUTF();
+            if (!Leave.isValidLeave(startDate, endDate, reason)) {
+                throw new IllegalValueException(Leave.DATE_CONSTRAINTS);
+            }
+            leaves.add(new Leave(startDate, endDate, reason));
+        }
+
+        int workDayCount = in.readInt();
+        int absentDayCount = in.readInt();
+        AttendanceLedger ledger = version >= LEDGER_VERSION ? readLedger(in) : new AttendanceLedger();
+        if (!Attendance.isValidAttendance(workDayCount, absentDayCount, ledger)) {
+            throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+        }
+
+        return new Person(name, nric, phone, email, address, hire, new TagSet(personTags), leaves,
+                new Attendance(workDayCount, absentDayCount, ledger));
+    }
+
+    private static AttendanceLedger readLedger(DataInput in) throws IOException, IllegalValueException {
+        int yearCount = readCount(in);
+        Map<Integer, long[]> trackedDays = new HashMap<>();
+        for (int i = 0; i < yearCount; i++) {
+            int year = in.readInt();
+            long[] words = new long[in.readUnsignedByte()];
+            for (int j = 0; j < words.length; j++) {
+                words[j] = in.readLong();
+            }
+            if (!AttendanceLedger.isValidTrackedDays(year, words) || trackedDays.put(year, words) != null) {
+                throw new IllegalValueException(AttendanceLedger.MESSAGE_CONSTRAINTS);
+            }
+        }
+
+        int absentDayCount = readCount(in);
+        List<LocalDate> absentDays = new ArrayList<>(absentDayCount);
+        for (int i = 0; i < absentDayCount; i++) {
+            absentDays.add(LocalDate.ofEpochDay(in.readInt()));
+        }
+
+        try {
+            return AttendanceLedger.of(trackedDays, absentDays);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(AttendanceLedger.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Writes the record of {@code person} to {@code out}.
+     * Tags of the person that are not yet in {@code tagIndices} are added to it with the next unused index.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    static void writePerson(Person person, DataOutput out, Map<Tag, Integer> tagIndices) throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getNric().nric);
+        out.writeUTF(person.getPhone().value);
+        out.writeUTF(person.getEmail().value);
+        out.writeUTF(person.getAddress().value);
+        out.writeInt((int) person.getHire().toLocalDate().toEpochDay());
+
+        Set<Tag> tags = person.getTags().getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            Integer tagIndex = tagIndices.get(tag);
+            if (tagIndex == null) {
+                tagIndex = tagIndices.size();
+                tagIndices.put(tag, tagIndex);
+            }
+            out.writeInt(tagIndex);
+        }
+
+        List<Leave> leaves = person.getLeaves();
+        out.writeInt(leaves.size());
+        for (Leave leave : leaves) {
+            out.writeInt((int) leave.getStartDate().toEpochDay());
+            out.writeInt((int) leave.getEndDate().toEpochDay());
+            out.writeUTF(leave.getReason());
+        }
+
+        Attendance attendance = person.getAttendance();
+        out.writeInt(attendance.getWorkDayCount());
+        out.writeInt(attendance.getAbsentDayCount());
+        writeLedger(attendance.getLedger(), out);
+    }
+
+    private static void writeLedger(AttendanceLedger ledger, DataOutput out) throws IOException {
+        List<Integer> years = ledger.getYears();
+        out.writeInt(years.size());
+        for (int year : years) {
+            long[] words = ledger.getTrackedDayBits(year);
+            out.writeInt(year);
+            out.writeByte(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+
+        List<LocalDate> absentDays = ledger.getAbsentDays(LocalDate.MIN, LocalDate.MAX);
+        out.writeInt(absentDays.size());
+        for (LocalDate date : absentDays) {
+            out.writeInt((int) date.toEpochDay());
+        }
+    }
+
+    /**
+     * Reads a tag from {@code in}, as written by {@link #writeTag(Tag, DataOutput)}.
+     *
+     * @throws IllegalValueException if the tag name is invalid.
+     */
+    static Tag readTag(DataInput in) throws IOException, IllegalValueException {
+        return toModelType(in.readUTF(), Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, Tag::new);
+    }
+
+    static void writeTag(Tag tag, DataOutput out) throws IOException {
+        out.writeUTF(tag.tagName);
+    }
+
+    /**
+     * Reads a count from {@code in}.
+     *
+     * @throws IOException if the count is negative.
+     */
+    static int readCount(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative count " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Converts {@code value} with {@code constructor} if {@code isValid} accepts it.
+     *
+     * @throws IllegalValueException with {@code messageConstraints} if {@code value} is invalid.
+     */
+    private static <T> T toModelType(String value, Predicate<String> isValid, String messageConstraints,
+            Function<String, T> constructor) throws IllegalValueException {
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(messageConstraints);
+        }
+        return constructor.apply(value);
+    }
+}
@@ -0,0 +1,608 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ *
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}. Each save only appends
+ * the changes made since the previous save to the journal, one {@link JsonAdaptedJournalEntry} per line. Once the
+ * journal grows to about the size of the address book, it is compacted into a new snapshot on a background thread.
+ * Reading replays the journal on top of the snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Minimum number of journal entries written before a compaction is considered. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The state of each person as of the last save, keyed by NRIC in address book order. */
+    private LinkedHashMap<String, TrackedPerson> trackedPersons = new LinkedHashMap<>();
+    private boolean isTracking = false;
+    private int entriesSinceCompaction = 0;
+    /** Whether the next save must compare every person, as the changes recorded by an address book were lost. */
+    private boolean isFullDiffNeeded = false;
+    private Future<?> pendingCompaction;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, new JsonAddressBookStorage(filePath), DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that forces saves onto the storage device according to
+     * {@code durabilityPolicy}, and writes its snapshots without indentation and line breaks if {@code isCompact}.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isCompact, DurabilityPolicy durabilityPolicy) {
+        this(filePath, new JsonAddressBookStorage(filePath, isCompact, durabilityPolicy),
+                DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, new JsonAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that reads and writes its snapshots through
+     * {@code snapshotStorage}, and compacts its journal once at least {@code compactionThreshold} entries,
+     * and at least as many entries as there are persons, have been written.
+     */
+    private JournalAddressBookStorage(Path filePath, JsonAddressBookStorage snapshotStorage,
+            int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than this storage's own file are read as plain json snapshots.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        awaitCompaction();
+        Path compactingJournalPath = getCompactingJournalPath();
+        Path journalPath = getJournalPath();
+        boolean hasJournal = Files.exists(compactingJournalPath) || Files.exists(journalPath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        if (!hasJournal) {
+            snapshot.ifPresent(this::startTracking);
+            return snapshot;
+        }
+
+        LinkedHashMap<String, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(s -> s.getPersonList().forEach(p -> persons.put(p.getNric().nric, p)));
+        int replayedEntries = replayJournals(persons, compactingJournalPath, journalPath);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+
+        startTracking(addressBook);
+        entriesSinceCompaction = replayedEntries;
+        if (replayedEntries > 0) {
+            compact();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than this storage's own file are written as full json snapshots.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (!isTracking) {
+            // Nothing has been read or written yet, so there is no base state to journal against.
+            // Any journal left on disk was not read, so it is kept aside instead of being replayed onto this save.
+            awaitCompaction();
+            snapshotStorage.saveAddressBook(addressBook);
+            setAside(getCompactingJournalPath(), getJournalPath());
+            startTracking(addressBook);
+            clearChanges(addressBook);
+            return;
+        }
+
+        Optional<Set<Nric>> changedNrics = isFullDiffNeeded || !(addressBook instanceof AddressBook)
+                ? Optional.empty()
+                : ((AddressBook) addressBook).getChangedNrics();
+        LinkedHashMap<String, TrackedPerson> updatedPersons = new LinkedHashMap<>();
+        List<JsonAdaptedJournalEntry> entries = changedNrics.isPresent()
+                ? collectChanges((AddressBook) addressBook, changedNrics.get(), updatedPersons)
+                : collectChanges(addressBook, updatedPersons);
+        if (!entries.isEmpty()) {
+            try {
+                appendToJournal(entries);
+            } catch (IOException e) {
+                // The changes recorded by the address book may not be recorded again, so compare every person next
+                isFullDiffNeeded = true;
+                throw e;
+            }
+        }
+        if (changedNrics.isPresent()) {
+            updateTrackedPersons((AddressBook) addressBook, updatedPersons);
+        } else {
+            trackedPersons = updatedPersons;
+        }
+        isFullDiffNeeded = false;
+        clearChanges(addressBook);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        entriesSinceCompaction += entries.size();
+        if (entriesSinceCompaction >= Math.max(compactionThreshold, trackedPersons.size())) {
+            compact();
+        }
+    }
+
+    /**
+     * Waits for any compaction in progress to finish first, so that the snapshot it writes is forced as well.
+     */
+    @Override
+    public void syncPendingWrites() {
+        awaitCompaction();
+        snapshotStorage.syncPendingWrites();
+    }
+
+    /**
+     * Returns the journal entries needed to bring the last saved state up to {@code addressBook},
+     * and fills {@code updatedPersons} with the tracked state matching {@code addressBook}.
+     */
+    private List<JsonAdaptedJournalEntry> collectChanges(ReadOnlyAddressBook addressBook,
+            LinkedHashMap<String, TrackedPerson> updatedPersons) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        List<String> addedNrics = new ArrayList<>();
+
+        for (Person person : addressBook.getPersonList()) {
+            String nric = person.getNric().nric;
+            TrackedPerson tracked = trackedPersons.get(nric);
+            collectChanges(person, tracked, entries);
+            if (tracked == null) {
+                addedNrics.add(nric);
+            }
+            updatedPersons.put(nric, new TrackedPerson(person));
+        }
+
+        List<String> replayedOrder = new ArrayList<>();
+        for (String nric : trackedPersons.keySet()) {
+            if (updatedPersons.containsKey(nric)) {
+                replayedOrder.add(nric);
+            } else {
+                entries.add(JsonAdaptedJournalEntry.remove(nric));
+            }
+        }
+        replayedOrder.addAll(addedNrics);
+
+        List<String> actualOrder = new ArrayList<>(updatedPersons.keySet());
+        if (!actualOrder.equals(replayedOrder)) {
+            entries.add(JsonAdaptedJournalEntry.order(actualOrder));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the journal entries needed to bring the last saved state of the persons with {@code changedNrics} up
+     * to {@code addressBook}, and fills {@code changedPersons} with their tracked state matching {@code addressBook},
+     * or null for the persons removed. Only the persons with {@code changedNrics} are compared, unless persons may
+     * have moved, in which case the order of all persons is compared as well.
+     */
+    private List<JsonAdaptedJournalEntry> collectChanges(AddressBook addressBook, Set<Nric> changedNrics,
+            LinkedHashMap<String, TrackedPerson> changedPersons) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        List<String> addedNrics = new ArrayList<>();
+
+        for (Nric changedNric : changedNrics) {
+            String nric = changedNric.nric;
+            Person person = addressBook.getPersonWithNric(changedNric);
+            TrackedPerson tracked = trackedPersons.get(nric);
+            if (person == null) {
+                if (tracked != null) {
+                    entries.add(JsonAdaptedJournalEntry.remove(nric));
+                    changedPersons.put(nric, null);
+                }
+                continue;
+            }
+
+            collectChanges(person, tracked, entries);
+            if (tracked == null) {
+                addedNrics.add(nric);
+            }
+            changedPersons.put(nric, new TrackedPerson(person));
+        }
+
+        if (addressBook.hasMovedPersons()) {
+            List<String> replayedOrder = new ArrayList<>();
+            for (String nric : trackedPersons.keySet()) {
+                if (!changedPersons.containsKey(nric) || changedPersons.get(nric) != null) {
+                    replayedOrder.add(nric);
+                }
+            }
+            replayedOrder.addAll(addedNrics);
+
+            List<String> actualOrder = getOrder(addressBook);
+            if (!actualOrder.equals(replayedOrder)) {
+                entries.add(JsonAdaptedJournalEntry.order(actualOrder));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Adds the journal entries needed to bring {@code tracked}, the last saved state of {@code person}, or null if
+     * it was not saved before, up to {@code person} to {@code entries}.
+     */
+    private static void collectChanges(Person person, TrackedPerson tracked, List<JsonAdaptedJournalEntry> entries) {
+        String nric = person.getNric().nric;
+
+        // Persons are compared by value, so that copies of the persons last saved are not journaled again
+
+        if (tracked == null || !tracked.person.equals(person)) {
+            entries.add(JsonAdaptedJournalEntry.put(new JsonAdaptedPerson(person)));
+            return;
+        }
+        if (tracked.hasLeavesChanged(person)) {
+            entries.add(JsonAdaptedJournalEntry.leaves(nric, person.getLeaves().stream()
+                    .map(JsonAdaptedLeave::new)
+                    .collect(Collectors.toList())));
+        }
+        if (tracked.hasAttendanceChanged(person)) {
+            entries.add(JsonAdaptedJournalEntry.attendance(nric, new JsonAdaptedAttendance(person.getAttendance())));
+        }
+    }
+
+    /**
+     * Updates the tracked state with {@code changedPersons}, as filled in by
+     * {@link #collectChanges(AddressBook, Set, LinkedHashMap)}, so that it matches {@code addressBook}.
+     */
+    private void updateTrackedPersons(AddressBook addressBook, LinkedHashMap<String, TrackedPerson> changedPersons) {
+        changedPersons.forEach((nric, tracked) -> {
+            if (tracked == null) {
+                trackedPersons.remove(nric);
+            } else {
+                trackedPersons.put(nric, tracked);
+            }
+        });
+
+        if (addressBook.hasMovedPersons()) {
+            LinkedHashMap<String, TrackedPerson> reorderedPersons = new LinkedHashMap<>();
+            for (String nric : getOrder(addressBook)) {
+                reorderedPersons.put(nric, trackedPersons.get(nric));
+            }
+            trackedPersons = reorderedPersons;
+        }
+    }
+
+    private static List<String> getOrder(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream()
+                .map(person -> person.getNric().nric)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook} afresh, now that they are saved.
+     */
+    private static void clearChanges(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBook) {
+            ((AddressBook) addressBook).clearChanges();
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal, one entry per line.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        Path journalPath = getJournalPath();
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (snapshotStorage.shouldSync(journalPath)) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Replays the journals at {@code journalPaths}, in order and if any, on top of {@code persons}.
+     * A malformed last line of a journal is assumed to be an incomplete write and is skipped. Any other damaged
+     * entry stops the replay: the entries before it are kept, and all the journals are set aside with a
+     * {@value #CORRUPT_SUFFIX} suffix, since the entries after it may depend on the damaged one.
+     *
+     * @return the number of entries replayed.
+     * @throws DataLoadingException if a journal could not be read or set aside.
+     */
+    private int replayJournals(LinkedHashMap<String, Person> persons, Path... journalPaths)
+            throws DataLoadingException {
+        int replayedEntries = 0;
+        for (Path journalPath : journalPaths) {
+            if (!Files.exists(journalPath)) {
+                continue;
+            }
+
+            List<String> lines;
+            try {
+                lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                logger.warning("Error reading from journal file " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(persons);
+                } catch (IOException e) {
+                    if (i == lines.size() - 1) {
+                        logger.warning("Skipping incomplete last entry of journal file " + journalPath);
+                        break;
+                    }
+                    logger.warning("Malformed entry on line " + (i + 1) + " of journal file " + journalPath
+                            + ", keeping the " + replayedEntries + " entries before it");
+                    setAsideDamagedJournals(journalPaths);
+                    return replayedEntries;
+                } catch (IllegalValueException ive) {
+                    logger.warning("Illegal values on line " + (i + 1) + " of journal file " + journalPath + ": "
+                            + ive.getMessage() + ", keeping the " + replayedEntries + " entries before it");
+                    setAsideDamagedJournals(journalPaths);
+                    return replayedEntries;
+                }
+                replayedEntries++;
+            }
+        }
+        return replayedEntries;
+    }
+
+    /**
+     * Sets aside the journals at {@code journalPaths} after a damaged entry was found in one of them.
+     */
+    private static void setAsideDamagedJournals(Path... journalPaths) throws DataLoadingException {
+        try {
+            setAside(journalPaths);
+        } catch (IOException e) {
+            logger.warning("Failed to set aside damaged journal files: " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Renames each existing file in {@code journalPaths} to a sibling with a {@value #CORRUPT_SUFFIX} suffix,
+     * so that it is neither replayed nor lost.
+     */
+    private static void setAside(Path... journalPaths) throws IOException {
+        for (Path journalPath : journalPaths) {
+            if (Files.exists(journalPath)) {
+                Path asidePath = journalPath.resolveSibling(journalPath.getFileName() + CORRUPT_SUFFIX);
+                Files.move(journalPath, asidePath, StandardCopyOption.REPLACE_EXISTING);
+                logger.warning("Moved journal file " + journalPath + " aside to " + asidePath);
+            }
+        }
+    }
+
+    /**
+     * Starts tracking changes against {@code addressBook}, which is assumed to be fully persisted.
+     */
+    private void startTracking(ReadOnlyAddressBook addressBook) {
+        trackedPersons = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            trackedPersons.put(person.getNric().nric, new TrackedPerson(person));
+        }
+        isTracking = true;
+        entriesSinceCompaction = 0;
+    }
+
+    /**
+     * Seals the current journal and writes a new snapshot of the tracked state on a background thread.
+     * The sealed journal is deleted once the new snapshot is in place. Does nothing if a compaction is
+     * already in progress.
+     */
+    private void compact() {
+        if (pendingCompaction != null && !pendingCompaction.isDone()) {
+            return;
+        }
+
+        Path compactingJournalPath = getCompactingJournalPath();
+        Path journalPath = getJournalPath();
+        try {
+            if (Files.exists(compactingJournalPath)) {
+                // A previous compaction did not finish, so its entries must be kept until one does
+                appendJournal(journalPath, compactingJournalPath);
+            } else if (Files.exists(journalPath)) {
+                Files.move(journalPath, compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to seal journal file " + journalPath + ": " + e);
+            return;
+        }
+
+        // Persons can be changed in place later on, so the snapshot is taken from the tracked state instead
+        List<Person> snapshot = trackedPersons.values().stream()
+                .map(TrackedPerson::toPerson)
+                .collect(Collectors.toList());
+        entriesSinceCompaction = 0;
+
+        pendingCompaction = compactor.submit(() -> {
+            try {
+                snapshotStorage.savePersons(snapshot, filePath);
+                Files.deleteIfExists(compactingJournalPath);
+                logger.fine("Compacted journal into " + filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal into " + filePath + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Appends the contents of the journal at {@code source}, if any, to {@code target} and deletes {@code source}.
+     */
+    private static void appendJournal(Path source, Path target) throws IOException {
+        if (!Files.exists(source)) {
+            return;
+        }
+        Files.write(target, Files.readAllBytes(source), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        Files.delete(source);
+    }
+
+    /**
+     * Waits for any compaction in progress to finish.
+     */
+    void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+        }
+    }
+
+    Path getJournalPath() {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private Path getCompactingJournalPath() {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    /**
+     * The state of a person as of the last save.
+     * Leaves and attendance are captured separately as they can be changed without replacing the {@code Person},
+     * and are not compared by {@link Person#equals(Object)}.
+     */
+    private static class TrackedPerson {
+        private final Person person;
+        private final List<Leave> leaves;
+        private final Attendance attendance;
+
+        TrackedPerson(Person person) {
+            this.person = person;
+            this.leaves = new ArrayList<>(person.getLeaves());
+            this.attendance = person.getAttendance().copy();
+        }
+
+        /**
+         * Returns true if the leaves of {@code current} differ from the captured leaves.
+         * Leaves are compared by identity, since {@link Leave#equals(Object)} only compares start dates.
+         */
+        boolean hasLeavesChanged(Person current) {
+            List<Leave> currentLeaves = current.getLeaves();
+            if (currentLeaves.size() != leaves.size()) {
+                return true;
+            }
+            for (int i = 0; i < leaves.size(); i++) {
+                if (currentLeaves.get(i) != leaves.get(i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the person as it was when captured.
+         */
+        Person toPerson() {
+            return new Person(person.getName(), person.getNric(), person.getPhone(), person.getEmail(),
+                    person.getAddress(), person.getHire(), person.getTags(), leaves, attendance.copy());
+        }
+
+        boolean hasAttendanceChanged(Person current) {
+            return !current.getAttendance().equals(attendance);
+        }
+    }
+}
@@ -2,33 +2,57 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceLedger;
 
 /**
  * Jackson-friendly version of {@link Attendance}.
+ * The {@link AttendanceLedger} is stored one year at a time, and is left out for persons without one.
  */
 public class JsonAdaptedAttendance {
 
+    public static final String MESSAGE_DUPLICATE_YEAR = "Attendance records contain duplicate year(s).";
+
     private final int workDayCount;
     private final int absentDayCount;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedAttendanceYear> ledger = new ArrayList<>();
 
 
     public JsonAdaptedAttendance() {
         this(0, 0); // Default to empty attendance
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedAttendance} with the given attendance counts and no ledger.
+     */
+    public JsonAdaptedAttendance(int workDayCount, int absentDayCount) {
+        this(workDayCount, absentDayCount, null);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedAttendance} with the given attendance details.
      */
     @JsonCreator
     public JsonAdaptedAttendance(@JsonProperty("workDayCount") int workDayCount,
-                                 @JsonProperty("absentDayCount") int absentDayCount) {
+                                 @JsonProperty("absentDayCount") int absentDayCount,
+                                 @JsonProperty("ledger") List<JsonAdaptedAttendanceYear> ledger) {
         this.workDayCount = workDayCount;
         this.absentDayCount = absentDayCount;
+        if (ledger != null) {
+            this.ledger.addAll(ledger);
+        }
     }
 
     /**
@@ -38,6 +62,9 @@ public class JsonAdaptedAttendance {
         requireNonNull(source);
         this.workDayCount = source.getWorkDayCount();
         this.absentDayCount = source.getAbsentDayCount();
+        for (int year : source.getLedger().getYears()) {
+            ledger.add(new JsonAdaptedAttendanceYear(source.getLedger(), year));
+        }
     }
 
     /**
@@ -50,7 +77,26 @@ public class JsonAdaptedAttendance {
             throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
         }
 
-        Attendance reconstructedAttendance = new Attendance(this.workDayCount, this.absentDayCount);
+        Map<Integer, long[]> trackedDays = new HashMap<>();
+        List<LocalDate> absentDays = new ArrayList<>();
+        for (JsonAdaptedAttendanceYear year : ledger) {
+            if (trackedDays.put(year.getYear(), year.toTrackedDayBits()) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_YEAR);
+            }
+            absentDays.addAll(year.toAbsentDays());
+        }
+
+        final AttendanceLedger modelLedger;
+        try {
+            modelLedger = AttendanceLedger.of(trackedDays, absentDays);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(AttendanceLedger.MESSAGE_CONSTRAINTS);
+        }
+        if (!Attendance.isValidAttendance(workDayCount, absentDayCount, modelLedger)) {
+            throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+        }
+
+        Attendance reconstructedAttendance = new Attendance(this.workDayCount, this.absentDayCount, modelLedger);
         return reconstructedAttendance;
     }
 }
@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.AttendanceLedger;
+import seedu.address.model.leave.Leave;
+
+/**
+ * Jackson-friendly version of a single year of an {@link AttendanceLedger}.
+ * The days on which attendance was taken are stored as the base64 encoding of the bitset of the days of the year,
+ * and the days on which the person was absent are stored as dates.
+ */
+public class JsonAdaptedAttendanceYear {
+
+    private final int year;
+    private final String trackedDays;
+    private final List<String> absentDays = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAttendanceYear} with the given attendance records.
+     */
+    @JsonCreator
+    public JsonAdaptedAttendanceYear(@JsonProperty("year") int year,
+                                     @JsonProperty("trackedDays") String trackedDays,
+                                     @JsonProperty("absentDays") List<String> absentDays) {
+        this.year = year;
+        this.trackedDays = trackedDays;
+        if (absentDays != null) {
+            this.absentDays.addAll(absentDays);
+        }
+    }
+
+    /**
+     * Converts the records of {@code year} in the given {@code AttendanceLedger} into this class for Jackson use.
+     */
+    public JsonAdaptedAttendanceYear(AttendanceLedger source, int year) {
+        requireNonNull(source);
+        this.year = year;
+
+        long[] words = source.getTrackedDayBits(year);
+        ByteBuffer bytes = ByteBuffer.allocate(words.length * Long.BYTES);
+        bytes.asLongBuffer().put(words);
+        this.trackedDays = Base64.getEncoder().encodeToString(bytes.array());
+
+        for (LocalDate date : source.getAbsentDays(LocalDate.ofYearDay(year, 1),
+                LocalDate.ofYearDay(year + 1, 1).minusDays(1))) {
+            absentDays.add(date.format(Leave.DATE_FORMATER));
+        }
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns the bitset of the days on which attendance was taken, in the format used by {@link AttendanceLedger}.
+     *
+     * @throws IllegalValueException if the year or the stored bitset is invalid.
+     */
+    public long[] toTrackedDayBits() throws IllegalValueException {
+        if (trackedDays == null) {
+            throw new IllegalValueException(AttendanceLedger.MESSAGE_CONSTRAINTS);
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(trackedDays);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(AttendanceLedger.MESSAGE_CONSTRAINTS);
+        }
+        if (bytes.length % Long.BYTES != 0) {
+            throw new IllegalValueException(AttendanceLedger.MESSAGE_CONSTRAINTS);
+        }
+        long[] words = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(words);
+        if (!AttendanceLedger.isValidTrackedDays(year, words)) {
+            throw new IllegalValueException(AttendanceLedger.MESSAGE_CONSTRAINTS);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the days on which the person was absent.
+     *
+     * @throws IllegalValueException if any of the days is not a valid date in the year.
+     */
+    public List<LocalDate> toAbsentDays() throws IllegalValueException {
+        List<LocalDate> dates = new ArrayList<>(absentDays.size());
+        for (String absentDay : absentDays) {
+            if (absentDay == null) {
+                throw new IllegalValueException(Leave.DATE_CONSTRAINTS);
+            }
+            LocalDate date;
+            try {
+                date = LocalDate.parse(absentDay, Leave.DATE_FORMATER);
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(Leave.DATE_CONSTRAINTS);
+            }
+            if (date.getYear() != year) {
+                throw new IllegalValueException(AttendanceLedger.MESSAGE_CONSTRAINTS);
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+}
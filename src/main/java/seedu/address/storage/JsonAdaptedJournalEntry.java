@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of a single change to the address book, as appended to the journal by
+ * {@link JournalAddressBookStorage}.
+ * Every entry describes the resulting state rather than a delta, so replaying an entry more than once
+ * gives the same result as replaying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry of type %s is missing its %s field!";
+    public static final String MISSING_TYPE_MESSAGE = "Journal entry is missing its type!";
+
+    /**
+     * The kinds of changes that can be recorded in the journal.
+     */
+    enum Type {
+        /** A person was added, or edited through {@code setPerson}. */
+        PUT,
+        /** A person was removed. */
+        REMOVE,
+        /** A person's leaves were changed in place. */
+        LEAVES,
+        /** A person's attendance was changed in place. */
+        ATTENDANCE,
+        /** The persons were reordered. */
+        ORDER
+    }
+
+    private final Type type;
+    private final String nric;
+    private final JsonAdaptedPerson person;
+    private final List<JsonAdaptedLeave> leaves;
+    private final JsonAdaptedAttendance attendance;
+    private final List<String> order;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") Type type, @JsonProperty("nric") String nric,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("leaves") List<JsonAdaptedLeave> leaves,
+            @JsonProperty("attendance") JsonAdaptedAttendance attendance,
+            @JsonProperty("order") List<String> order) {
+        this.type = type;
+        this.nric = nric;
+        this.person = person;
+        this.leaves = leaves;
+        this.attendance = attendance;
+        this.order = order;
+    }
+
+    /**
+     * Returns an entry recording that {@code person} was added or edited.
+     */
+    static JsonAdaptedJournalEntry put(JsonAdaptedPerson person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(Type.PUT, null, person, null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that the person with {@code nric} was removed.
+     */
+    static JsonAdaptedJournalEntry remove(String nric) {
+        requireNonNull(nric);
+        return new JsonAdaptedJournalEntry(Type.REMOVE, nric, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that the person with {@code nric} now has the given {@code leaves}.
+     */
+    static JsonAdaptedJournalEntry leaves(String nric, List<JsonAdaptedLeave> leaves) {
+        requireNonNull(nric);
+        requireNonNull(leaves);
+        return new JsonAdaptedJournalEntry(Type.LEAVES, nric, null, leaves, null, null);
+    }
+
+    /**
+     * Returns an entry recording that the person with {@code nric} now has the given {@code attendance}.
+     */
+    static JsonAdaptedJournalEntry attendance(String nric, JsonAdaptedAttendance attendance) {
+        requireNonNull(nric);
+        requireNonNull(attendance);
+        return new JsonAdaptedJournalEntry(Type.ATTENDANCE, nric, null, null, attendance, null);
+    }
+
+    /**
+     * Returns an entry recording that the persons are now ordered by the given list of NRICs.
+     */
+    static JsonAdaptedJournalEntry order(List<String> order) {
+        requireNonNull(order);
+        return new JsonAdaptedJournalEntry(Type.ORDER, null, null, null, null, order);
+    }
+
+    /**
+     * Applies this entry to {@code persons}, a map of persons keyed by NRIC in address book order.
+     * Entries that refer to a person that no longer exists are ignored.
+     *
+     * @throws IllegalValueException if this entry is missing the fields required by its type,
+     *     or if there were any data constraints violated in its fields.
+     */
+    void applyTo(LinkedHashMap<String, Person> persons) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(MISSING_TYPE_MESSAGE);
+        }
+
+        switch (type) {
+        case PUT:
+            requireField(person, "person");
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getNric().nric, modelPerson);
+            break;
+        case REMOVE:
+            requireField(nric, "nric");
+            persons.remove(nric);
+            break;
+        case LEAVES:
+            requireField(nric, "nric");
+            requireField(leaves, "leaves");
+            List<Leave> modelLeaves = new ArrayList<>();
+            for (JsonAdaptedLeave leave : leaves) {
+                modelLeaves.add(leave.toModelType());
+            }
+            persons.computeIfPresent(nric, (key, existing) -> copyOf(existing, modelLeaves,
+                    existing.getAttendance()));
+            break;
+        case ATTENDANCE:
+            requireField(nric, "nric");
+            requireField(attendance, "attendance");
+            Attendance modelAttendance = attendance.toModelType();
+            persons.computeIfPresent(nric, (key, existing) -> copyOf(existing, existing.getLeaves(),
+                    modelAttendance));
+            break;
+        case ORDER:
+            requireField(order, "order");
+            reorder(persons);
+            break;
+        default:
+            throw new IllegalValueException(MISSING_TYPE_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code person} with the given {@code leaves} and {@code attendance}.
+     */
+    private static Person copyOf(Person person, List<Leave> leaves, Attendance attendance) {
+        return new Person(person.getName(), person.getNric(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getHire(), person.getTags(), leaves, attendance);
+    }
+
+    /**
+     * Reorders {@code persons} to follow {@link #order}.
+     * Persons not mentioned in the order keep their relative order and are placed after those that are.
+     */
+    private void reorder(LinkedHashMap<String, Person> persons) {
+        Map<String, Person> remaining = new LinkedHashMap<>(persons);
+        List<Person> reordered = new ArrayList<>(persons.size());
+        for (String key : order) {
+            Person p = remaining.remove(key);
+            if (p != null) {
+                reordered.add(p);
+            }
+        }
+        reordered.addAll(remaining.values());
+
+        persons.clear();
+        for (Person p : reordered) {
+            persons.put(p.getNric().nric, p);
+        }
+    }
+
+    private void requireField(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, type, fieldName));
+        }
+    }
+}
@@ -3,28 +3,64 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * Saves never leave a partially written data file behind, and the previous versions of the data file are kept as
+ * backups, which are read instead if the data file turns out to be invalid. See {@link AtomicFileWriter}.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String PERSONS_FIELD = "persons";
+
     private Path filePath;
+    private boolean isCompact;
+    private AtomicFileWriter fileWriter;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, DurabilityPolicy.BATCHED);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that forces saves onto the storage device according to
+     * {@code durabilityPolicy}, and writes its file without indentation and line breaks if {@code isCompact}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, DurabilityPolicy durabilityPolicy) {
+        this(filePath, isCompact, durabilityPolicy, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} like {@link #JsonAddressBookStorage(Path, boolean, DurabilityPolicy)},
+     * which keeps backups of the data file only if {@code isBackedUp}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, DurabilityPolicy durabilityPolicy,
+            boolean isBackedUp) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.fileWriter = new AtomicFileWriter(durabilityPolicy, isBackedUp);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +81,66 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        return AtomicFileWriter.readWithBackups(filePath, JsonAddressBookStorage::readFile);
+    }
+
+    private static Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(readPersons(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the address book in the json file at {@code filePath}.
+     * Persons are streamed from the file and added to the address book one at a time, so that the file and its
+     * adapted persons are never held in memory all at once.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook readPersons(Path filePath) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the address book to be a json object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!PERSONS_FIELD.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected \"" + PERSONS_FIELD + "\" to be a json array");
+                }
+
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    Person person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+                    if (addressBook.hasPerson(person)) {
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    addressBook.addPerson(person);
+                }
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "Expected each person to be a json object");
+                }
+            }
+        }
+        return addressBook;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +155,48 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        savePersons(addressBook.getPersonList(), filePath);
+    }
+
+    /**
+     * Saves {@code persons} to the json file at {@code filePath}, replacing the file in a single step.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    void savePersons(List<Person> persons, Path filePath) throws IOException {
+        fileWriter.write(filePath, out -> writePersons(persons, out, isCompact));
+    }
+
+    /**
+     * Returns true if the change just made to the file at {@code path} next to the data file, such as an append to a
+     * journal, should be forced onto the storage device now. Otherwise it is forced later, as the data file is.
+     */
+    boolean shouldSync(Path path) {
+        return fileWriter.shouldSync(path);
+    }
+
+    @Override
+    public void syncPendingWrites() {
+        fileWriter.syncPending();
+    }
+
+    /**
+     * Writes {@code persons} as json to {@code out}, in the same format as read by {@link #readPersons(Path)}.
+     * Persons are adapted and written one at a time, so that the json is never held in memory all at once.
+     *
+     * @param isCompact whether to leave out indentation and line breaks.
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    private static void writePersons(List<Person> persons, OutputStream out, boolean isCompact) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
 
 }
@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.MappedAddressBookStorage.HEADER_SIZE;
+import static seedu.address.storage.MappedAddressBookStorage.MAGIC;
+import static seedu.address.storage.MappedAddressBookStorage.NRIC_INDEX_ENTRY_SIZE;
+import static seedu.address.storage.MappedAddressBookStorage.NRIC_LENGTH;
+import static seedu.address.storage.MappedAddressBookStorage.POSITION_SIZE;
+import static seedu.address.storage.MappedAddressBookStorage.RECORD_CHECKSUM_SIZE;
+import static seedu.address.storage.MappedAddressBookStorage.RECORD_CHECKSUM_VERSION;
+import static seedu.address.storage.MappedAddressBookStorage.TRAILER_SIZE;
+import static seedu.address.storage.MappedAddressBookStorage.VERSION;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.LazyPersonSource;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * An address book backed by a buffer in the format written by {@link MappedAddressBookStorage}.
+ * Persons are decoded from the buffer each time they are asked for, and are looked up by NRIC with a binary search
+ * of the NRIC index in the buffer.
+ *
+ * The structure and checksum of the buffer are checked when the address book is created, but each person is only
+ * checked against the checksum of its record and validated when it is decoded.
+ */
+class MappedAddressBook implements ReadOnlyAddressBook, LazyPersonSource {
+
+    private final ByteBuffer buffer;
+    private final int version;
+    private final int personCount;
+    private final int tagsOffset;
+    private final int positionsOffset;
+    private final int nricIndexOffset;
+    private final Tag[] tags;
+
+    private UniquePersonList persons;
+
+    /**
+     * Creates an address book backed by {@code buffer}, which must not be changed afterwards.
+     *
+     * @throws IOException if {@code buffer} is not in the expected format or does not match its checksum.
+     * @throws IllegalValueException if any of the tags are invalid.
+     */
+    MappedAddressBook(ByteBuffer buffer) throws IOException, IllegalValueException {
+        this.buffer = buffer;
+        int limit = buffer.limit();
+        if (limit < HEADER_SIZE + TRAILER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(limit - 4) != MAGIC) {
+            throw new IOException("Not a mapped address book file");
+        }
+        version = buffer.getInt(4);
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported mapped address book version " + version);
+        }
+
+        int trailerOffset = limit - TRAILER_SIZE;
+        long personCount = buffer.getInt(trailerOffset);
+        long tagsOffset = buffer.getLong(trailerOffset + 4);
+        long positionsOffset = buffer.getLong(trailerOffset + 12);
+        long nricIndexOffset = buffer.getLong(trailerOffset + 20);
+        if (personCount < 0 || tagsOffset < HEADER_SIZE || positionsOffset < tagsOffset
+                || nricIndexOffset != positionsOffset + POSITION_SIZE * personCount
+                || trailerOffset != nricIndexOffset + NRIC_INDEX_ENTRY_SIZE * personCount) {
+            throw new IOException("Mapped address book file has an invalid layout");
+        }
+        this.personCount = (int) personCount;
+        this.tagsOffset = (int) tagsOffset;
+        this.positionsOffset = (int) positionsOffset;
+        this.nricIndexOffset = (int) nricIndexOffset;
+
+        CRC32 checksum = new CRC32();
+        if (version >= RECORD_CHECKSUM_VERSION) {
+            // The records are checked against their own checksums when they are decoded instead
+            checksum.update(buffer.slice(0, HEADER_SIZE));
+            checksum.update(buffer.slice(this.tagsOffset, limit - 8 - this.tagsOffset));
+        } else {
+            checksum.update(buffer.slice(0, limit - 8));
+        }
+        if (buffer.getInt(limit - 8) != (int) checksum.getValue()) {
+            throw new IOException("Mapped address book file does not match its checksum");
+        }
+
+        DataInputStream tagsIn = new DataInputStream(new ByteArrayInputStream(getBytes(this.tagsOffset,
+                this.positionsOffset - this.tagsOffset)));
+        tags = new Tag[BinaryPersonCodec.readCount(tagsIn)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = BinaryPersonCodec.readTag(tagsIn);
+        }
+    }
+
+    @Override
+    public int size() {
+        return personCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the record of the person is invalid.
+     */
+    @Override
+    public Person get(int index) {
+        if (index < 0 || index >= personCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        long recordOffset = buffer.getLong(positionsOffset + POSITION_SIZE * index);
+        if (recordOffset < HEADER_SIZE || recordOffset > tagsOffset - Integer.BYTES) {
+            throw new IllegalStateException("Invalid offset of person record " + index);
+        }
+        int recordLength = buffer.getInt((int) recordOffset);
+        int recordStart = (int) recordOffset + Integer.BYTES;
+        boolean hasChecksum = version >= RECORD_CHECKSUM_VERSION;
+        int checksumSize = hasChecksum ? RECORD_CHECKSUM_SIZE : 0;
+        if (recordLength < 0 || recordLength > tagsOffset - recordStart - checksumSize) {
+            throw new IllegalStateException("Invalid length of person record " + index);
+        }
+
+        byte[] record = getBytes(recordStart, recordLength);
+        if (hasChecksum) {
+            CRC32 checksum = new CRC32();
+            checksum.update(record);
+            if (buffer.getInt(recordStart + recordLength) != (int) checksum.getValue()) {
+                throw new IllegalStateException("Person record " + index + " does not match its checksum");
+            }
+        }
+
+        // Records are laid out as in the binary format of the last version before records had checksums
+        int recordVersion = Math.min(version, BinaryPersonCodec.LEDGER_VERSION);
+        DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(record));
+        try {
+            return BinaryPersonCodec.readPerson(recordIn, tags, recordVersion);
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException("Invalid person record " + index + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int indexOf(Nric nric) {
+        byte[] key = nric.nric.getBytes(StandardCharsets.US_ASCII);
+        if (key.length != NRIC_LENGTH) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = personCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entryOffset = nricIndexOffset + NRIC_INDEX_ENTRY_SIZE * middle;
+            int comparison = compareNric(entryOffset, key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return buffer.getInt(entryOffset + NRIC_LENGTH);
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (persons == null) {
+            persons = new UniquePersonList();
+            persons.setPersons(this);
+        }
+        return persons.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", personCount)
+                .toString();
+    }
+
+    /**
+     * Compares the NRIC stored at {@code offset} with {@code key}, byte by byte.
+     */
+    private int compareNric(int offset, byte[] key) {
+        for (int i = 0; i < NRIC_LENGTH; i++) {
+            int comparison = Byte.compare(buffer.get(offset + i), key[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns a copy of {@code length} bytes of the buffer starting at {@code offset}.
+     * Only absolute operations are used on the buffer, so this is safe to call from multiple threads at once.
+     */
+    private byte[] getBytes(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,288 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+
+/**
+ * A class to access AddressBook data stored in a binary file on the hard disk that is memory-mapped when it is read,
+ * so that persons are only loaded when they are needed. This keeps the time and memory taken to load very large
+ * address books low.
+ *
+ * The file starts with a magic number and a format version, followed by a record for each person prefixed by its
+ * length in bytes and followed by its checksum. See {@link BinaryPersonCodec} for the layout of each record.
+ * The records are followed by:
+ * <ul>
+ *     <li>a dictionary of every tag in the address book, which the records refer to by index,</li>
+ *     <li>a table of the offset of each record in the file, in the order of the address book,</li>
+ *     <li>an index of the NRIC of every person, sorted by NRIC, with the position of the person in the table,</li>
+ *     <li>a trailer of a fixed size, with the number of persons, the offsets of the sections above, a checksum of
+ *     the rest of the file apart from the records and the magic number again.</li>
+ * </ul>
+ *
+ * Like {@link JsonAddressBookStorage}, saves replace the data file in a single step and keep backups of the previous
+ * versions. See {@link AtomicFileWriter}. As the data file is replaced rather than overwritten, it is mapped
+ * directly, and a mapping keeps the contents it was read with. Only on Windows, where a mapped file cannot be
+ * replaced, is the data file copied to a temporary file which is mapped instead.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    /** Identifies the file as a memory-mappable address book. Spells "AB3M" in ASCII. */
+    static final int MAGIC = 0x4142334D;
+    /** The first version of the format in which each record is followed by its own checksum. */
+    static final int RECORD_CHECKSUM_VERSION = BinaryPersonCodec.LEDGER_VERSION + 1;
+    /** Version of the format written. Files of earlier versions can still be read. */
+    static final int VERSION = RECORD_CHECKSUM_VERSION;
+
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_CHECKSUM_SIZE = 4;
+    static final int TRAILER_SIZE = 36;
+    static final int POSITION_SIZE = 8;
+    static final int NRIC_LENGTH = 9;
+    static final int NRIC_INDEX_ENTRY_SIZE = NRIC_LENGTH + 4;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private static final String TEMP_FILE_PREFIX = "addressbook";
+    private static final String TEMP_FILE_SUFFIX = ".mapped";
+    private static final boolean IS_COPY_MAPPED = System.getProperty("os.name", "").startsWith("Windows");
+
+    /** Whether the temporary copies left behind by earlier runs have been looked for. */
+    private static boolean hasDeletedStaleCopies = false;
+
+    private Path filePath;
+    private AtomicFileWriter fileWriter;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this(filePath, DurabilityPolicy.BATCHED);
+    }
+
+    /**
+     * Creates a {@code MappedAddressBookStorage} that forces saves onto the storage device according to
+     * {@code durabilityPolicy}.
+     */
+    public MappedAddressBookStorage(Path filePath, DurabilityPolicy durabilityPolicy) {
+        this.filePath = filePath;
+        this.fileWriter = new AtomicFileWriter(durabilityPolicy);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        return AtomicFileWriter.readWithBackups(filePath, MappedAddressBookStorage::readFile);
+    }
+
+    private static Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new MappedAddressBook(map(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from mapped file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Maps the file at {@code filePath}, or a temporary copy of it where the file could not be replaced while it is
+     * mapped, into memory.
+     *
+     * @throws IOException if the file could not be copied or mapped.
+     */
+    private static MappedByteBuffer map(Path filePath) throws IOException {
+        Path mappedPath = IS_COPY_MAPPED ? copyToTempFile(filePath) : filePath;
+
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(mappedPath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Mapped address book file is too large: " + channel.size() + " bytes");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Copies the file at {@code filePath} to a temporary file that is deleted on exit, after deleting the copies left
+     * behind by earlier runs the first time.
+     */
+    private static synchronized Path copyToTempFile(Path filePath) throws IOException {
+        if (!hasDeletedStaleCopies) {
+            deleteStaleCopies(Paths.get(System.getProperty("java.io.tmpdir")));
+            hasDeletedStaleCopies = true;
+        }
+
+        Path copyPath = Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        copyPath.toFile().deleteOnExit();
+        Files.copy(filePath, copyPath, StandardCopyOption.REPLACE_EXISTING);
+        return copyPath;
+    }
+
+    /**
+     * Deletes the temporary copies in {@code tempDirectory} that earlier runs did not delete on exit, such as after a
+     * crash. Copies that are still mapped by another running instance cannot be deleted, and are skipped.
+     */
+    static void deleteStaleCopies(Path tempDirectory) {
+        try (DirectoryStream<Path> copies = Files.newDirectoryStream(tempDirectory,
+                TEMP_FILE_PREFIX + "*" + TEMP_FILE_SUFFIX)) {
+            for (Path copy : copies) {
+                try {
+                    Files.deleteIfExists(copy);
+                } catch (IOException e) {
+                    logger.fine("Skipped temporary copy " + copy + " in use: " + e);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to look for temporary copies in " + tempDirectory + ": " + e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        fileWriter.write(filePath, out -> writePersons(persons, out));
+    }
+
+    @Override
+    public void syncPendingWrites() {
+        fileWriter.syncPending();
+    }
+
+    /**
+     * Writes {@code persons} in the mapped format to {@code out}, without closing it.
+     * Persons are written one at a time, so that only their NRICs are held in memory all at once.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    private static void writePersons(List<Person> persons, OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+        // Everything but the records is written through the file checksum, and each record through its own
+        CRC32 checksum = new CRC32();
+        DataOutputStream checkedOut = new DataOutputStream(new CheckedOutputStream(dataOut, checksum));
+        CRC32 recordChecksum = new CRC32();
+        OutputStream checkedRecordOut = new CheckedOutputStream(dataOut, recordChecksum);
+        checkedOut.writeInt(MAGIC);
+        checkedOut.writeInt(VERSION);
+
+        int personCount = persons.size();
+        long[] recordOffsets = new long[personCount];
+        byte[][] nrics = new byte[personCount][];
+        Map<Tag, Integer> tagIndices = new HashMap<>();
+
+        // Each record is written to a reusable buffer first, as its length has to be written before it
+        ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+        long offset = HEADER_SIZE;
+        for (int i = 0; i < personCount; i++) {
+            Person person = persons.get(i);
+            recordBuffer.reset();
+            BinaryPersonCodec.writePerson(person, recordOut, tagIndices);
+            dataOut.writeInt(recordBuffer.size());
+            recordChecksum.reset();
+            recordBuffer.writeTo(checkedRecordOut);
+            dataOut.writeInt((int) recordChecksum.getValue());
+
+            recordOffsets[i] = offset;
+            offset += Integer.BYTES + recordBuffer.size() + RECORD_CHECKSUM_SIZE;
+            nrics[i] = person.getNric().nric.getBytes(StandardCharsets.US_ASCII);
+            if (nrics[i].length != NRIC_LENGTH) {
+                throw new IOException("Unexpected NRIC length " + nrics[i].length);
+            }
+        }
+
+        long tagsOffset = offset;
+        Tag[] tags = new Tag[tagIndices.size()];
+        tagIndices.forEach((tag, index) -> tags[index] = tag);
+        recordBuffer.reset();
+        recordOut.writeInt(tags.length);
+        for (Tag tag : tags) {
+            BinaryPersonCodec.writeTag(tag, recordOut);
+        }
+        recordBuffer.writeTo(checkedOut);
+
+        long positionsOffset = tagsOffset + recordBuffer.size();
+        for (long recordOffset : recordOffsets) {
+            checkedOut.writeLong(recordOffset);
+        }
+
+        long nricIndexOffset = positionsOffset + (long) POSITION_SIZE * personCount;
+        Integer[] nricOrder = new Integer[personCount];
+        for (int i = 0; i < personCount; i++) {
+            nricOrder[i] = i;
+        }
+        Arrays.sort(nricOrder, Comparator.comparing(i -> nrics[i], Arrays::compare));
+        for (int position : nricOrder) {
+            checkedOut.write(nrics[position]);
+            checkedOut.writeInt(position);
+        }
+
+        checkedOut.writeInt(personCount);
+        checkedOut.writeLong(tagsOffset);
+        checkedOut.writeLong(positionsOffset);
+        checkedOut.writeLong(nricIndexOffset);
+        dataOut.writeInt((int) checksum.getValue());
+        dataOut.writeInt(MAGIC);
+        dataOut.flush();
+    }
+}
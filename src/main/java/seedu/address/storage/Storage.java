@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until all address book saves requested so far have been written, and forced onto the storage device
+     * even if the durability policy would have deferred that.
+     */
+    void flush();
+
+    /**
+     * Sets the handler to be notified of address book saves that fail after
+     * {@link #saveAddressBook(ReadOnlyAddressBook)} has already returned.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -75,4 +76,24 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void syncPendingWrites() {
+        addressBookStorage.syncPendingWrites();
+    }
+
+    /**
+     * Forces the saves that are yet to be forced onto the storage device, as address book saves are already written
+     * before {@code saveAddressBook} returns.
+     */
+    @Override
+    public void flush() {
+        syncPendingWrites();
+    }
+
+    /**
+     * Does nothing, as failed address book saves are reported by {@code saveAddressBook} itself.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {}
+
 }
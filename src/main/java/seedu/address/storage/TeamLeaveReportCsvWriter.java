@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Tag;
+import seedu.address.model.person.TeamLeaveReport;
+
+/**
+ * Writes a {@code TeamLeaveReport} as a csv file, with a row for each day and a column for each tag.
+ */
+public class TeamLeaveReportCsvWriter {
+
+    private TeamLeaveReportCsvWriter() {}
+
+    /**
+     * Writes {@code report} to {@code filePath}, replacing the file if it exists.
+     */
+    public static void write(TeamLeaveReport report, Path filePath) throws IOException {
+        requireNonNull(report);
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, toCsv(report));
+    }
+
+    /**
+     * Returns the contents of the csv file for {@code report}.
+     * The first row has the column names, and every row ends with a line break.
+     */
+    public static String toCsv(TeamLeaveReport report) {
+        requireNonNull(report);
+        List<Tag> tags = report.getTags();
+        StringBuilder csv = new StringBuilder("date");
+        for (Tag tag : tags) {
+            csv.append(',').append(escape(tag.tagName));
+        }
+        csv.append('\n');
+
+        for (LocalDate date = report.getStartDate(); !date.isAfter(report.getEndDate()); date = date.plusDays(1)) {
+            csv.append(date);
+            for (Tag tag : tags) {
+                csv.append(',').append(report.getOnLeaveCount(tag, date));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Quotes {@code field} if it has a comma or a double quote, doubling any double quotes in it.
+     */
+    private static String escape(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
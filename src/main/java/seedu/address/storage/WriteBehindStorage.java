@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that writes the address book on a single background thread, so that callers of
+ * {@link #saveAddressBook(ReadOnlyAddressBook)} do not wait for the write.
+ *
+ * Each save takes a snapshot of the address book before returning. Saves requested while an earlier write is
+ * still in progress are coalesced, so only the latest snapshot is written once the writer is free.
+ * Since failed writes cannot be reported to the caller, they are passed to the save failure handler instead.
+ * All other operations are delegated to the wrapped {@code Storage} on the calling thread.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The latest snapshot that has not been picked up by the writer yet, or null if there is none. */
+    private AddressBook pendingSnapshot;
+    private volatile Consumer<IOException> saveFailureHandler = e -> {};
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    /**
+     * Reads the address book after all pending saves have been written.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    /**
+     * Reads the address book at {@code filePath} after all pending saves have been written.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and schedules it to be written on the background thread.
+     * If an earlier snapshot is still waiting to be written, it is replaced by this one, which then also carries
+     * the changes recorded by the earlier one.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBook snapshot = copyOf(addressBook);
+
+        synchronized (this) {
+            boolean isWriteScheduled = pendingSnapshot != null;
+            if (isWriteScheduled) {
+                snapshot.includeChanges(pendingSnapshot);
+            }
+            pendingSnapshot = snapshot;
+            if (!isWriteScheduled) {
+                writer.execute(this::writePendingSnapshot);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} on the calling thread, after all pending saves have been written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flush() {
+        try {
+            // The writer runs tasks in order, so this completes after every save scheduled before it
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to wait for pending saves: " + e.getCause());
+        }
+        storage.flush();
+    }
+
+    @Override
+    public void syncPendingWrites() {
+        storage.syncPendingWrites();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Writes the pending snapshot, if any. Runs on the writer thread.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book to " + storage.getAddressBookFilePath() + ": " + e);
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that is not affected by later changes to its persons,
+     * including changes to their leaves and attendance.
+     * The changes recorded by an {@code AddressBook} are handed over to the copy, so that the next copy only
+     * records the changes made after this one.
+     */
+    private static AddressBook copyOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBook) {
+            AddressBook copy = ((AddressBook) addressBook).copy();
+            ((AddressBook) addressBook).clearChanges();
+            return copy;
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            persons.add(person.copy());
+        }
+
+        AddressBook copy = new AddressBook();
+        copy.setPersons(persons);
+        return copy;
+    }
+}
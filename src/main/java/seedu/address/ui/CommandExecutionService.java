@@ -0,0 +1,203 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchQuery;
+
+/**
+ * Executes commands one at a time on a background thread, so that the window stays responsive while they run.
+ *
+ * Searches of the persons and changes to the filter of the person list run on the same thread, in order with the
+ * commands, so the model is only ever used by one thread at a time. The window shows the filtered person list of the
+ * model through a {@link DeferredPersonList}, which reads the list directly while nothing runs on the background
+ * thread. Otherwise, it only records the positions of the changes made to the list, and reports them on the JavaFX
+ * application thread once the background thread is done, so the window never reads the list while it is changing.
+ *
+ * The running command can be cancelled, which interrupts its thread (see {@link Logic#execute(String)}).
+ *
+ * All methods must be called on the JavaFX application thread.
+ */
+public class CommandExecutionService {
+
+    private final Logic logic;
+    private final DeferredPersonList personList;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean isRunning;
+    /** Number of commands, searches and filter changes that are yet to finish on the background thread. */
+    private int pendingTaskCount;
+    private volatile boolean isCancelRequested;
+    /** The thread running the command, or null if it has not started or has finished. */
+    private volatile Thread commandThread;
+
+    /**
+     * Creates a {@code CommandExecutionService} that executes commands with {@code logic}.
+     */
+    public CommandExecutionService(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.personList = new DeferredPersonList(logic.getFilteredPersonList());
+    }
+
+    /**
+     * Returns the persons to show in the window, which are those in the filtered person list of the model when the
+     * last command finished.
+     */
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /**
+     * Returns true if a command is running.
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Executes {@code commandText} on the background thread. The returned future is completed with the result of
+     * the command, or with the exception it threw, on the JavaFX application thread once the person list has been
+     * brought up to date.
+     *
+     * @throws IllegalStateException if a command is already running.
+     */
+    public CompletableFuture<CommandResult> execute(String commandText) {
+        requireNonNull(commandText);
+        if (isRunning) {
+            throw new IllegalStateException("A command is already running");
+        }
+
+        isRunning = true;
+        isCancelRequested = false;
+        beginTask();
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        executor.execute(() -> runCommand(commandText, result));
+        return result;
+    }
+
+    /**
+     * Cancels the running command by interrupting its thread. Does nothing if no command is running.
+     */
+    public void cancel() {
+        if (!isRunning) {
+            return;
+        }
+        isCancelRequested = true;
+        Thread thread = commandThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Searches the persons matching {@code query} on the background thread, after any command executed before. The
+     * returned future is completed with their {@code Nric}s, or with the exception thrown, on the JavaFX application
+     * thread.
+     */
+    public CompletableFuture<Set<Nric>> searchPersons(SearchQuery query) {
+        requireNonNull(query);
+        return submit(() -> logic.searchPersons(query));
+    }
+
+    /**
+     * Filters the person list by {@code predicate} on the background thread, after any command executed before. The
+     * returned future is completed on the JavaFX application thread once the person list has been brought up to date.
+     */
+    public CompletableFuture<Void> updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return submit(() -> {
+            logic.updateFilteredPersonList(predicate);
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code task} on the background thread, and completes the returned future with its result on the JavaFX
+     * application thread.
+     */
+    private <T> CompletableFuture<T> submit(Callable<T> task) {
+        beginTask();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            T value = null;
+            Throwable failure = null;
+            try {
+                value = task.call();
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                T finalValue = value;
+                Throwable finalFailure = failure;
+                Platform.runLater(() -> finish(result, finalValue, finalFailure));
+            }
+        });
+        return result;
+    }
+
+    private void runCommand(String commandText, CompletableFuture<CommandResult> result) {
+        // The thread is published before the request is checked, so that a cancellation is never missed
+        commandThread = Thread.currentThread();
+        CommandResult commandResult = null;
+        Throwable failure = null;
+        try {
+            if (isCancelRequested) {
+                Thread.currentThread().interrupt();
+            }
+            commandResult = logic.execute(commandText);
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            commandThread = null;
+            Thread.interrupted(); // a cancellation that came too late must not cancel the next command
+            CommandResult finalCommandResult = commandResult;
+            Throwable finalFailure = failure;
+            Platform.runLater(() -> {
+                isRunning = false;
+                finish(result, finalCommandResult, finalFailure);
+            });
+        }
+    }
+
+    /**
+     * Defers the changes to the person list while anything runs on the background thread.
+     */
+    private void beginTask() {
+        if (pendingTaskCount++ == 0) {
+            personList.deferChanges();
+        }
+    }
+
+    /**
+     * Brings the person list up to date if nothing else is left to run on the background thread, and completes
+     * {@code result}, even if the person list cannot be updated.
+     */
+    private <T> void finish(CompletableFuture<T> result, T value, Throwable failure) {
+        try {
+            if (--pendingTaskCount == 0) {
+                personList.applyDeferredChanges();
+            }
+        } finally {
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+}
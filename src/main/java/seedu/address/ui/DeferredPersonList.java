@@ -0,0 +1,171 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of a person list that reads the list directly, except while changes to it are deferred.
+ *
+ * Changes are deferred while a command may be changing the list on another thread, when the list must not be read.
+ * The view then keeps the size it had, and shows the persons it showed most recently at each position, or none at
+ * the positions it has not shown recently. The changes made meanwhile are only recorded by their positions and
+ * sizes, and are reported once they are applied, as a single replacement of the persons in between the first and
+ * last positions changed. The persons are then read from the list again.
+ *
+ * Apart from the recording of changes, which happens on whichever thread changes the list, all methods must be
+ * called on the JavaFX application thread.
+ */
+class DeferredPersonList extends ObservableListBase<Person> {
+
+    /** Number of persons most recently shown that are kept, to be shown while changes are deferred. */
+    static final int SHOWN_PERSONS_CAPACITY = 256;
+
+    private final ObservableList<Person> persons;
+    private final Map<Integer, Person> shownPersons = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+            return size() > SHOWN_PERSONS_CAPACITY;
+        }
+    };
+
+    // The fields below are handed between threads by the executor running the command and Platform#runLater
+
+    private boolean isDeferring;
+    /** Number of persons in the list when changes started to be deferred. */
+    private int deferredSize;
+    /** Number of persons in the list after the changes recorded so far. */
+    private int recordedSize;
+    /** Lowest position changed since changes started to be deferred, or {@code deferredSize} if none was. */
+    private int changedFrom;
+    /** Number of persons at the end of the list that were not changed since changes started to be deferred. */
+    private int unchangedEndSize;
+
+    /**
+     * Creates a view of {@code persons}.
+     */
+    DeferredPersonList(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this::handleChange);
+    }
+
+    /**
+     * Stops reading the list, and records the changes made to it from now on instead of reporting them.
+     */
+    void deferChanges() {
+        isDeferring = true;
+        deferredSize = persons.size();
+        recordedSize = deferredSize;
+        changedFrom = deferredSize;
+        unchangedEndSize = deferredSize;
+    }
+
+    /**
+     * Reports the changes recorded since {@link #deferChanges()} was called, and reads the list directly again.
+     */
+    void applyDeferredChanges() {
+        if (!isDeferring) {
+            return;
+        }
+        isDeferring = false;
+        shownPersons.clear();
+
+        int removedSize = deferredSize - unchangedEndSize - changedFrom;
+        int addedTo = persons.size() - unchangedEndSize;
+        if (removedSize <= 0 && addedTo <= changedFrom) {
+            return;
+        }
+
+        // The persons removed were not kept, as the changes are recorded on the thread running the command
+        beginChange();
+        if (removedSize > 0) {
+            nextRemove(changedFrom, Collections.nCopies(removedSize, null));
+        }
+        if (addedTo > changedFrom) {
+            nextAdd(changedFrom, addedTo);
+        }
+        endChange();
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Person> change) {
+        if (isDeferring) {
+            recordChange(change);
+        } else {
+            shownPersons.clear();
+            reportChange(change);
+        }
+    }
+
+    /**
+     * Records the positions and sizes of {@code change}, to be reported by {@link #applyDeferredChanges()}.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue; // the same persons are still in the list
+            }
+            int from = change.getFrom();
+            int addedSize = change.getTo() - from;
+            int removedSize = change.wasPermutated() ? addedSize : change.getRemovedSize();
+            changedFrom = Math.min(changedFrom, from);
+            unchangedEndSize = Math.min(unchangedEndSize, recordedSize - from - removedSize);
+            recordedSize += addedSize - removedSize;
+        }
+    }
+
+    private void reportChange(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * {@inheritDoc}
+     * While changes are deferred, returns the person most recently shown at {@code index}, or null if there is none.
+     */
+    @Override
+    public Person get(int index) {
+        if (isDeferring) {
+            Objects.checkIndex(index, deferredSize);
+            return shownPersons.get(index);
+        }
+        Person person = persons.get(index);
+        shownPersons.put(index, person);
+        return person;
+    }
+
+    @Override
+    public int size() {
+        return isDeferring ? deferredSize : persons.size();
+    }
+}
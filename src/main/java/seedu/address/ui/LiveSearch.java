@@ -0,0 +1,122 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.NricsMatchPredicate;
+import seedu.address.model.search.SearchQuery;
+
+/**
+ * Filters the person list while a {@code find} command is being typed, before it is entered.
+ *
+ * The command is parsed as it would be when entered, and the list is filtered to the persons the command would show.
+ * The list is filtered once typing pauses for {@link #DEBOUNCE_DELAY}. The persons are searched through
+ * {@link CommandExecutionService}, on the thread executing commands and in order with them, so that typing stays
+ * responsive however many persons there are, and the search index of the model is used as kept up to date by the
+ * commands. The results of a search are only shown if the text has not changed, and no command has started, since
+ * it was requested.
+ *
+ * All methods must be called on the JavaFX application thread.
+ */
+public class LiveSearch {
+
+    /** Time to wait after the last change to the text before searching. */
+    public static final Duration DEBOUNCE_DELAY = Duration.millis(150);
+
+    private static final String LIVE_COMMAND_START = FindCommand.COMMAND_WORD + " ";
+
+    private final Logger logger = LogsCenter.getLogger(getClass());
+    private final CommandExecutionService commandExecutionService;
+    private final PauseTransition debounce = new PauseTransition(DEBOUNCE_DELAY);
+
+    /** Incremented whenever the text changes or a command starts, so that stale results can be told apart. */
+    private long generation;
+    private SearchQuery pendingQuery;
+    private boolean isFiltering;
+
+    /**
+     * Creates a {@code LiveSearch} that searches the persons and filters the person list through
+     * {@code commandExecutionService}.
+     */
+    public LiveSearch(CommandExecutionService commandExecutionService) {
+        requireNonNull(commandExecutionService);
+        this.commandExecutionService = commandExecutionService;
+        debounce.setOnFinished(unused -> startSearch());
+    }
+
+    /**
+     * Filters the person list to the persons that {@code commandText} would show once typing pauses, if it is a
+     * valid {@code find} command. Otherwise, shows all persons again if the list has been filtered.
+     */
+    public void handleTextChanged(String commandText) {
+        generation++;
+        Optional<SearchQuery> query = getLiveQuery(commandText);
+        if (query.isEmpty()) {
+            debounce.stop();
+            if (isFiltering) {
+                commandExecutionService.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+                isFiltering = false;
+            }
+            return;
+        }
+
+        pendingQuery = query.get();
+        debounce.playFromStart();
+    }
+
+    /**
+     * Stops filtering the person list, before a command is executed that may change the persons or the list. The
+     * results of searches requested before are not shown.
+     */
+    public void handleCommandStarted() {
+        generation++;
+        debounce.stop();
+        isFiltering = false;
+    }
+
+    private void startSearch() {
+        long searchGeneration = generation;
+        commandExecutionService.searchPersons(pendingQuery).whenComplete((nrics, failure) -> {
+            if (failure != null) {
+                logger.warning("Live search failed: " + failure);
+                return;
+            }
+            showResults(searchGeneration, nrics);
+        });
+    }
+
+    private void showResults(long searchGeneration, Set<Nric> nrics) {
+        if (searchGeneration != generation) {
+            return; // the text has changed or a command has started since the search was requested
+        }
+        commandExecutionService.updateFilteredPersonList(new NricsMatchPredicate(nrics));
+        isFiltering = true;
+    }
+
+    /**
+     * Returns the query of {@code commandText} if it is a valid {@code find} command.
+     */
+    private static Optional<SearchQuery> getLiveQuery(String commandText) {
+        String trimmedText = commandText.stripLeading();
+        if (!trimmedText.startsWith(LIVE_COMMAND_START)) {
+            return Optional.empty();
+        }
+        String arguments = trimmedText.substring(FindCommand.COMMAND_WORD.length());
+        try {
+            return Optional.of(new FindCommandParser().parseQuery(arguments));
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+    }
+}
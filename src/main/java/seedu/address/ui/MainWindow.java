@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,8 +18,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 
 /**
@@ -32,11 +32,14 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandExecutionService commandExecutionService;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
+    private LiveSearch liveSearch;
 
     @FXML
     private SplitPane splitPane;
@@ -144,16 +147,19 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        commandExecutionService = new CommandExecutionService(logic);
+        personListPanel = new PersonListPanel(commandExecutionService.getPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        liveSearch = new LiveSearch(commandExecutionService);
+        CommandBox commandBox = new CommandBox(this::executeCommand, liveSearch::handleTextChanged);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -212,51 +218,55 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on a background thread, and handles the result on the JavaFX application thread once
+     * the command has finished.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandExecutionService#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-
-            System.out.println("Command executed: " + commandText);
-            System.out.println("personDetailsPanel: " + personDetailsPanel);
-
-            // Ensure personDetailsPanel is initialized before using it
-            if (personDetailsPanel == null) {
-                personDetailsPanel = new PersonDetailsPanel();
-                rightPane.getChildren().clear();
-                rightPane.getChildren().add(personDetailsPanel.getRoot());
-            }
-
-            if (commandResult.isClearDetailsPanel()) {
-                handleClearDetailsPanel(commandResult);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        liveSearch.handleCommandStarted();
+        statusBarFooter.showCommandRunning(commandText, commandExecutionService::cancel);
+        CompletableFuture<CommandResult> result = commandExecutionService.execute(commandText);
+        result.whenComplete((commandResult, e) -> {
+            statusBarFooter.hideCommandRunning();
+            if (e == null) {
+                handleCommandResult(commandResult);
             } else {
-                // If the command result contains a person, update the details panel
-                if (commandResult.getPersonToView() != null) {
-                    personDetailsPanel.setPerson(commandResult.getPersonToView());
-                } else {
-                    personDetailsPanel.refresh();
-                }
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(e.getMessage());
             }
+        });
+        return result;
+    }
 
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    private void handleCommandResult(CommandResult commandResult) {
+        // Ensure personDetailsPanel is initialized before using it
+        if (personDetailsPanel == null) {
+            personDetailsPanel = new PersonDetailsPanel();
+            rightPane.getChildren().clear();
+            rightPane.getChildren().add(personDetailsPanel.getRoot());
+        }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+        if (commandResult.isClearDetailsPanel()) {
+            handleClearDetailsPanel(commandResult);
+        } else {
+            // If the command result contains a person, update the details panel
+            if (commandResult.getPersonToView() != null) {
+                personDetailsPanel.setPerson(commandResult.getPersonToView());
+            } else {
+                personDetailsPanel.refresh();
             }
+        }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
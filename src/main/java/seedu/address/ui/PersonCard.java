@@ -1,62 +1,74 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
-import javafx.fxml.FXML;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Tag;
+import seedu.address.model.util.SampleDataUtil;
 
 /**
  * An UI component that displays information of a {@code Person}.
  */
 public class PersonCard extends UiPart<Region> {
 
-    private static final String FXML = "PersonListCard.fxml";
-
     private static final String CARD_STYLE = "-fx-background-color: #f5f5f5; -fx-background-radius: 10; "
         + "-fx-border-radius: 10; -fx-padding: 10;"
         + "-fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.1), 5, 0, 0, 1);";
 
-    /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
-     */
+    private static final String[] TAG_COLORS = {
+        "-fx-background-color: #FFCDD2; -fx-text-fill: #D32F2F;", // Red
+        "-fx-background-color: #F8BBD0; -fx-text-fill: #C2185B;", // Pink
+        "-fx-background-color: #D1C4E9; -fx-text-fill: #512DA8;", // Purple
+        "-fx-background-color: #C5CAE9; -fx-text-fill: #303F9F;", // Indigo
+        "-fx-background-color: #BBDEFB; -fx-text-fill: #1976D2;", // Blue
+        "-fx-background-color: #B2EBF2; -fx-text-fill: #0097A7;", // Cyan
+        "-fx-background-color: #B2DFDB; -fx-text-fill: #00796B;", // Teal
+        "-fx-background-color: #C8E6C9; -fx-text-fill: #388E3C;" // Green
+    };
+
+    /** The style of the label of each tag by its position, which is worked out once rather than for every tag. */
+    private static final String[] TAG_STYLES = Arrays.stream(TAG_COLORS)
+        .map(tagColor -> tagColor
+            + "-fx-text-fill: black; " // All text in black
+            + "-fx-background-radius: 10; "
+            + "-fx-padding: 2 8 2 8; "
+            + "-fx-font-size: 11px;")
+        .toArray(String[]::new);
 
-    public final Person person;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label nric;
-    @FXML
-    private Label id;
-    @FXML
-    private Label phone;
-    @FXML
-    private Label address;
-    @FXML
-    private Label email;
-    @FXML
-    private Label hire;
-    @FXML
-    private FlowPane tags;
+    private static final String BIG_LABEL_CLASS = "cell_big_label";
+    private static final String SMALL_LABEL_CLASS = "cell_small_label";
+    private static final String SMALL_LABEL_STYLE = "-fx-font-size: 13px;";
+    private static final double SPACING = 5;
+
+    private Person person;
+
+    private final Label id = createLabel(BIG_LABEL_CLASS, "-fx-font-weight: bold;");
+    private final Label name = createLabel(BIG_LABEL_CLASS, "-fx-font-weight: bold; -fx-font-size: 14px;");
+    private final FlowPane tags = new FlowPane(SPACING, SPACING);
+    private final Label nric = createLabel(SMALL_LABEL_CLASS, SMALL_LABEL_STYLE);
+    private final Label phone = createLabel(SMALL_LABEL_CLASS, SMALL_LABEL_STYLE);
+    private final Label email = createLabel(SMALL_LABEL_CLASS, SMALL_LABEL_STYLE);
+    private final Label address = createLabel(SMALL_LABEL_CLASS, SMALL_LABEL_STYLE + " -fx-wrap-text: true;");
+    private final Label hire = createLabel(SMALL_LABEL_CLASS, SMALL_LABEL_STYLE);
+
+    /** Labels for tags, which are kept when the card shows another person, to be reused for their tags. */
+    private final List<Label> tagLabels = new ArrayList<>();
 
     /**
      * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
-        this.person = person;
-        initialiseCard(displayedIndex);
+        this(new HBox(), person, displayedIndex);
     }
 
     /**
@@ -64,58 +76,90 @@ public class PersonCard extends UiPart<Region> {
      * made for showing a PersonCard in the right pane
      */
     public PersonCard(Person person) {
-        super(FXML);
-        this.person = person;
-        initialiseCard(-1); // -1 indicates no index should be shown
+        this(person, -1); // -1 indicates no index should be shown
     }
 
     /**
-     * Initializes the card with the given {@code Person} and index to display.
-     * @param displayedIndex The index of the person to display.
+     * Builds the card in {@code cardPane} in code, as it is created for every cell of the person list and would
+     * otherwise parse its FXML file every time.
      */
-    private void initialiseCard(int displayedIndex) {
-        // Apply card styling
+    private PersonCard(HBox cardPane, Person person, int displayedIndex) {
+        super(cardPane);
         cardPane.setStyle(CARD_STYLE);
+        cardPane.setMaxWidth(Double.MAX_VALUE);
 
-        // Set content
-        if (displayedIndex >= 0) {
-            id.setText(displayedIndex + ". ");
-        } else {
-            id.setText(""); // Hide index for standalone cards
-        }
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        HBox header = new HBox(10, id, name);
+        header.setAlignment(Pos.CENTER_LEFT);
+        cardPane.getChildren().add(new VBox(SPACING, header, tags, nric, phone, email, address, hire));
+
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates a card and discards it, so that the classes and styles used by cards are loaded before the person list
+     * first shows its cards. Can be called from any thread once JavaFX has started.
+     */
+    public static void preload() {
+        new PersonCard(SampleDataUtil.getSamplePersons()[0]);
+    }
 
+    private static Label createLabel(String styleClass, String style) {
+        Label label = new Label();
+        label.getStyleClass().add(styleClass);
+        label.setStyle(style);
+        return label;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} on this card in place of the person it showed before, reusing the labels of the card.
+     * @param displayedIndex The index of the person to display, or a negative number to show no index.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        this.person = person;
+
+        // Hide index for standalone cards
+        id.setText(displayedIndex >= 0 ? displayedIndex + ". " : "");
         name.setText(person.getName().fullName);
         nric.setText(person.getNric().nric);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
         hire.setText(person.getHire().hire);
+        setTags(person.getTags().getTags());
+    }
+
+    /**
+     * Shows {@code personTags} in order of their names, each colored by its position.
+     */
+    private void setTags(Set<Tag> personTags) {
+        String[] tagNames = new String[personTags.size()];
+        int tagCount = 0;
+        for (Tag tag : personTags) {
+            tagNames[tagCount++] = tag.tagName;
+        }
+        Arrays.sort(tagNames);
 
-        String[] tagColors = {
-            "-fx-background-color: #FFCDD2; -fx-text-fill: #D32F2F;", // Red
-            "-fx-background-color: #F8BBD0; -fx-text-fill: #C2185B;", // Pink
-            "-fx-background-color: #D1C4E9; -fx-text-fill: #512DA8;", // Purple
-            "-fx-background-color: #C5CAE9; -fx-text-fill: #303F9F;", // Indigo
-            "-fx-background-color: #BBDEFB; -fx-text-fill: #1976D2;", // Blue
-            "-fx-background-color: #B2EBF2; -fx-text-fill: #0097A7;", // Cyan
-            "-fx-background-color: #B2DFDB; -fx-text-fill: #00796B;", // Teal
-            "-fx-background-color: #C8E6C9; -fx-text-fill: #388E3C;" // Green
-        };
-
-        // Create and style tags
-        int colorIndex = 0;
-        for (Tag tag : person.getTags().getTags().stream()
-            .sorted(Comparator.comparing(t -> t.tagName))
-            .toList()) {
-            Label tagLabel = new Label(tag.tagName);
-            tagLabel.setStyle(tagColors[colorIndex % tagColors.length]
-                + "-fx-text-fill: black; " // All text in black
-                + "-fx-background-radius: 10; "
-                + "-fx-padding: 2 8 2 8; "
-                + "-fx-font-size: 11px;");
+        while (tagLabels.size() < tagCount) {
+            Label tagLabel = new Label();
             tagLabel.setMaxHeight(20);
-            tags.getChildren().add(tagLabel);
-            colorIndex++;
+            tagLabels.add(tagLabel);
+        }
+        for (int i = 0; i < tagCount; i++) {
+            tagLabels.get(i).setText(tagNames[i]);
+            tagLabels.get(i).setStyle(TAG_STYLES[i % TAG_STYLES.length]);
+        }
+
+        // Only add or remove the labels that the number of tags changes
+        List<Node> shownLabels = tags.getChildren();
+        if (shownLabels.size() > tagCount) {
+            shownLabels.subList(tagCount, shownLabels.size()).clear();
+        } else if (shownLabels.size() < tagCount) {
+            shownLabels.addAll(tagLabels.subList(shownLabels.size(), tagCount));
         }
     }
 }
@@ -15,6 +15,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import seedu.address.model.attendance.AttendanceLedger;
 import seedu.address.model.leave.Leave;
 import seedu.address.model.person.Person;
 
@@ -25,6 +26,8 @@ public class PersonDetailsPanel extends UiPart<Region> {
 
     private static final String FXML = "PersonDetailsPanel.fxml";
     private static final String ATTENDANCE_EMPTY_TEXT = "No attendance data available";
+    /** Number of days up to today over which recent absences are shown. */
+    private static final int RECENT_ATTENDANCE_DAYS = 30;
 
     @FXML private Label emptyStateLabel;
     @FXML private StackPane personCardPlaceholder;
@@ -105,8 +108,12 @@ public class PersonDetailsPanel extends UiPart<Region> {
         leaveSection.setVisible(true);
         attendanceSection.setVisible(true);
 
-        // Set up person card
-        personCard = new PersonCard(person);
+        // Set up person card, reusing the card of the last person viewed
+        if (personCard == null) {
+            personCard = new PersonCard(person);
+        } else {
+            personCard.setPerson(person, -1);
+        }
         personCardPlaceholder.getChildren().add(personCard.getRoot());
 
         // Update leave records
@@ -126,30 +133,40 @@ public class PersonDetailsPanel extends UiPart<Region> {
 
         if (person.getAttendance() == null) {
             Label noAttendance = new Label(ATTENDANCE_EMPTY_TEXT);
-            attendanceGrid.add(noAttendance, 0, 0, 3, 1); // Span all columns
+            attendanceGrid.add(noAttendance, 0, 0, 4, 1); // Span all columns
         } else {
             int daysWorked = person.getAttendance().getWorkDayCount() - person.getAttendance().getAbsentDayCount();
             int daysSinceHire = person.getAttendance().getWorkDayCount();
             double attendanceRate = person.getAttendance().getAttendanceRate();
 
+            // Absences over the recent days on which attendance was taken, from the dated records
+            LocalDate today = LocalDate.now();
+            LocalDate recentStart = today.minusDays(RECENT_ATTENDANCE_DAYS - 1);
+            AttendanceLedger ledger = person.getAttendance().getLedger();
+            int recentAbsentDays = ledger.countAbsentDays(recentStart, today);
+            int recentTrackedDays = ledger.countTrackedDays(recentStart, today);
+
             // Create headers
             Label header1 = new Label("DAYS WORKED");
             Label header2 = new Label("DAYS TRACKED SINCE HIRE");
             Label header3 = new Label("ATTENDANCE RATE");
+            Label header4 = new Label("ABSENT (LAST " + RECENT_ATTENDANCE_DAYS + " DAYS)");
 
             // Create data labels
             Label data1 = new Label(String.valueOf(daysWorked));
             Label data2 = new Label(String.valueOf(daysSinceHire));
             Label data3 = new Label(String.format("%.1f%%", attendanceRate));
+            Label data4 = new Label(String.format("%d of %d", recentAbsentDays, recentTrackedDays));
 
             // Style headers
             header1.setStyle("-fx-font-weight: bold;");
             header2.setStyle("-fx-font-weight: bold;");
             header3.setStyle("-fx-font-weight: bold;");
+            header4.setStyle("-fx-font-weight: bold;");
 
             // Add to grid
-            attendanceGrid.addRow(0, header1, header2, header3);
-            attendanceGrid.addRow(1, data1, data2, data3);
+            attendanceGrid.addRow(0, header1, header2, header3, header4);
+            attendanceGrid.addRow(1, data1, data2, data3, data4);
         }
 
         // Force UI update
@@ -20,6 +20,8 @@ public class PersonListPanel extends UiPart<Region> {
             + "-fx-background-color: transparent; "
             + "-fx-padding: 5; " // Padding around the entire list
             + "-fx-cell-size: 150;"; // Height of each cell
+    private static final String EMPTY_CELL_STYLE = "-fx-padding: 0; -fx-background-color: transparent;";
+    private static final String CELL_STYLE = "-fx-padding: 0 0 8 0; -fx-background-color: transparent;";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     @FXML
@@ -40,8 +42,12 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The list view reuses its cells as it scrolls, and each cell keeps its card to show the next person on it,
+     * rather than loading a new card for every person scrolled to.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -49,10 +55,15 @@ public class PersonListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
-                setStyle("-fx-padding: 0; -fx-background-color: transparent;");
+                setStyle(EMPTY_CELL_STYLE);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
-                setStyle("-fx-padding: 0 0 8 0; -fx-background-color: transparent;");
+                if (card == null) {
+                    card = new PersonCard(person, getIndex() + 1);
+                } else {
+                    card.setPerson(person, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
+                setStyle(CELL_STYLE);
             }
         }
     }
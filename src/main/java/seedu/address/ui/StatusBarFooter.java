@@ -1,28 +1,95 @@
 package seedu.address.ui;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
+ *
+ * While a command runs, the status bar shows the command with a button to cancel it. Commands that finish within
+ * {@link #RUNNING_DELAY} are not shown, so that the status bar does not flicker for quick commands.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    /** Time a command must run for before it is shown as running. */
+    public static final Duration RUNNING_DELAY = Duration.millis(300);
+
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String RUNNING_FORMAT = "Running: %1$s";
+    private static final String CANCELLING_FORMAT = "Cancelling: %1$s";
+
+    private final PauseTransition runningDelay = new PauseTransition(RUNNING_DELAY);
+
+    private String runningCommandText;
+    private Runnable cancelHandler;
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox commandStatus;
+
+    @FXML
+    private Label commandStatusLabel;
+
+    @FXML
+    private Button cancelButton;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        runningDelay.setOnFinished(unused -> setCommandStatusVisible(true));
+    }
+
+    /**
+     * Shows that {@code commandText} is running, once it has run for {@link #RUNNING_DELAY}, with a button that
+     * cancels it by calling {@code cancelHandler}.
+     */
+    public void showCommandRunning(String commandText, Runnable cancelHandler) {
+        requireAllNonNull(commandText, cancelHandler);
+        this.runningCommandText = commandText;
+        this.cancelHandler = cancelHandler;
+        commandStatusLabel.setText(String.format(RUNNING_FORMAT, commandText));
+        cancelButton.setDisable(false);
+        runningDelay.playFromStart();
+    }
+
+    /**
+     * Stops showing the running command, after it has finished.
+     */
+    public void hideCommandRunning() {
+        runningDelay.stop();
+        runningCommandText = null;
+        cancelHandler = null;
+        setCommandStatusVisible(false);
+    }
+
+    @FXML
+    private void handleCancel() {
+        if (cancelHandler == null) {
+            return;
+        }
+        cancelHandler.run();
+        commandStatusLabel.setText(String.format(CANCELLING_FORMAT, runningCommandText));
+        cancelButton.setDisable(true);
+    }
+
+    private void setCommandStatusVisible(boolean isVisible) {
+        commandStatus.setVisible(isVisible);
+        commandStatus.setManaged(isVisible);
     }
 
 }
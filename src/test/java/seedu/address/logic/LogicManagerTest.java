@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -15,16 +16,23 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -34,6 +42,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -87,6 +96,112 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        useStorageThatThrows(DUMMY_IO_EXCEPTION);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_previousSaveFailed_savesAgain() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        // The address book still differs from storage, so even a command without changes saves it
+        assertCommandException(ListCommand.COMMAND_WORD, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_messagePassedToHandler() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageThatThrows(DUMMY_IO_EXCEPTION));
+        logic = new LogicManager(model, storage);
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        logic.setSaveFailureHandler(messages::add);
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        storage.flush();
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                messages);
+
+        // The failed save is retried after the next command
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flush();
+        assertEquals(2, messages.size());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailsBeforeSaveReturns_savesAgain() throws Exception {
+        List<ReadOnlyAddressBook> saves = new ArrayList<>();
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("a.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json"))) {
+            private Consumer<IOException> saveFailureHandler;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+                // The writer thread fails the save before this method returns to the caller
+                saves.add(addressBook);
+                saveFailureHandler.accept(DUMMY_IO_EXCEPTION);
+            }
+
+            @Override
+            public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+                this.saveFailureHandler = saveFailureHandler;
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saves.size());
+    }
+
+    @Test
+    public void execute_interruptedBeforeCommand_throwsCommandException() {
+        model.addPerson(AMY);
+        Thread.currentThread().interrupt();
+        assertCommandException(ClearCommand.COMMAND_WORD, LogicManager.MESSAGE_COMMAND_CANCELLED);
+        assertFalse(Thread.interrupted());
+    }
+
+    @Test
+    public void execute_interruptedDuringCommand_changesSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        model.addPerson(AMY);
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                assertFalse(Thread.currentThread().isInterrupted());
+                super.saveAddressBook(addressBook);
+            }
+        });
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) unused ->
+                Thread.currentThread().interrupt());
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertFalse(Thread.interrupted());
+        assertEquals(0, new JsonAddressBookStorage(addressBookPath).readAddressBook().orElseThrow()
+                .getPersonList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonList_filtersModelList() {
+        model.addPerson(AMY);
+        logic.updateFilteredPersonList(person -> !person.isSamePerson(AMY));
+        assertEquals(Collections.emptyList(), logic.getFilteredPersonList());
+
+        logic.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(AMY), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void searchPersons_matchingPerson_returnsNric() throws Exception {
+        model.addPerson(AMY);
+        assertEquals(Set.of(AMY.getNric()), logic.searchPersons(new FindCommandParser().parseQuery(" amy")));
+        assertEquals(Set.of(), logic.searchPersons(new FindCommandParser().parseQuery(" nobody")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -152,22 +267,7 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
-        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
-
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
-        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
-            @Override
-            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
-                    throws IOException {
-                throw e;
-            }
-        };
-
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
+        useStorageThatThrows(e);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD
@@ -183,4 +283,31 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * Injects {@code logic} with a Storage component that throws {@code e} when saving the address book.
+     */
+    private void useStorageThatThrows(IOException e) {
+        logic = new LogicManager(model, createStorageThatThrows(e));
+    }
+
+    /**
+     * Returns a Storage component that throws {@code e} when saving the address book.
+     */
+    private StorageManager createStorageThatThrows(IOException e) {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
+
+        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                throw e;
+            }
+        };
+
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
 }
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AbsenteesCommand}.
+ */
+public class AbsenteesCommandTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 3, 3);
+    private static final LocalDate SECOND_DATE = LocalDate.of(2025, 3, 4);
+    private static final LocalDate THIRD_DATE = LocalDate.of(2025, 3, 5);
+
+    // The typical persons are copied, as marking attendance changes them
+    private Model model = new ModelManager(getTypicalAddressBook().copy(), new UserPrefs());
+    private Person alice;
+    private Person benson;
+
+    @BeforeEach
+    public void setUp() {
+        alice = model.getFilteredPersonList().get(0);
+        benson = model.getFilteredPersonList().get(1);
+        for (Person person : model.getFilteredPersonList()) {
+            model.markAttendance(person, FIRST_DATE, person == alice);
+            model.markAttendance(person, SECOND_DATE, person == benson);
+            model.markAttendance(person, THIRD_DATE, false);
+        }
+    }
+
+    @Test
+    public void execute_rangeWithAbsences_absenteesListed() {
+        CommandResult result = new AbsenteesCommand(FIRST_DATE, THIRD_DATE).execute(model);
+
+        assertEquals(String.format(AbsenteesCommand.MESSAGE_SUCCESS, 2, FIRST_DATE, THIRD_DATE),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(alice, benson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_singleDate_absenteesOnDateListed() {
+        new AbsenteesCommand(SECOND_DATE, SECOND_DATE).execute(model);
+        assertEquals(Arrays.asList(benson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rangeWithoutAbsences_noPersonListed() {
+        CommandResult result = new AbsenteesCommand(THIRD_DATE, THIRD_DATE.plusDays(30)).execute(model);
+
+        assertEquals(String.format(AbsenteesCommand.MESSAGE_SUCCESS, 0, THIRD_DATE, THIRD_DATE.plusDays(30)),
+                result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        AbsenteesCommand command = new AbsenteesCommand(FIRST_DATE, SECOND_DATE);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new AbsenteesCommand(FIRST_DATE, SECOND_DATE)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different dates -> returns false
+        assertFalse(command.equals(new AbsenteesCommand(FIRST_DATE, THIRD_DATE)));
+        assertFalse(command.equals(new AbsenteesCommand(SECOND_DATE, SECOND_DATE)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AbsenteesCommand command = new AbsenteesCommand(FIRST_DATE, SECOND_DATE);
+        String expected = AbsenteesCommand.class.getCanonicalName() + "{startDate=" + FIRST_DATE
+                + ", endDate=" + SECOND_DATE + "}";
+        assertEquals(expected, command.toString());
+    }
+}
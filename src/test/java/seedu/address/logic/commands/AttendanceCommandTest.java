@@ -4,21 +4,28 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.LazyPersonSourceStub;
 import seedu.address.testutil.TypicalPersons;
 
 public class AttendanceCommandTest {
 
-    private Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 4);
+
+    // The typical persons are copied, as marking attendance changes them
+    private Model model = new ModelManager(TypicalPersons.getTypicalAddressBook().copy(), new UserPrefs());
 
     private Person alice = model.getFilteredPersonList().stream()
             .filter(p -> p.isSamePerson(TypicalPersons.ALICE))
@@ -95,12 +102,110 @@ public class AttendanceCommandTest {
         AttendanceCommand attendanceCommand = new AttendanceCommand(absentNrics);
 
         CommandResult result = attendanceCommand.execute(model);
-        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS, "0 person marked as absent.");
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS, "0 person marked as absent.")
+                + "\n" + String.format(AttendanceCommand.MESSAGE_UNMATCHED_NRICS, "T9999999A");
         assertEquals(expectedMessage, result.getFeedbackToUser());
         assertEquals(aliceOrininalWorkDayCount + 1, alice.getAttendance().getWorkDayCount());
         assertEquals(aliceOrininalAbsentDayCount, alice.getAttendance().getAbsentDayCount());
     }
 
+    @Test
+    public void execute_withLowerCaseAndDuplicateNrics_eachPersonMarkedOnce() throws CommandException {
+        String aliceNric = TypicalPersons.ALICE.getNric().getNric();
+        List<String> absentNrics = Arrays.asList(aliceNric.toLowerCase(), aliceNric, "t9999999a", "T9999999A",
+                "S8888888B");
+
+        int aliceOrininalAbsentDayCount = alice.getAttendance().getAbsentDayCount();
+        int bensonOrininalAbsentDayCount = benson.getAttendance().getAbsentDayCount();
+
+        CommandResult result = new AttendanceCommand(absentNrics).execute(model);
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS, "1 person marked as absent.")
+                + "\n" + String.format(AttendanceCommand.MESSAGE_UNMATCHED_NRICS, "T9999999A S8888888B");
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(aliceOrininalAbsentDayCount + 1, alice.getAttendance().getAbsentDayCount());
+        assertEquals(bensonOrininalAbsentDayCount, benson.getAttendance().getAbsentDayCount());
+    }
+
+    @Test
+    public void execute_filteredList_nricsOfHiddenPersonsNotReportedAsUnmatched() throws CommandException {
+        model.updateFilteredPersonList(person -> person.isSamePerson(TypicalPersons.ALICE));
+        List<String> absentNrics = Arrays.asList(TypicalPersons.BENSON.getNric().getNric(), "T9999999A");
+
+        int aliceOrininalWorkDayCount = alice.getAttendance().getWorkDayCount();
+        int bensonOrininalWorkDayCount = benson.getAttendance().getWorkDayCount();
+        int bensonOrininalAbsentDayCount = benson.getAttendance().getAbsentDayCount();
+
+        CommandResult result = new AttendanceCommand(absentNrics, DATE).execute(model);
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS, "0 person marked as absent.")
+                + "\n" + String.format(AttendanceCommand.MESSAGE_UNMATCHED_NRICS, "T9999999A");
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(aliceOrininalWorkDayCount + 1, alice.getAttendance().getWorkDayCount());
+        assertEquals(bensonOrininalWorkDayCount, benson.getAttendance().getWorkDayCount());
+        assertEquals(bensonOrininalAbsentDayCount, benson.getAttendance().getAbsentDayCount());
+    }
+
+    @Test
+    public void execute_sameDateTwice_onlyAbsencesUpdated() throws CommandException {
+        String aliceNric = TypicalPersons.ALICE.getNric().getNric();
+        int aliceOriginalWorkDayCount = alice.getAttendance().getWorkDayCount();
+        int aliceOriginalAbsentDayCount = alice.getAttendance().getAbsentDayCount();
+
+        new AttendanceCommand(Arrays.asList(aliceNric), DATE).execute(model);
+        new AttendanceCommand(Arrays.asList(), DATE).execute(model);
+
+        assertEquals(aliceOriginalWorkDayCount + 1, alice.getAttendance().getWorkDayCount());
+        assertEquals(aliceOriginalAbsentDayCount, alice.getAttendance().getAbsentDayCount());
+        assertTrue(alice.getAttendance().getLedger().isTracked(DATE));
+        assertFalse(alice.getAttendance().getLedger().isAbsent(DATE));
+    }
+
+    @Test
+    public void execute_differentDates_recordedInLedger() throws CommandException {
+        String aliceNric = TypicalPersons.ALICE.getNric().getNric();
+        int aliceOriginalWorkDayCount = alice.getAttendance().getWorkDayCount();
+
+        new AttendanceCommand(Arrays.asList(aliceNric), DATE).execute(model);
+        new AttendanceCommand(Arrays.asList(), DATE.plusDays(1)).execute(model);
+
+        assertEquals(aliceOriginalWorkDayCount + 2, alice.getAttendance().getWorkDayCount());
+        assertEquals(1, alice.getAttendance().getLedger().countAbsentDays(DATE, DATE.plusDays(1)));
+        assertEquals(2, benson.getAttendance().getLedger().countTrackedDays(DATE, DATE.plusDays(1)));
+        assertEquals(0, benson.getAttendance().getLedger().countAbsentDays(DATE, DATE.plusDays(1)));
+    }
+
+    @Test
+    public void execute_lazilyHeldPersons_personListChangedOnce() throws CommandException {
+        model = new ModelManager(new LazyPersonSourceStub(TypicalPersons.getTypicalPersons()), new UserPrefs());
+        List<Integer> changeSizes = new ArrayList<>();
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                changeSizes.add(change.getList().size()));
+
+        new AttendanceCommand(Arrays.asList(), DATE).execute(model);
+        assertEquals(List.of(TypicalPersons.getTypicalPersons().size()), changeSizes);
+        assertTrue(model.getFilteredPersonList().stream()
+                .allMatch(person -> person.getAttendance().getLedger().isTracked(DATE)));
+    }
+
+    @Test
+    public void execute_interrupted_stopsBeforeMarkingRest() throws CommandException {
+        int aliceOriginalWorkDayCount = alice.getAttendance().getWorkDayCount();
+        int personCount = model.getFilteredPersonList().size();
+
+        CommandResult result;
+        Thread.currentThread().interrupt();
+        try {
+            result = new AttendanceCommand(Arrays.asList(), DATE).execute(model);
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(String.format(AttendanceCommand.MESSAGE_CANCELLED, 0, personCount), result.getFeedbackToUser());
+        assertFalse(alice.getAttendance().getLedger().isTracked(DATE));
+
+        // Entering the command again marks the rest
+        new AttendanceCommand(Arrays.asList(), DATE).execute(model);
+        assertEquals(aliceOriginalWorkDayCount + 1, alice.getAttendance().getWorkDayCount());
+    }
+
     @Test
     public void equals() {
         AttendanceCommand attendanceCommand1 = new AttendanceCommand(Arrays.asList("T0123456A"));
@@ -113,6 +218,9 @@ public class AttendanceCommandTest {
         // same values -> returns true
         assertTrue(attendanceCommand1.equals(attendanceCommand2));
 
+        // same NRICs in a different case -> returns true
+        assertTrue(attendanceCommand1.equals(new AttendanceCommand(Arrays.asList("t0123456a"))));
+
         // different types -> returns false
         assertFalse(attendanceCommand1.equals(1));
 
@@ -121,5 +229,9 @@ public class AttendanceCommandTest {
 
         // different NRIC lists -> returns false
         assertFalse(attendanceCommand1.equals(attendanceCommand3));
+
+        // different dates -> returns false
+        assertFalse(new AttendanceCommand(Arrays.asList("T0123456A"), DATE)
+                .equals(new AttendanceCommand(Arrays.asList("T0123456A"), DATE.plusDays(1))));
     }
 }
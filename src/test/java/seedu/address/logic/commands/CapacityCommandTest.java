@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model and a csv file) and unit tests for CapacityCommand.
+ */
+public class CapacityCommandTest {
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag RIVALS = new Tag("rivals");
+    private static final List<Tag> TAGS = Arrays.asList(FRIENDS, RIVALS);
+    private static final LocalDate FIRST_DATE = LocalDate.of(2021, 10, 1);
+    private static final LocalDate SECOND_DATE = LocalDate.of(2021, 10, 31);
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noExport_showsPeriodsOnLeave() {
+        String expectedMessage = String.format(CapacityCommand.MESSAGE_SUCCESS, FIRST_DATE, SECOND_DATE) + "\n"
+                + String.format(CapacityCommand.MESSAGE_TEAM, FRIENDS, 4, 2, LocalDate.of(2021, 10, 11)) + "\n"
+                + String.format(CapacityCommand.MESSAGE_PERIOD, LocalDate.of(2021, 10, 10),
+                        LocalDate.of(2021, 10, 10), 1) + "\n"
+                + String.format(CapacityCommand.MESSAGE_PERIOD, LocalDate.of(2021, 10, 11),
+                        LocalDate.of(2021, 10, 12), 2) + "\n"
+                + String.format(CapacityCommand.MESSAGE_TEAM_NONE_ON_LEAVE, RIVALS, 1);
+
+        assertCommandSuccess(new CapacityCommand(TAGS, FIRST_DATE, SECOND_DATE, Optional.empty()), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_leaveUntilEndDate_lastPeriodShown() {
+        LocalDate endDate = LocalDate.of(2021, 10, 11);
+        String expectedMessage = String.format(CapacityCommand.MESSAGE_SUCCESS, endDate, endDate) + "\n"
+                + String.format(CapacityCommand.MESSAGE_TEAM, FRIENDS, 4, 2, endDate) + "\n"
+                + String.format(CapacityCommand.MESSAGE_PERIOD, endDate, endDate, 2);
+
+        assertCommandSuccess(new CapacityCommand(Arrays.asList(FRIENDS), endDate, endDate, Optional.empty()), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_export_writesCsv() throws Exception {
+        Path filePath = testFolder.resolve("capacity.csv");
+        CommandResult result = new CapacityCommand(TAGS, FIRST_DATE, SECOND_DATE, Optional.of(filePath))
+                .execute(model);
+
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(CapacityCommand.MESSAGE_EXPORTED, filePath)));
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(32, lines.size());
+        assertEquals("date,friends,rivals", lines.get(0));
+        assertEquals("2021-10-11,2,0", lines.get(11));
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path notFolder = testFolder.resolve("notFolder");
+        Files.writeString(notFolder, "");
+
+        assertThrows(CommandException.class, () -> new CapacityCommand(TAGS, FIRST_DATE, SECOND_DATE,
+                Optional.of(notFolder.resolve("capacity.csv"))).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        CapacityCommand command = new CapacityCommand(TAGS, FIRST_DATE, SECOND_DATE, Optional.empty());
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new CapacityCommand(TAGS, FIRST_DATE, SECOND_DATE, Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different tags -> returns false
+        assertFalse(command.equals(new CapacityCommand(Arrays.asList(RIVALS, FRIENDS), FIRST_DATE, SECOND_DATE,
+                Optional.empty())));
+
+        // different dates -> returns false
+        assertFalse(command.equals(new CapacityCommand(TAGS, FIRST_DATE, FIRST_DATE, Optional.empty())));
+
+        // different export path -> returns false
+        assertFalse(command.equals(new CapacityCommand(TAGS, FIRST_DATE, SECOND_DATE,
+                Optional.of(testFolder.resolve("capacity.csv")))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        CapacityCommand command = new CapacityCommand(TAGS, FIRST_DATE, SECOND_DATE, Optional.empty());
+        String expected = CapacityCommand.class.getCanonicalName() + "{tags=" + TAGS + ", startDate=" + FIRST_DATE
+                + ", endDate=" + SECOND_DATE + ", exportPath=" + Optional.empty() + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Contains integration tests (interaction with the Model and a json file) and unit tests for ExportCommand.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_validFile_writesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS,
+                model.getAddressBook().getPersonList().size(), filePath);
+
+        assertCommandSuccess(new ExportCommand(filePath), model, expectedMessage, expectedModel);
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_existingFile_noBackupsKept() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        new ExportCommand(filePath).execute(model);
+        new ExportCommand(filePath).execute(model);
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path notFolder = testFolder.resolve("notFolder");
+        Files.writeString(notFolder, "");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertThrows(CommandException.class, () -> new ExportCommand(notFolder.resolve("export.json"))
+                .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(testFolder.resolve("a.json"));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(testFolder.resolve("a.json"))));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(testFolder.resolve("b.json"))));
+    }
+}
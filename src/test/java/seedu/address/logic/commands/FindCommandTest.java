@@ -5,20 +5,30 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NricsMatchPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -29,19 +39,17 @@ public class FindCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
+        SearchQuery firstQuery = new SearchQuery(Collections.singletonList("first"));
+        SearchQuery secondQuery = new SearchQuery(Collections.singletonList("second"));
 
-        FindCommand findFirstCommand = new FindCommand(firstPredicate);
-        FindCommand findSecondCommand = new FindCommand(secondPredicate);
+        FindCommand findFirstCommand = new FindCommand(firstQuery);
+        FindCommand findSecondCommand = new FindCommand(secondQuery);
 
         // same object -> returns true
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // same values -> returns true
-        FindCommand findFirstCommandCopy = new FindCommand(firstPredicate);
+        FindCommand findFirstCommandCopy = new FindCommand(firstQuery);
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // different types -> returns false
@@ -56,36 +64,70 @@ public class FindCommandTest {
 
     @Test
     public void execute_zeroKeywords_noPersonFound() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
-        NameContainsKeywordsPredicate predicate = preparePredicate(" ");
-        FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertFindSuccess(new SearchQuery(Arrays.asList(" ".split("\\s+"))));
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_multipleKeywords_multiplePersonsFound() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
-        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
-        FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+        assertFindSuccess(new SearchQuery(Arrays.asList("Kurz", "Elle", "Kunz")), CARL, ELLE, FIONA);
+    }
+
+    @Test
+    public void execute_keywordsInOtherFields_personsFound() {
+        // address
+        assertFindSuccess(new SearchQuery(Arrays.asList("street")), CARL, DANIEL, GEORGE);
+
+        // email and phone
+        assertFindSuccess(new SearchQuery(Arrays.asList("heinz@example.com", "9482224")), CARL, ELLE);
+    }
+
+    @Test
+    public void execute_multipleFields_personsMatchingEveryField() {
+        assertFindSuccess(new SearchQuery(Collections.emptyList(),
+                Map.of(SearchField.NAME, List.of("meier"), SearchField.TAG, List.of("friends"))), BENSON, DANIEL);
+    }
+
+    @Test
+    public void execute_prefixKeyword_personsWithWordsStartingWithPrefix() {
+        assertFindSuccess(new SearchQuery(Collections.emptyList(), Map.of(SearchField.NAME, List.of("me*"))),
+                BENSON, DANIEL, ELLE);
+    }
+
+    @Test
+    public void execute_afterPersonEdited_findsNewName() {
+        SearchQuery query = new SearchQuery(Arrays.asList("Zed"));
+        new FindCommand(query).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        Person carl = model.getFilteredPersonList().get(2);
+        Person editedCarl = new PersonBuilder(carl).withName("Carl Zed").build();
+        model.setPerson(carl, editedCarl);
+
+        new FindCommand(query).execute(model);
+        assertEquals(Arrays.asList(editedCarl), model.getFilteredPersonList());
+        new FindCommand(new SearchQuery(Arrays.asList("Kurz"))).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
     @Test
     public void toStringMethod() {
-        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
-        FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        SearchQuery query = new SearchQuery(Arrays.asList("keyword"));
+        FindCommand findCommand = new FindCommand(query);
+        String expected = FindCommand.class.getCanonicalName() + "{query=" + query + "}";
         assertEquals(expected, findCommand.toString());
     }
 
     /**
-     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     * Executes a {@code FindCommand} for {@code query}, and asserts that exactly {@code expectedPersons} are listed.
      */
-    private NameContainsKeywordsPredicate preparePredicate(String userInput) {
-        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    private void assertFindSuccess(SearchQuery query, Person... expectedPersons) {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.length);
+        expectedModel.updateFilteredPersonList(new NricsMatchPredicate(Arrays.stream(expectedPersons)
+                .map(Person::getNric)
+                .collect(Collectors.toList())));
+        assertCommandSuccess(new FindCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(expectedPersons), model.getFilteredPersonList());
     }
 }
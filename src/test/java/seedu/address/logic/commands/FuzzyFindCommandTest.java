@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NricsMatchPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_typo_similarNamesListedClosestFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4) + "\n"
+                + String.format(FuzzyFindCommand.MESSAGE_CLOSEST_MATCHES,
+                        "Benson Meier, Daniel Meier, Carl Kurz, Elle Meyer");
+        expectedModel.updateFilteredPersonList(new NricsMatchPredicate(
+                Arrays.asList(BENSON.getNric(), CARL.getNric(), DANIEL.getNric(), ELLE.getNric())));
+
+        assertCommandSuccess(new FuzzyFindCommand(List.of("meier", "kruz")), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noSimilarName_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(new NricsMatchPredicate(Collections.emptyList()));
+
+        assertCommandSuccess(new FuzzyFindCommand(List.of("zzz")), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand command = new FuzzyFindCommand(List.of("first"));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FuzzyFindCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(command.equals(new FuzzyFindCommand(List.of("second"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyFindCommand command = new FuzzyFindCommand(List.of("keyword"));
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{keywords=[keyword]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Contains integration tests (interaction with the Model and a json file) and unit tests for ImportCommand.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_validFile_replacesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("import.json");
+        AddressBook imported = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(imported);
+
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager(imported, new UserPrefs());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, imported.getPersonList().size(),
+                filePath);
+
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                new CommandResult(expectedMessage, false, false, true), expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path filePath = testFolder.resolve("missing.json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_invalidFile_addressBookUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        Files.writeString(filePath, "not json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath).execute(model));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(testFolder.resolve("a.json"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(testFolder.resolve("a.json"))));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(testFolder.resolve("b.json"))));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code OnLeaveCommand}.
+ */
+public class OnLeaveCommandTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2021, 10, 12);
+    private static final LocalDate SECOND_DATE = LocalDate.of(2021, 10, 31);
+
+    // The typical persons are copied, as adding leaves changes them
+    private Model model = new ModelManager(getTypicalAddressBook().copy(), new UserPrefs());
+
+    @Test
+    public void execute_rangeWithLeaves_personsOnLeaveListed() {
+        CommandResult result = new OnLeaveCommand(FIRST_DATE, SECOND_DATE).execute(model);
+
+        assertEquals(String.format(OnLeaveCommand.MESSAGE_SUCCESS, 2, FIRST_DATE, SECOND_DATE),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rangeWithoutLeaves_noPersonListed() {
+        CommandResult result = new OnLeaveCommand(SECOND_DATE, SECOND_DATE).execute(model);
+
+        assertEquals(String.format(OnLeaveCommand.MESSAGE_SUCCESS, 0, SECOND_DATE, SECOND_DATE),
+                result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_afterLeaveAdded_newLeaveIncluded() {
+        new OnLeaveCommand(SECOND_DATE, SECOND_DATE).execute(model);
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        Person daniel = model.getFilteredPersonList().get(3);
+        model.addLeave(daniel, new Leave(SECOND_DATE, SECOND_DATE, "Annual Leave"));
+
+        new OnLeaveCommand(SECOND_DATE, SECOND_DATE).execute(model);
+        assertEquals(Arrays.asList(daniel), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        OnLeaveCommand command = new OnLeaveCommand(FIRST_DATE, SECOND_DATE);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new OnLeaveCommand(FIRST_DATE, SECOND_DATE)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different dates -> returns false
+        assertFalse(command.equals(new OnLeaveCommand(FIRST_DATE, FIRST_DATE)));
+        assertFalse(command.equals(new OnLeaveCommand(SECOND_DATE, SECOND_DATE)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        OnLeaveCommand command = new OnLeaveCommand(FIRST_DATE, SECOND_DATE);
+        String expected = OnLeaveCommand.class.getCanonicalName() + "{startDate=" + FIRST_DATE
+                + ", endDate=" + SECOND_DATE + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ScriptCommand.Line;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ScriptCommand.
+ */
+public class ScriptCommandTest {
+
+    private static final Path FILE_PATH = Paths.get("script.txt");
+    private static final Line DELETE_FIRST_LINE = Line.parsed(1, new DeleteCommand(INDEX_FIRST_PERSON));
+    private static final Line ADD_DUPLICATE_LINE = Line.parsed(2, new AddCommand(BENSON));
+    private static final Line UNPARSABLE_LINE = Line.unparsable(3, MESSAGE_UNKNOWN_COMMAND);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScriptCommand(null, List.of(), false));
+        assertThrows(NullPointerException.class, () -> new ScriptCommand(FILE_PATH, null, false));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_changesKept() {
+        ScriptCommand command = new ScriptCommand(FILE_PATH,
+                List.of(DELETE_FIRST_LINE, Line.parsed(4, new DeleteCommand(INDEX_FIRST_PERSON))), false);
+
+        // the second command deletes the person who is first after the first command
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        Person lastDeletedPerson = expectedModel.getFilteredPersonList().get(0);
+        expectedModel.deletePerson(lastDeletedPerson);
+
+        assertCommandSuccess(command, model, new CommandResult(String.format(ScriptCommand.MESSAGE_SUCCESS, 2, 2,
+                FILE_PATH), lastDeletedPerson, true), expectedModel);
+    }
+
+    @Test
+    public void execute_failuresWithoutRollback_otherChangesKeptAndFailuresReported() {
+        ScriptCommand command = new ScriptCommand(FILE_PATH,
+                List.of(DELETE_FIRST_LINE, ADD_DUPLICATE_LINE, UNPARSABLE_LINE), false);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Person deletedPerson = expectedModel.getFilteredPersonList().get(0);
+        expectedModel.deletePerson(deletedPerson);
+        String expectedMessage = String.format(ScriptCommand.MESSAGE_SUCCESS, 1, 2, FILE_PATH)
+                + "\n" + String.format(ScriptCommand.MESSAGE_LINE_FAILED, 2, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ScriptCommand.MESSAGE_LINE_FAILED, 3, MESSAGE_UNKNOWN_COMMAND);
+
+        assertCommandSuccess(command, model, new CommandResult(expectedMessage, deletedPerson, true), expectedModel);
+    }
+
+    @Test
+    public void execute_commandFailsWithRollback_noChangesMade() {
+        ScriptCommand command = new ScriptCommand(FILE_PATH, List.of(DELETE_FIRST_LINE, ADD_DUPLICATE_LINE), true);
+        String expectedMessage = String.format(ScriptCommand.MESSAGE_ROLLED_BACK, FILE_PATH)
+                + "\n" + String.format(ScriptCommand.MESSAGE_LINE_FAILED, 2, AddCommand.MESSAGE_DUPLICATE_PERSON);
+
+        assertCommandFailure(command, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_commandThrowsWithRollback_noChangesMade() {
+        Command throwingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new IllegalStateException();
+            }
+        };
+        ScriptCommand command = new ScriptCommand(FILE_PATH,
+                List.of(DELETE_FIRST_LINE, Line.parsed(2, throwingCommand)), true);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertThrows(IllegalStateException.class, () -> command.execute(model));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_commandsUpdateDetailsPanel_lastUpdatePassedOn() {
+        Person deletedPerson = model.getFilteredPersonList().get(0);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(deletedPerson);
+        Person viewedPerson = expectedModel.getFilteredPersonList().get(0);
+
+        ScriptCommand command = new ScriptCommand(FILE_PATH, List.of(DELETE_FIRST_LINE), false);
+        assertCommandSuccess(command, model, new CommandResult(String.format(ScriptCommand.MESSAGE_SUCCESS, 1, 1,
+                FILE_PATH), deletedPerson, true), expectedModel);
+
+        command = new ScriptCommand(FILE_PATH, List.of(Line.parsed(1, new ViewCommand(INDEX_FIRST_PERSON))), false);
+        assertCommandSuccess(command, model, new CommandResult(String.format(ScriptCommand.MESSAGE_SUCCESS, 1, 1,
+                FILE_PATH), viewedPerson), expectedModel);
+    }
+
+    @Test
+    public void execute_unparsableLineWithRollback_noCommandRun() {
+        ScriptCommand command = new ScriptCommand(FILE_PATH, List.of(DELETE_FIRST_LINE, UNPARSABLE_LINE), true);
+        String expectedMessage = String.format(ScriptCommand.MESSAGE_ROLLED_BACK, FILE_PATH)
+                + "\n" + String.format(ScriptCommand.MESSAGE_LINE_FAILED, 3, MESSAGE_UNKNOWN_COMMAND);
+
+        assertCommandFailure(command, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_interrupted_noCommandRun() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Thread.currentThread().interrupt();
+        try {
+            assertCommandSuccess(new ScriptCommand(FILE_PATH, List.of(DELETE_FIRST_LINE), false), model,
+                    String.format(ScriptCommand.MESSAGE_CANCELLED, 0, 1, FILE_PATH), expectedModel);
+            assertCommandFailure(new ScriptCommand(FILE_PATH, List.of(DELETE_FIRST_LINE), true), model,
+                    String.format(ScriptCommand.MESSAGE_ROLLED_BACK_ON_CANCEL, FILE_PATH));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void equals() {
+        ScriptCommand command = new ScriptCommand(FILE_PATH, List.of(DELETE_FIRST_LINE), false);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ScriptCommand(Paths.get("script.txt"),
+                List.of(Line.parsed(1, new DeleteCommand(INDEX_FIRST_PERSON))), false)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // different file path -> returns false
+        assertFalse(command.equals(new ScriptCommand(Paths.get("other.txt"), List.of(DELETE_FIRST_LINE), false)));
+
+        // different lines -> returns false
+        assertFalse(command.equals(new ScriptCommand(FILE_PATH, List.of(UNPARSABLE_LINE), false)));
+
+        // different rollback -> returns false
+        assertFalse(command.equals(new ScriptCommand(FILE_PATH, List.of(DELETE_FIRST_LINE), true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ScriptCommand command = new ScriptCommand(FILE_PATH, List.of(DELETE_FIRST_LINE), true);
+        String expected = ScriptCommand.class.getCanonicalName() + "{filePath=" + FILE_PATH + ", lines="
+                + List.of(DELETE_FIRST_LINE) + ", isRollbackOnFailure=true}";
+        assertEquals(expected, command.toString());
+    }
+
+    @Test
+    public void lineEquals() {
+        assertEquals(DELETE_FIRST_LINE, Line.parsed(1, new DeleteCommand(INDEX_FIRST_PERSON)));
+        assertEquals(DELETE_FIRST_LINE.hashCode(), Line.parsed(1, new DeleteCommand(INDEX_FIRST_PERSON)).hashCode());
+        assertFalse(DELETE_FIRST_LINE.equals(Line.parsed(2, new DeleteCommand(INDEX_FIRST_PERSON))));
+        assertFalse(UNPARSABLE_LINE.equals(Line.unparsable(3, "other")));
+        assertFalse(DELETE_FIRST_LINE.equals(null));
+    }
+}
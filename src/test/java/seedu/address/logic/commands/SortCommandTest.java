@@ -5,28 +5,30 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.comparators.AddressComparator;
-import seedu.address.model.person.comparators.EmailComparator;
-import seedu.address.model.person.comparators.HireComparator;
-import seedu.address.model.person.comparators.NameComparator;
-import seedu.address.model.person.comparators.NricComparator;
-import seedu.address.model.person.comparators.PhoneComparator;
+import seedu.address.model.person.comparators.PersonSortOrder;
+import seedu.address.model.person.comparators.PersonSortOrder.SortCriterion;
+import seedu.address.model.person.comparators.SortAttribute;
 
 public class SortCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -34,59 +36,64 @@ public class SortCommandTest {
 
     @Test
     public void execute_validNameAscending_success() {
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name", "ascending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name in ascending order");
         SortCommand command = new SortCommand("name", "asc");
         expectedModel.setAddressBook(getTypicalAddressBook());
         expectedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        expectedModel.setAddressBook(sortAddressBook(expectedModel, "name", "asc"));
+        expectedModel.sortFilteredPersonList(getSortOrder("name", "asc"));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(sortPersons(model, "name", "asc"), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_validNameDescending_success() {
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name", "descending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name in descending order");
         SortCommand command = new SortCommand("name", "desc");
         expectedModel.setAddressBook(getTypicalAddressBook());
         expectedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        expectedModel.setAddressBook(sortAddressBook(expectedModel, "name", "desc"));
+        expectedModel.sortFilteredPersonList(getSortOrder("name", "desc"));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(sortPersons(model, "name", "desc"), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_validPhoneAscending_success() {
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "phone", "ascending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "phone in ascending order");
         SortCommand command = new SortCommand("phone", "asc");
         expectedModel.setAddressBook(getTypicalAddressBook());
         expectedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        expectedModel.setAddressBook(sortAddressBook(expectedModel, "phone", "asc"));
+        expectedModel.sortFilteredPersonList(getSortOrder("phone", "asc"));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(sortPersons(model, "phone", "asc"), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_validEmailDescending_success() {
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "email", "descending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "email in descending order");
         SortCommand command = new SortCommand("email", "desc");
         expectedModel.setAddressBook(getTypicalAddressBook());
         expectedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        expectedModel.setAddressBook(sortAddressBook(expectedModel, "email", "desc"));
+        expectedModel.sortFilteredPersonList(getSortOrder("email", "desc"));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(sortPersons(model, "email", "desc"), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_validHireAscending_success() {
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "hire", "ascending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "hire in ascending order");
         SortCommand command = new SortCommand("hire", "asc");
         expectedModel.setAddressBook(getTypicalAddressBook());
         expectedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        expectedModel.setAddressBook(sortAddressBook(expectedModel, "hire", "asc"));
+        expectedModel.sortFilteredPersonList(getSortOrder("hire", "asc"));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(sortPersons(model, "hire", "asc"), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_emptyAddressBook_success() {
         Model emptyModel = new ModelManager();
         Model expectedEmptyModel = new ModelManager();
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name", "ascending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name in ascending order");
         SortCommand command = new SortCommand("name", "asc");
         assertCommandSuccess(command, emptyModel, expectedMessage, expectedEmptyModel);
     }
@@ -97,7 +104,7 @@ public class SortCommandTest {
         singlePersonModel.addPerson(ALICE);
         Model expectedSinglePersonModel = new ModelManager();
         expectedSinglePersonModel.addPerson(ALICE);
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "nric", "descending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "nric in descending order");
         SortCommand command = new SortCommand("nric", "desc");
         assertCommandSuccess(command, singlePersonModel, expectedMessage, expectedSinglePersonModel);
     }
@@ -110,14 +117,14 @@ public class SortCommandTest {
         multiplePersonsModel.addPerson(ALICE); // Should appear first in name sort
         multiplePersonsModel.addPerson(CARL); // Should appear third in name sort
 
-        // Create expected model with sorted persons
+        // Create expected model with the same persons, listed in sorted order
         Model expectedSortedModel = new ModelManager();
-        expectedSortedModel.addPerson(ALICE);
         expectedSortedModel.addPerson(BENSON);
+        expectedSortedModel.addPerson(ALICE);
         expectedSortedModel.addPerson(CARL);
-        expectedSortedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        expectedSortedModel.sortFilteredPersonList(getSortOrder("name", "asc"));
 
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name", "ascending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name in ascending order");
         SortCommand command = new SortCommand("name", "asc");
 
         // Verify the command succeeds and produces the correct sorted order
@@ -138,14 +145,14 @@ public class SortCommandTest {
         multiplePersonsModel.addPerson(BENSON); // 98765432, should appear first
         multiplePersonsModel.addPerson(CARL); // 95352563, should appear second
 
-        // Create expected model with sorted persons (descending)
+        // Create expected model with the same persons, listed in sorted order
         Model expectedSortedModel = new ModelManager();
+        expectedSortedModel.addPerson(ALICE);
         expectedSortedModel.addPerson(BENSON);
         expectedSortedModel.addPerson(CARL);
-        expectedSortedModel.addPerson(ALICE);
-        expectedSortedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        expectedSortedModel.sortFilteredPersonList(getSortOrder("phone", "desc"));
 
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "phone", "descending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "phone in descending order");
         SortCommand command = new SortCommand("phone", "desc");
 
         assertCommandSuccess(command, multiplePersonsModel, expectedMessage, expectedSortedModel);
@@ -165,14 +172,14 @@ public class SortCommandTest {
         multiplePersonsModel.addPerson(BENSON); // T2132398K, should appear third in NRIC sort
         multiplePersonsModel.addPerson(CARL); // S1234572F, should appear second in NRIC sort
 
-        // Create expected model with sorted persons
+        // Create expected model with the same persons, listed in sorted order
         Model expectedSortedModel = new ModelManager();
         expectedSortedModel.addPerson(ALICE);
-        expectedSortedModel.addPerson(CARL);
         expectedSortedModel.addPerson(BENSON);
-        expectedSortedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        expectedSortedModel.addPerson(CARL);
+        expectedSortedModel.sortFilteredPersonList(getSortOrder("nric", "asc"));
 
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "nric", "ascending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "nric in ascending order");
         SortCommand command = new SortCommand("nric", "asc");
 
         assertCommandSuccess(command, multiplePersonsModel, expectedMessage, expectedSortedModel);
@@ -192,14 +199,14 @@ public class SortCommandTest {
         multiplePersonsModel.addPerson(BENSON); // "311, Clementi Ave 2, #02-25", should appear second
         multiplePersonsModel.addPerson(CARL); // "wall street", should appear first
 
-        // Create expected model with sorted persons (descending)
+        // Create expected model with the same persons, listed in sorted order
         Model expectedSortedModel = new ModelManager();
-        expectedSortedModel.addPerson(CARL);
-        expectedSortedModel.addPerson(BENSON);
         expectedSortedModel.addPerson(ALICE);
-        expectedSortedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        expectedSortedModel.addPerson(BENSON);
+        expectedSortedModel.addPerson(CARL);
+        expectedSortedModel.sortFilteredPersonList(getSortOrder("address", "desc"));
 
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "address", "descending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "address in descending order");
         SortCommand command = new SortCommand("address", "desc");
 
         assertCommandSuccess(command, multiplePersonsModel, expectedMessage, expectedSortedModel);
@@ -219,14 +226,14 @@ public class SortCommandTest {
         multiplePersonsModel.addPerson(ALICE); // "alice@example.com"
         multiplePersonsModel.addPerson(CARL); // "heinz@example.com"
 
-        // Create expected model with sorted persons
+        // Create expected model with the same persons, listed in sorted order
         Model expectedSortedModel = new ModelManager();
+        expectedSortedModel.addPerson(BENSON);
         expectedSortedModel.addPerson(ALICE);
         expectedSortedModel.addPerson(CARL);
-        expectedSortedModel.addPerson(BENSON);
-        expectedSortedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        expectedSortedModel.sortFilteredPersonList(getSortOrder("email", "asc"));
 
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "email", "ascending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "email in ascending order");
         SortCommand command = new SortCommand("email", "asc");
 
         assertCommandSuccess(command, multiplePersonsModel, expectedMessage, expectedSortedModel);
@@ -246,14 +253,14 @@ public class SortCommandTest {
         multiplePersonsModel.addPerson(BENSON); // "2022-10-10"
         multiplePersonsModel.addPerson(CARL); // "2020-10-10"
 
-        // Create expected model with sorted persons (descending)
+        // Create expected model with the same persons, listed in sorted order
         Model expectedSortedModel = new ModelManager();
-        expectedSortedModel.addPerson(BENSON); // Newest hire first
+        expectedSortedModel.addPerson(ALICE);
+        expectedSortedModel.addPerson(BENSON);
         expectedSortedModel.addPerson(CARL);
-        expectedSortedModel.addPerson(ALICE); // Oldest hire last
-        expectedSortedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        expectedSortedModel.sortFilteredPersonList(getSortOrder("hire", "desc"));
 
-        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "hire", "descending");
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "hire in descending order");
         SortCommand command = new SortCommand("hire", "desc");
 
         assertCommandSuccess(command, multiplePersonsModel, expectedMessage, expectedSortedModel);
@@ -305,54 +312,87 @@ public class SortCommandTest {
         assertFalse(sortNameAscCommand.equals(sortPhoneAscCommand));
     }
 
+    @Test
+    public void execute_multipleAttributes_sortedByEachInTurn() {
+        SortCommand command = new SortCommand(List.of("tag", "hire", "name"), List.of("asc", "desc", "asc"));
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS,
+                "tag in ascending order, then hire in descending order, then name in ascending order");
+        expectedModel.sortFilteredPersonList(new PersonSortOrder(List.of(
+                new SortCriterion(SortAttribute.TAG, true),
+                new SortCriterion(SortAttribute.HIRE, false),
+                new SortCriterion(SortAttribute.NAME, true))));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FIONA, GEORGE, DANIEL, BENSON, CARL, ALICE, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_filteredList_addressBookUnchangedAndAllPersonsSorted() throws Exception {
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+        new SortCommand("name", "desc").execute(model);
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(sortPersons(model, "name", "desc"), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_invalidLaterAttribute_throwsCommandException() {
+        SortCommand command = new SortCommand(List.of("name", "invalid"), List.of("asc", "asc"));
+        String expectedMessage = SortCommand.MESSAGE_INVALID_ATTRIBUTE + SortCommand.MESSAGE_USAGE;
+        assertCommandFailure(command, model, expectedMessage);
+    }
+
+    @Test
+    public void constructor_noDirectionForAttribute_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortCommand(List.of("name", "hire"), List.of("asc")));
+        assertThrows(IllegalArgumentException.class, () -> new SortCommand(List.of(), List.of()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand command = new SortCommand("name", "asc");
+        String expected = SortCommand.class.getCanonicalName() + "{attributes=[name], directions=[asc]}";
+        assertEquals(expected, command.toString());
+    }
+
+    private static PersonSortOrder getSortOrder(String attribute, String direction) {
+        return new PersonSortOrder(List.of(
+                new SortCriterion(SortAttribute.fromKeyword(attribute).get(), direction.equals("asc"))));
+    }
+
     /**
-     * Helper method to sort the address book according to the given attribute and direction.
+     * Returns the persons in the address book of {@code model} sorted by the given attribute, in
+     * the given direction.
      */
-    private ReadOnlyAddressBook sortAddressBook(Model model, String attribute, String direction) {
-        // Create a new address book with the same persons
-        AddressBook sortedAddressBook = new AddressBook(model.getAddressBook());
-
+    private static List<Person> sortPersons(Model model, String attribute, String direction) {
         // Get a modifiable list of persons
         List<Person> persons = new ArrayList<>(model.getAddressBook().getPersonList());
 
         // Sort the modifiable list
+        Comparator<Person> comparator;
         switch (attribute) {
         case "name":
-            persons.sort(direction.equals("desc")
-                ? new NameComparator().reversed()
-                : new NameComparator());
+            comparator = Comparator.comparing((Person person) -> person.getName().toString().toLowerCase());
             break;
         case "nric":
-            persons.sort(direction.equals("desc")
-                ? new NricComparator().reversed()
-                : new NricComparator());
+            comparator = Comparator.comparing((Person person) -> person.getNric().toString().toLowerCase());
             break;
         case "phone":
-            persons.sort(direction.equals("desc")
-                ? new PhoneComparator().reversed()
-                : new PhoneComparator());
+            comparator = Comparator.comparing((Person person) -> person.getPhone().toString());
             break;
         case "address":
-            persons.sort(direction.equals("desc")
-                ? new AddressComparator().reversed()
-                : new AddressComparator());
+            comparator = Comparator.comparing((Person person) -> person.getAddress().toString().toLowerCase());
             break;
         case "email":
-            persons.sort(direction.equals("desc")
-                ? new EmailComparator().reversed()
-                : new EmailComparator());
+            comparator = Comparator.comparing((Person person) -> person.getEmail().toString().toLowerCase());
             break;
         case "hire":
-            persons.sort(direction.equals("desc")
-                ? new HireComparator().reversed()
-                : new HireComparator());
+            comparator = Comparator.comparing((Person person) -> person.getHire().toString());
             break;
         default:
             throw new IllegalArgumentException("Invalid attribute");
         }
-
-        // Set the sorted list back into the address book
-        sortedAddressBook.setPersons(persons);
-        return sortedAddressBook;
+        persons.sort(direction.equals("desc") ? comparator.reversed() : comparator);
+        return persons;
     }
 }
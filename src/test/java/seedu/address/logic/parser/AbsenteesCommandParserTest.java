@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_START;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AbsenteesCommand;
+import seedu.address.model.leave.Leave;
+
+public class AbsenteesCommandParserTest {
+
+    private AbsenteesCommandParser parser = new AbsenteesCommandParser();
+
+    @Test
+    public void parse_startAndEndDates_success() {
+        assertParseSuccess(parser, " " + PREFIX_LEAVE_START + " 2025-03-01 " + PREFIX_LEAVE_END + " 2025-03-31",
+                new AbsenteesCommand(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)));
+    }
+
+    @Test
+    public void parse_startDateOnly_endsOnStartDate() {
+        assertParseSuccess(parser, " " + PREFIX_LEAVE_START + " 2025-03-04",
+                new AbsenteesCommand(LocalDate.of(2025, 3, 4), LocalDate.of(2025, 3, 4)));
+    }
+
+    @Test
+    public void parse_missingStartDateOrPreamble_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AbsenteesCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_LEAVE_END + " 2025-03-31", expectedMessage);
+        assertParseFailure(parser, "1 " + PREFIX_LEAVE_START + " 2025-03-01", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDates_failure() {
+        assertParseFailure(parser, " " + PREFIX_LEAVE_START + " 2025-13-01",
+                String.format(ParserUtil.MESSAGE_INVALID_DATE, "2025-13-01", Leave.DATE_CONSTRAINTS));
+        assertParseFailure(parser, " " + PREFIX_LEAVE_START + " 2025-03-31 " + PREFIX_LEAVE_END + " 2025-03-01",
+                Messages.MESSAGE_INVALID_DATE_ORDER);
+        assertParseFailure(parser, " " + PREFIX_LEAVE_START + " 2025-03-01 " + PREFIX_LEAVE_START + " 2025-03-02",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_LEAVE_START));
+    }
+}
@@ -7,24 +7,35 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.AbsenteesCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CapacityCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OnLeaveCommand;
+import seedu.address.logic.commands.ScriptCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+import seedu.address.model.search.SearchQuery;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -40,6 +51,13 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_absentees() throws Exception {
+        AbsenteesCommand command = (AbsenteesCommand) parser.parseCommand(
+                AbsenteesCommand.COMMAND_WORD + " /start 2025-03-01 /end 2025-03-31");
+        assertEquals(new AbsenteesCommand(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -73,7 +91,13 @@ public class AddressBookParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindCommand command = (FindCommand) parser.parseCommand(
                 FindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindCommand(new SearchQuery(keywords)), command);
+    }
+
+    @Test
+    public void parseCommand_fuzzyFind() throws Exception {
+        FuzzyFindCommand command = (FuzzyFindCommand) parser.parseCommand(FuzzyFindCommand.COMMAND_WORD + " alcie bbo");
+        assertEquals(new FuzzyFindCommand(Arrays.asList("alcie", "bbo")), command);
     }
 
     @Test
@@ -82,12 +106,46 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " data/a.json");
+        assertEquals(new ImportCommand(Paths.get("data/a.json")), command);
+    }
+
+    @Test
+    public void parseCommand_script() {
+        assertThrows(ParseException.class, String.format(ScriptCommandParser.MESSAGE_FILE_NOT_FOUND,
+                Paths.get("data/missing-script.txt")), () -> parser.parseCommand(
+                        ScriptCommand.COMMAND_WORD + " data/missing-script.txt"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " data/a.json");
+        assertEquals(new ExportCommand(Paths.get("data/a.json")), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_onLeave() throws Exception {
+        OnLeaveCommand command = (OnLeaveCommand) parser.parseCommand(
+                OnLeaveCommand.COMMAND_WORD + " /start 2025-03-01 /end 2025-03-07");
+        assertEquals(new OnLeaveCommand(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 7)), command);
+    }
+
+    @Test
+    public void parseCommand_capacity() throws Exception {
+        CapacityCommand command = (CapacityCommand) parser.parseCommand(
+                CapacityCommand.COMMAND_WORD + " /tag Sales /start 2025-01-01 /end 2025-03-31");
+        assertEquals(new CapacityCommand(Arrays.asList(new Tag("Sales")), LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 3, 31), Optional.empty()), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -7,15 +7,19 @@ import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_ABSENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_DATE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.model.leave.Leave;
 import seedu.address.model.person.Nric;
 
 public class AttendanceCommandParserTest {
@@ -38,6 +42,28 @@ public class AttendanceCommandParserTest {
                 + VALID_NRIC_AMY + " " + VALID_NRIC_BOB, new AttendanceCommand(expectedNrics));
     }
 
+    @Test
+    public void parse_withDate_success() {
+        assertParseSuccess(parser, " " + PREFIX_ATTENDANCE_ABSENT + VALID_NRIC_AMY + " "
+                + PREFIX_ATTENDANCE_DATE + " 2025-03-04",
+                new AttendanceCommand(Arrays.asList(VALID_NRIC_AMY), LocalDate.of(2025, 3, 4)));
+
+        // date before the absent NRICs
+        assertParseSuccess(parser, " " + PREFIX_ATTENDANCE_DATE + " 2025-03-04 " + PREFIX_ATTENDANCE_ABSENT,
+                new AttendanceCommand(Arrays.asList(), LocalDate.of(2025, 3, 4)));
+    }
+
+    @Test
+    public void parse_invalidDate_failure() {
+        assertParseFailure(parser, " " + PREFIX_ATTENDANCE_ABSENT + VALID_NRIC_AMY + " "
+                + PREFIX_ATTENDANCE_DATE + " 2025-02-30",
+                String.format(ParserUtil.MESSAGE_INVALID_DATE, "2025-02-30", Leave.DATE_CONSTRAINTS));
+
+        assertParseFailure(parser, " " + PREFIX_ATTENDANCE_ABSENT + VALID_NRIC_AMY + " "
+                + PREFIX_ATTENDANCE_DATE + " 2025-03-04 " + PREFIX_ATTENDANCE_DATE + " 2025-03-05",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_ATTENDANCE_DATE));
+    }
+
     @Test
     public void parse_missingPrefix_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE);
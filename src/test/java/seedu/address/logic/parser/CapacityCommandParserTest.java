@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE_START;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CapacityCommand;
+import seedu.address.model.person.Tag;
+
+public class CapacityCommandParserTest {
+
+    private static final String DATES = " " + PREFIX_LEAVE_START + " 2025-01-01 " + PREFIX_LEAVE_END + " 2025-03-31";
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2025, 3, 31);
+
+    private CapacityCommandParser parser = new CapacityCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " " + PREFIX_TAG + " Sales " + PREFIX_TAG + " Team A" + DATES + " "
+                + PREFIX_EXPORT + " data/capacity.csv",
+                new CapacityCommand(Arrays.asList(new Tag("Sales"), new Tag("Team A")), START_DATE, END_DATE,
+                        Optional.of(Paths.get("data/capacity.csv"))));
+    }
+
+    @Test
+    public void parse_repeatedTags_keptOnceInOrder() {
+        assertParseSuccess(parser, " " + PREFIX_TAG + " Sales " + PREFIX_TAG + " HR " + PREFIX_TAG + " Sales" + DATES,
+                new CapacityCommand(Arrays.asList(new Tag("Sales"), new Tag("HR")), START_DATE, END_DATE,
+                        Optional.empty()));
+    }
+
+    @Test
+    public void parse_missingFieldsOrPreamble_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CapacityCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, DATES, expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + " Sales " + PREFIX_LEAVE_START + " 2025-01-01",
+                expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + " Sales " + PREFIX_LEAVE_END + " 2025-01-01",
+                expectedMessage);
+        assertParseFailure(parser, "1 " + PREFIX_TAG + " Sales" + DATES, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " " + PREFIX_TAG + " Sales!" + DATES, Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_TAG + " Sales " + PREFIX_LEAVE_START + " 2025-03-31 "
+                + PREFIX_LEAVE_END + " 2025-03-01", Messages.MESSAGE_INVALID_DATE_ORDER);
+        assertParseFailure(parser, " " + PREFIX_TAG + " Sales " + PREFIX_LEAVE_START + " 2025-01-01 "
+                + PREFIX_LEAVE_END + " 2026-01-02", CapacityCommandParser.MESSAGE_RANGE_TOO_LONG);
+        assertParseFailure(parser, " " + PREFIX_TAG + " Sales" + DATES + " " + PREFIX_LEAVE_END + " 2025-02-01",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_LEAVE_END));
+        assertParseFailure(parser, " " + PREFIX_TAG + " Sales" + DATES + " " + PREFIX_EXPORT + " ",
+                ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
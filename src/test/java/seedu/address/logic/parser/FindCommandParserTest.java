@@ -1,15 +1,21 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SearchQuery;
 
 public class FindCommandParserTest {
 
@@ -18,17 +24,31 @@ public class FindCommandParserTest {
     @Test
     public void parse_emptyArg_throwsParseException() {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_NAME + "  " + PREFIX_TAG,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindCommand expectedFindCommand =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+                new FindCommand(new SearchQuery(Arrays.asList("Alice", "Bob")));
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldKeywords_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new SearchQuery(Arrays.asList("Alice"),
+                Map.of(SearchField.NAME, List.of("Bob", "Carl*"), SearchField.TAG, List.of("Sales"))));
+        assertParseSuccess(parser, "Alice " + PREFIX_NAME + " Bob " + PREFIX_TAG + " Sales " + PREFIX_NAME + " Carl*",
+                expectedFindCommand);
+
+        // fields only
+        assertParseSuccess(parser, " " + PREFIX_TAG + " Sales",
+                new FindCommand(new SearchQuery(Collections.emptyList(), Map.of(SearchField.TAG, List.of("Sales")))));
+    }
+
 }
@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ScriptCommand;
+import seedu.address.logic.commands.ScriptCommand.Line;
+
+public class ScriptCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScriptCommand.MESSAGE_USAGE);
+
+    @TempDir
+    public Path testFolder;
+
+    private ScriptCommandParser parser = new ScriptCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " /rollback", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_rollbackWithValue_throwsParseException() {
+        assertParseFailure(parser, "script.txt /rollback yes", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path filePath = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, filePath.toString(),
+                String.format(ScriptCommandParser.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void parse_validFile_returnsScriptCommand() throws Exception {
+        Path filePath = testFolder.resolve("script.txt");
+        FileUtil.writeToFile(filePath, "# delete the first person\n\ndelete 1\n  \nfoo\n");
+        List<Line> expectedLines = List.of(Line.parsed(3, new DeleteCommand(INDEX_FIRST_PERSON)),
+                Line.unparsable(5, MESSAGE_UNKNOWN_COMMAND));
+
+        assertParseSuccess(parser, filePath.toString(), new ScriptCommand(filePath, expectedLines, false));
+        assertParseSuccess(parser, "  " + filePath + "  /rollback  ",
+                new ScriptCommand(filePath, expectedLines, true));
+    }
+
+    @Test
+    public void parseLines_nestedScript_lineUnparsable() {
+        assertEquals(List.of(Line.unparsable(1, ScriptCommandParser.MESSAGE_NESTED_SCRIPT),
+                Line.parsed(2, new DeleteCommand(INDEX_FIRST_PERSON))),
+                ScriptCommandParser.parseLines(List.of("script other.txt", "delete 1")));
+    }
+
+    @Test
+    public void parseLines_windowCommands_linesUnparsable() {
+        assertEquals(List.of(Line.unparsable(1, String.format(ScriptCommandParser.MESSAGE_WINDOW_COMMAND, "exit")),
+                Line.unparsable(2, String.format(ScriptCommandParser.MESSAGE_WINDOW_COMMAND, "help"))),
+                ScriptCommandParser.parseLines(List.of("exit", "help")));
+    }
+}
@@ -4,6 +4,8 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
@@ -27,6 +29,12 @@ public class SortCommandParserTest {
             new SortCommand("address", "desc"));
     }
 
+    @Test
+    public void parse_manyAttributes_returnsSortCommand() {
+        assertParseSuccess(parser, "tag asc  HIRE desc name asc",
+            new SortCommand(Arrays.asList("tag", "hire", "name"), Arrays.asList("asc", "desc", "asc")));
+    }
+
     @Test
     public void parse_missingParts_failure() {
         // Empty input
@@ -40,6 +48,10 @@ public class SortCommandParserTest {
         // Missing attribute
         assertParseFailure(parser, "asc",
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // Missing direction of a later attribute
+        assertParseFailure(parser, "tag asc hire",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
     }
 
     @Test
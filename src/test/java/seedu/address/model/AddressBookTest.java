@@ -7,19 +7,31 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.comparators.PersonSortOrder;
+import seedu.address.model.person.comparators.PersonSortOrder.SortCriterion;
+import seedu.address.model.person.comparators.SortAttribute;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.search.NameTrigramIndex.NameMatch;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.testutil.LazyPersonSourceStub;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -54,6 +66,226 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesPersons() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(newData);
+        assertEquals(newData, addressBook);
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void resetData_withLazyPersonSource_personsNotMaterialized() {
+        LazyPersonSourceStub newData = new LazyPersonSourceStub(Arrays.asList(ALICE, BOB));
+        addressBook.resetData(newData);
+        assertTrue(addressBook.hasPerson(BOB));
+        assertEquals(0, newData.getMaterializedCount());
+        assertEquals(Arrays.asList(ALICE, BOB), addressBook.getPersonList());
+    }
+
+    @Test
+    public void addLeave_lazilyHeldPerson_leaveKeptInCopy() {
+        addressBook.resetData(new LazyPersonSourceStub(Arrays.asList(ALICE, BOB)));
+        Person person = addressBook.getPersonList().get(1);
+        Leave leave = new Leave("2025-03-04", "2025-03-05", "Medical Leave");
+        addressBook.addLeave(person, leave);
+
+        assertTrue(addressBook.copy().getPersonList().get(1).hasLeave(leave));
+    }
+
+    @Test
+    public void copy_changePersonInCopy_originalUnchanged() {
+        Person person = new PersonBuilder().build();
+        addressBook.addPerson(person);
+        AddressBook copy = addressBook.copy();
+        assertEquals(addressBook, copy);
+
+        copy.markAttendance(copy.getPersonList().get(0), LocalDate.of(2025, 3, 4), true);
+        assertEquals(0, person.getAttendance().getWorkDayCount());
+    }
+
+    @Test
+    public void getChangeCount_afterEachChange_increased() {
+        Person person = new PersonBuilder().build();
+        long changeCount = addressBook.getChangeCount();
+
+        addressBook.addPerson(person);
+        assertTrue(addressBook.getChangeCount() > changeCount);
+
+        changeCount = addressBook.getChangeCount();
+        addressBook.markAttendance(person, LocalDate.of(2025, 3, 4), false);
+        assertTrue(addressBook.getChangeCount() > changeCount);
+
+        changeCount = addressBook.getChangeCount();
+        addressBook.removePerson(person);
+        assertTrue(addressBook.getChangeCount() > changeCount);
+    }
+
+    @Test
+    public void getChangedNrics_afterClearChanges_changedPersonsRecorded() {
+        addressBook.addPerson(ALICE);
+        assertFalse(addressBook.getChangedNrics().isPresent());
+
+        addressBook.clearChanges();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.addPerson(BOB);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.markAttendance(editedAlice, LocalDate.of(2025, 3, 4), false);
+        addressBook.removePerson(BOB);
+        assertEquals(List.of(BOB.getNric(), ALICE.getNric()), List.copyOf(addressBook.getChangedNrics().get()));
+        assertFalse(addressBook.hasMovedPersons());
+
+        addressBook.setPersons(List.of(editedAlice));
+        assertFalse(addressBook.getChangedNrics().isPresent());
+    }
+
+    @Test
+    public void hasMovedPersons_personAddedAgainOrNricEdited_returnsTrue() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+
+        addressBook.clearChanges();
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.hasMovedPersons());
+
+        addressBook.clearChanges();
+        addressBook.setPerson(BOB, new PersonBuilder(BOB).withNric("S0000004D").build());
+        assertTrue(addressBook.hasMovedPersons());
+    }
+
+    @Test
+    public void includeChanges_earlierChanges_includedFirst() {
+        addressBook.addPerson(ALICE);
+        addressBook.clearChanges();
+        AddressBook earlier = addressBook.copy();
+        earlier.removePerson(ALICE);
+
+        addressBook.addPerson(BOB);
+        addressBook.includeChanges(earlier);
+        assertEquals(List.of(ALICE.getNric(), BOB.getNric()), List.copyOf(addressBook.getChangedNrics().get()));
+        assertFalse(addressBook.hasMovedPersons());
+
+        // the same person changed in both -> it may have been added again at the end
+        earlier.addPerson(BOB);
+        addressBook.includeChanges(earlier);
+        assertTrue(addressBook.hasMovedPersons());
+
+        // persons replaced earlier -> any person may have changed
+        earlier.setPersons(List.of(ALICE));
+        addressBook.includeChanges(earlier);
+        assertFalse(addressBook.getChangedNrics().isPresent());
+    }
+
+    @Test
+    public void getPersonsOnLeave_afterEachChange_indexKeptUpToDate() {
+        LocalDate date = LocalDate.of(2025, 3, 4);
+        Leave leave = new Leave("2025-03-03", "2025-03-05", "Medical Leave");
+        AddressBook addressBook = getTypicalAddressBook().copy();
+        Person alice = addressBook.getPersonList().get(0);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsOnLeave(date, date));
+
+        addressBook.addLeave(alice, leave);
+        assertEquals(List.of(alice), addressBook.getPersonsOnLeave(date, date));
+
+        Person bob = new PersonBuilder(BOB).withLeaves(new Leave("2025-03-04", "2025-03-04", "Sick Leave")).build();
+        addressBook.addPerson(bob);
+        assertEquals(List.of(alice, bob), addressBook.getPersonsOnLeave(date, date));
+
+        Person editedBob = new PersonBuilder(BOB).withLeaves().build();
+        addressBook.setPerson(bob, editedBob);
+        assertEquals(List.of(alice), addressBook.getPersonsOnLeave(date, date));
+
+        addressBook.removeLeave(alice, leave);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsOnLeave(date, date));
+
+        addressBook.addLeave(alice, leave);
+        addressBook.removePerson(alice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsOnLeave(date, date));
+
+        AddressBook newData = new AddressBook();
+        newData.addPerson(bob);
+        addressBook.resetData(newData);
+        assertEquals(List.of(bob), addressBook.getPersonsOnLeave(date, date));
+    }
+
+    @Test
+    public void searchPersons_afterEachChange_indexKeptUpToDate() {
+        SearchQuery query = new SearchQuery(List.of("choo"));
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(Set.of(), addressBook.searchPersons(query));
+
+        addressBook.addPerson(BOB);
+        assertEquals(Set.of(BOB.getNric()), addressBook.searchPersons(query));
+
+        Person editedBob = new PersonBuilder(BOB).withName("Bob Tan").build();
+        addressBook.setPerson(BOB, editedBob);
+        assertEquals(Set.of(), addressBook.searchPersons(query));
+        assertEquals(Set.of(BOB.getNric()), addressBook.searchPersons(new SearchQuery(List.of("tan"))));
+
+        addressBook.removePerson(editedBob);
+        assertEquals(Set.of(), addressBook.searchPersons(new SearchQuery(List.of("tan"))));
+
+        AddressBook newData = new AddressBook();
+        newData.addPerson(BOB);
+        addressBook.resetData(newData);
+        assertEquals(Set.of(BOB.getNric()), addressBook.searchPersons(query));
+    }
+
+    @Test
+    public void searchSimilarNames_afterEachChange_indexKeptUpToDate() {
+        List<String> keywords = List.of("chooo");
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(List.of(), getNrics(addressBook.searchSimilarNames(keywords)));
+
+        addressBook.addPerson(BOB);
+        assertEquals(List.of(BOB.getNric()), getNrics(addressBook.searchSimilarNames(keywords)));
+
+        Person editedBob = new PersonBuilder(BOB).withName("Bob Tan").build();
+        addressBook.setPerson(BOB, editedBob);
+        assertEquals(List.of(), getNrics(addressBook.searchSimilarNames(keywords)));
+
+        addressBook.removePerson(editedBob);
+        assertEquals(List.of(), getNrics(addressBook.searchSimilarNames(List.of("bob"))));
+    }
+
+    @Test
+    public void getPersonsInOrder_afterEachChange_indexKeptUpToDate() {
+        PersonSortOrder nameDescending = new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, false)));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        assertEquals(List.of(ALICE), addressBook.getPersonsInOrder(nameDescending));
+
+        addressBook.addPerson(BOB);
+        assertEquals(List.of(BOB, ALICE), addressBook.getPersonsInOrder(nameDescending));
+
+        Person editedBob = new PersonBuilder(BOB).withName("Aaron Tan").build();
+        addressBook.setPerson(BOB, editedBob);
+        assertEquals(List.of(ALICE, editedBob), addressBook.getPersonsInOrder(nameDescending));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(editedBob), addressBook.getPersonsInOrder(nameDescending));
+
+        addressBook.setPersons(List.of(ALICE));
+        assertEquals(List.of(ALICE), addressBook.getPersonsInOrder(nameDescending));
+    }
+
+    @Test
+    public void getPersonsInOrder_leaveAddedToLazilyHeldPerson_changedPersonReturned() {
+        PersonSortOrder nameAscending = new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, true)));
+        addressBook.resetData(new LazyPersonSourceStub(Arrays.asList(ALICE, BOB)));
+        assertEquals(Arrays.asList(ALICE, BOB), addressBook.getPersonsInOrder(nameAscending));
+
+        Leave leave = new Leave("2025-03-04", "2025-03-05", "Medical Leave");
+        addressBook.addLeave(addressBook.getPersonList().get(1), leave);
+        assertTrue(addressBook.getPersonsInOrder(nameAscending).get(1).hasLeave(leave));
+    }
+
+    private static List<Nric> getNrics(List<NameMatch> matches) {
+        return matches.stream().map(NameMatch::getNric).collect(Collectors.toList());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -7,19 +7,33 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.NricsMatchPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.comparators.PersonSortOrder;
+import seedu.address.model.person.comparators.PersonSortOrder.SortCriterion;
+import seedu.address.model.person.comparators.SortAttribute;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.LazyPersonSourceStub;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
+    private static final Leave LEAVE = new Leave("2025-01-02", "2025-01-03", "Annual Leave");
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -88,11 +102,121 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getAddressBookChangeCount_readOnlyOperations_unchanged() {
+        modelManager.addPerson(ALICE);
+        long changeCount = modelManager.getAddressBookChangeCount();
+        modelManager.hasPerson(ALICE);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.setGuiSettings(new GuiSettings(1, 2, 3, 4));
+        assertEquals(changeCount, modelManager.getAddressBookChangeCount());
+    }
+
+    @Test
+    public void getAddressBookChangeCount_personChangedInPlace_increased() {
+        Person person = new PersonBuilder().build();
+        modelManager.addPerson(person);
+
+        long changeCount = modelManager.getAddressBookChangeCount();
+        modelManager.addLeave(person, LEAVE);
+        assertTrue(modelManager.getAddressBookChangeCount() > changeCount);
+
+        changeCount = modelManager.getAddressBookChangeCount();
+        modelManager.removeLeave(person, LEAVE);
+        assertTrue(modelManager.getAddressBookChangeCount() > changeCount);
+
+        changeCount = modelManager.getAddressBookChangeCount();
+        modelManager.markAttendance(person, LocalDate.of(2025, 3, 4), true);
+        assertTrue(modelManager.getAddressBookChangeCount() > changeCount);
+        assertEquals(1, person.getAttendance().getAbsentDayCount());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortFilteredPersonList_addressBookOrderUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        long changeCount = modelManager.getAddressBookChangeCount();
+
+        modelManager.sortFilteredPersonList(new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, false))));
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(changeCount, modelManager.getAddressBookChangeCount());
+
+        // null comparator -> address book order
+        modelManager.sortFilteredPersonList(null);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_personsChanged_listKeptInOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.sortFilteredPersonList(new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, false))));
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(CARL);
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Adam Kurz").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BENSON, ALICE, editedCarl), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, editedCarl), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build());
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredPersonList());
+
+        // address book order -> changes follow the address book
+        modelManager.sortFilteredPersonList(null);
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void endBatch_personsChangedWhileSorted_filteredListChangedOnceInOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.sortFilteredPersonList(new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, false))));
+        List<Integer> changeSizes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                changeSizes.add(change.getList().size()));
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Aaron Meier").build();
+        modelManager.beginBatch();
+        modelManager.addPerson(CARL);
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(ALICE);
+        modelManager.endBatch();
+
+        assertEquals(List.of(2), changeSizes);
+        assertEquals(Arrays.asList(CARL, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void constructor_lazyPersonSource_personsNotRead() {
+        LazyPersonSourceStub source = new LazyPersonSourceStub(Arrays.asList(ALICE, BENSON, CARL));
+        modelManager = new ModelManager(source, new UserPrefs());
+        assertEquals(0, source.getMaterializedCount());
+
+        modelManager.deletePerson(modelManager.getAddressBook().getPersonList().get(1));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_lazilyHeldPersonDeleted_personRemovedFromList() {
+        modelManager = new ModelManager(new LazyPersonSourceStub(Arrays.asList(ALICE, BENSON, CARL)), new UserPrefs());
+        modelManager.sortFilteredPersonList(new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, false))));
+
+        modelManager.deletePerson(modelManager.getAddressBook().getPersonList().get(1));
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -117,13 +241,17 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(differentAddressBook, userPrefs)));
 
         // different filteredList -> returns false
-        String[] keywords = ALICE.getName().fullName.split("\\s+");
-        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        modelManager.updateFilteredPersonList(new NricsMatchPredicate(List.of(ALICE.getNric())));
         assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
 
         // resets modelManager to initial state for upcoming tests
         modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
+        // differently sorted list -> returns false
+        modelManager.sortFilteredPersonList(new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, false))));
+        assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
+        modelManager.sortFilteredPersonList(null);
+
         // different userPrefs -> returns false
         UserPrefs differentUserPrefs = new UserPrefs();
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
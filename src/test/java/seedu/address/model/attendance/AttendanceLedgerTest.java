@@ -0,0 +1,201 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceLedgerTest {
+
+    private static final LocalDate NEW_YEAR = LocalDate.of(2025, 1, 1);
+    private static final LocalDate MIDYEAR = LocalDate.of(2025, 7, 1);
+    private static final LocalDate NEW_YEARS_EVE = LocalDate.of(2025, 12, 31);
+    private static final LocalDate NEXT_YEAR = LocalDate.of(2026, 1, 2);
+    private static final LocalDate LAST_DAY_OF_LEAP_YEAR = LocalDate.of(2024, 12, 31);
+
+    @Test
+    public void record_newDates_trackedAndCounted() {
+        AttendanceLedger ledger = new AttendanceLedger();
+        ledger.record(MIDYEAR, false);
+        ledger.record(NEW_YEARS_EVE, true);
+        ledger.record(NEXT_YEAR, true);
+        ledger.record(LAST_DAY_OF_LEAP_YEAR, false); // before the first year recorded
+
+        assertTrue(ledger.isTracked(MIDYEAR));
+        assertFalse(ledger.isAbsent(MIDYEAR));
+        assertTrue(ledger.isAbsent(NEW_YEARS_EVE));
+        assertTrue(ledger.isTracked(LAST_DAY_OF_LEAP_YEAR));
+        assertFalse(ledger.isTracked(NEW_YEAR));
+        assertFalse(ledger.isAbsent(NEW_YEAR));
+
+        assertEquals(4, ledger.getTrackedDayCount());
+        assertEquals(2, ledger.getAbsentDayCount());
+        assertEquals(Arrays.asList(2024, 2025, 2026), ledger.getYears());
+    }
+
+    @Test
+    public void record_sameDateAgain_absenceReplaced() {
+        AttendanceLedger ledger = new AttendanceLedger();
+        ledger.record(MIDYEAR, true);
+        ledger.record(MIDYEAR, true);
+        assertEquals(1, ledger.getTrackedDayCount());
+        assertEquals(1, ledger.getAbsentDayCount());
+
+        ledger.record(MIDYEAR, false);
+        assertEquals(1, ledger.getTrackedDayCount());
+        assertEquals(0, ledger.getAbsentDayCount());
+        assertFalse(ledger.isAbsent(MIDYEAR));
+    }
+
+    @Test
+    public void countDays_rangesAcrossYears_countedInclusively() {
+        AttendanceLedger ledger = new AttendanceLedger();
+        for (LocalDate date = LAST_DAY_OF_LEAP_YEAR.minusDays(10); !date.isAfter(NEXT_YEAR); date = date.plusDays(1)) {
+            ledger.record(date, date.getDayOfMonth() % 10 == 1);
+        }
+
+        assertEquals(ledger.getTrackedDayCount(), ledger.countTrackedDays(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(ledger.getAbsentDayCount(), ledger.countAbsentDays(LocalDate.MIN, LocalDate.MAX));
+
+        assertEquals(3, ledger.countTrackedDays(LAST_DAY_OF_LEAP_YEAR, NEW_YEAR.plusDays(1)));
+        assertEquals(368, ledger.countTrackedDays(LAST_DAY_OF_LEAP_YEAR, NEXT_YEAR));
+        assertEquals(1, ledger.countTrackedDays(MIDYEAR, MIDYEAR));
+        assertEquals(184, ledger.countTrackedDays(MIDYEAR, NEW_YEARS_EVE));
+        assertEquals(0, ledger.countTrackedDays(NEW_YEARS_EVE, MIDYEAR));
+        assertEquals(0, ledger.countTrackedDays(NEXT_YEAR.plusDays(1), NEXT_YEAR.plusYears(2)));
+
+        // the 21st and 31st of December 2024, and the 1st of January 2025
+        assertEquals(3, ledger.countAbsentDays(LAST_DAY_OF_LEAP_YEAR.minusDays(10), NEW_YEAR));
+        assertEquals(Arrays.asList(LAST_DAY_OF_LEAP_YEAR.minusDays(10), LAST_DAY_OF_LEAP_YEAR, NEW_YEAR),
+                ledger.getAbsentDays(LAST_DAY_OF_LEAP_YEAR.minusDays(10), NEW_YEAR));
+        assertEquals(1, ledger.countAbsentDays(MIDYEAR, MIDYEAR));
+        assertEquals(0, ledger.countAbsentDays(MIDYEAR.plusDays(1), MIDYEAR.plusDays(9)));
+        assertEquals(0, ledger.countAbsentDays(NEW_YEAR, LAST_DAY_OF_LEAP_YEAR));
+        assertEquals(Collections.emptyList(), ledger.getAbsentDays(NEW_YEAR, LAST_DAY_OF_LEAP_YEAR));
+    }
+
+    @Test
+    public void record_sameDatesForManyLedgers_trackedDaysShared() {
+        AttendanceLedger first = new AttendanceLedger();
+        AttendanceLedger second = new AttendanceLedger();
+        for (AttendanceLedger ledger : Arrays.asList(first, second)) {
+            ledger.record(NEW_YEAR, ledger == first);
+            ledger.record(MIDYEAR, ledger == second);
+        }
+
+        assertSame(DaySet.of(first.getTrackedDayBits(2025)), DaySet.of(second.getTrackedDayBits(2025)));
+        assertSame(DaySet.EMPTY, DaySet.of(first.getTrackedDayBits(2024)));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void of_validInputs_success() {
+        AttendanceLedger expected = new AttendanceLedger();
+        expected.record(NEW_YEAR, false);
+        expected.record(MIDYEAR, true);
+        expected.record(NEXT_YEAR, false);
+
+        Map<Integer, long[]> trackedDays = Map.of(2025, expected.getTrackedDayBits(2025),
+                2026, expected.getTrackedDayBits(2026));
+        AttendanceLedger ledger = AttendanceLedger.of(trackedDays, List.of(MIDYEAR));
+        assertEquals(expected, ledger);
+        assertEquals(expected.getTrackedDayCount(), ledger.getTrackedDayCount());
+    }
+
+    @Test
+    public void of_invalidInputs_throwsIllegalArgumentException() {
+        long[] midyear = new long[DaySet.WORD_COUNT];
+        int midyearDay = MIDYEAR.getDayOfYear() - 1;
+        midyear[midyearDay >> 6] = 1L << midyearDay;
+
+        // absent on a day attendance was not taken
+        assertThrows(IllegalArgumentException.class, () -> AttendanceLedger.of(Map.of(), List.of(MIDYEAR)));
+        assertThrows(IllegalArgumentException.class, () -> AttendanceLedger.of(Map.of(2025, midyear),
+                List.of(NEW_YEAR)));
+
+        // invalid bitsets
+        assertThrows(IllegalArgumentException.class, () -> AttendanceLedger.of(Map.of(2025, new long[5]),
+                List.of()));
+        assertThrows(IllegalArgumentException.class, () -> AttendanceLedger.of(Map.of(1800, midyear), List.of()));
+    }
+
+    @Test
+    public void isValidTrackedDays() {
+        long[] words = new long[DaySet.WORD_COUNT];
+        words[5] = 1L << (365 - 320); // the 366th day of the year
+
+        assertTrue(AttendanceLedger.isValidTrackedDays(2024, words)); // leap year
+        assertFalse(AttendanceLedger.isValidTrackedDays(2025, words));
+        assertFalse(AttendanceLedger.isValidTrackedDays(2025, new long[DaySet.WORD_COUNT + 1]));
+        assertFalse(AttendanceLedger.isValidTrackedDays(2025, null));
+    }
+
+    @Test
+    public void copy_changedCopy_originalUnchanged() {
+        AttendanceLedger ledger = new AttendanceLedger();
+        ledger.record(NEW_YEAR, true);
+        AttendanceLedger copy = ledger.copy();
+        assertEquals(ledger, copy);
+
+        copy.record(NEW_YEAR, false);
+        copy.record(NEXT_YEAR, true);
+        assertNotEquals(ledger, copy);
+        assertEquals(1, ledger.getTrackedDayCount());
+        assertEquals(1, ledger.getAbsentDayCount());
+    }
+
+    @Test
+    public void equals() {
+        AttendanceLedger ledger = new AttendanceLedger();
+        ledger.record(MIDYEAR, true);
+
+        // same object -> returns true
+        assertTrue(ledger.equals(ledger));
+
+        // null -> returns false
+        assertFalse(ledger.equals(null));
+
+        // different types -> returns false
+        assertFalse(ledger.equals(5));
+
+        // same days recorded in a different order -> returns true
+        AttendanceLedger other = new AttendanceLedger();
+        other.record(NEXT_YEAR, false);
+        other.record(MIDYEAR, true);
+        ledger.record(NEXT_YEAR, false);
+        assertTrue(ledger.equals(other));
+        assertEquals(ledger.hashCode(), other.hashCode());
+
+        // different absences -> returns false
+        other.record(MIDYEAR, false);
+        assertFalse(ledger.equals(other));
+
+        // different days tracked -> returns false
+        other.record(MIDYEAR, true);
+        other.record(NEW_YEAR, false);
+        assertFalse(ledger.equals(other));
+        assertFalse(other.equals(ledger));
+    }
+
+    @Test
+    public void getTrackedDayBits_roundTrip() {
+        AttendanceLedger ledger = new AttendanceLedger();
+        ledger.record(NEW_YEARS_EVE, false);
+        long[] expected = new long[DaySet.WORD_COUNT];
+        expected[5] = 1L << (364 - 320);
+        assertArrayEquals(expected, ledger.getTrackedDayBits(2025));
+        assertArrayEquals(new long[DaySet.WORD_COUNT], ledger.getTrackedDayBits(2030));
+    }
+
+}
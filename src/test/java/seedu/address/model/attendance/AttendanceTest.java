@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class AttendanceTest {
@@ -137,17 +139,50 @@ public class AttendanceTest {
     }
 
     @Test
-    public void incrementWorkDay() {
+    public void constructor_countsExcludeLedger_throwsIllegalArgumentException() {
+        AttendanceLedger ledger = new AttendanceLedger();
+        ledger.record(LocalDate.of(2025, 3, 3), true);
+        ledger.record(LocalDate.of(2025, 3, 4), false);
+
+        assertEquals(2, new Attendance(2, 1, ledger).getWorkDayCount());
+        assertThrows(IllegalArgumentException.class, () -> new Attendance(1, 1, ledger)); // fewer work days
+        assertThrows(IllegalArgumentException.class, () -> new Attendance(2, 0, ledger)); // fewer absent days
+        assertThrows(IllegalArgumentException.class, () -> new Attendance(2, 2, ledger)); // more absences
+    }
+
+    @Test
+    public void mark() {
+        LocalDate date = LocalDate.of(2025, 3, 4);
         Attendance attendance = new Attendance(10, 2);
-        attendance.incrementWorkDay();
+
+        // new date -> counted as a work day
+        attendance.mark(date, true);
+        assertEquals(11, attendance.getWorkDayCount());
+        assertEquals(3, attendance.getAbsentDayCount());
+        assertTrue(attendance.getLedger().isAbsent(date));
+
+        // same date again -> only whether absent is changed
+        attendance.mark(date, true);
+        assertEquals(11, attendance.getWorkDayCount());
+        assertEquals(3, attendance.getAbsentDayCount());
+        attendance.mark(date, false);
         assertEquals(11, attendance.getWorkDayCount());
+        assertEquals(2, attendance.getAbsentDayCount());
+        assertFalse(attendance.getLedger().isAbsent(date));
+        assertEquals(100.0 * 9 / 11, attendance.getAttendanceRate(), 0.01);
     }
 
     @Test
-    public void incrementAbsentDay() {
+    public void copy_markedCopy_originalUnchanged() {
         Attendance attendance = new Attendance(10, 2);
-        attendance.incrementAbsentDay();
-        assertEquals(3, attendance.getAbsentDayCount());
+        attendance.mark(LocalDate.of(2025, 3, 4), false);
+        Attendance copy = attendance.copy();
+        assertEquals(attendance, copy);
+
+        copy.mark(LocalDate.of(2025, 3, 5), true);
+        assertNotEquals(attendance, copy);
+        assertEquals(11, attendance.getWorkDayCount());
+        assertEquals(1, attendance.getLedger().getTrackedDayCount());
     }
 
     @Test
@@ -174,6 +209,11 @@ public class AttendanceTest {
 
         // both different -> returns false
         assertFalse(attendance.equals(new Attendance(9, 3)));
+
+        // same counts with different days recorded -> returns false
+        Attendance marked = new Attendance(9, 2);
+        marked.mark(LocalDate.of(2025, 3, 4), false);
+        assertFalse(attendance.equals(marked));
     }
 
     @Test
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class LeaveTest {
@@ -64,6 +66,24 @@ public class LeaveTest {
         assertFalse(Leave.isValidLeave(VALID_START_DATE, VALID_END_DATE, EMPTY_REASON));
     }
 
+    @Test
+    public void isValidLeave_parsedDates() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        assertTrue(Leave.isValidLeave(start, start.plusDays(29), VALID_REASON));
+        assertFalse(Leave.isValidLeave(start, start.plusDays(30), VALID_REASON)); // longer than 30 days
+        assertFalse(Leave.isValidLeave(start, start.minusDays(1), VALID_REASON)); // end before start
+        assertFalse(Leave.isValidLeave(start, start, EMPTY_REASON));
+        assertFalse(Leave.isValidLeave(LocalDate.of(1899, 12, 31), LocalDate.of(1900, 1, 1), VALID_REASON));
+    }
+
+    @Test
+    public void constructor_parsedDates_sameAsStringDates() {
+        Leave leave = new Leave(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), VALID_REASON);
+        assertEquals(new Leave("2025-01-01", "2025-01-03", VALID_REASON).toString(), leave.toString());
+        assertThrows(IllegalArgumentException.class, () ->
+                new Leave(LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 1), VALID_REASON));
+    }
+
     @Test
     public void overlaps() {
         Leave baseLeave = new Leave(VALID_START_DATE, VALID_END_DATE, VALID_REASON);
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.leave.Leave;
+
+public class LeaveIndexTest {
+
+    private static final Nric FIRST_NRIC = new Nric("S0000001A");
+    private static final Nric SECOND_NRIC = new Nric("S0000002B");
+
+    @Test
+    public void findOverlapping_typicalPersons_personsOnLeave() {
+        LeaveIndex index = new LeaveIndex(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        assertEquals(3, index.size());
+
+        // Alice is on leave from 2021-10-10 to 2021-10-12, and Carl from 2021-10-11 to 2021-10-12
+        assertEquals(List.of(ALICE.getNric(), CARL.getNric()),
+                new ArrayList<>(index.findOverlapping(date("2021-10-12"), date("2021-10-31"))));
+        assertEquals(List.of(ALICE.getNric()),
+                new ArrayList<>(index.findOverlapping(date("2021-10-01"), date("2021-10-10"))));
+        assertEquals(Collections.emptySet(), index.findOverlapping(date("2021-10-13"), date("2022-10-09")));
+        assertEquals(List.of(BENSON.getNric()),
+                new ArrayList<>(index.findOverlapping(date("2022-11-01"), date("2022-11-01"))));
+
+        assertTrue(index.hasOverlapping(date("2021-10-12"), date("2021-10-12")));
+        assertFalse(index.hasOverlapping(date("2021-10-13"), date("2022-10-09")));
+    }
+
+    @Test
+    public void findOverlapping_manyLeavesOfSamePerson_personListedOnce() {
+        LeaveIndex index = new LeaveIndex();
+        index.add(FIRST_NRIC, new Leave("2025-03-01", "2025-03-02", "Annual Leave"));
+        index.add(FIRST_NRIC, new Leave("2025-03-05", "2025-03-06", "Annual Leave"));
+        index.add(SECOND_NRIC, new Leave("2025-03-04", "2025-03-04", "Sick Leave"));
+
+        assertEquals(List.of(FIRST_NRIC, SECOND_NRIC),
+                new ArrayList<>(index.findOverlapping(date("2025-03-01"), date("2025-03-31"))));
+    }
+
+    @Test
+    public void remove() {
+        Leave leave = new Leave("2025-03-01", "2025-03-02", "Annual Leave");
+        LeaveIndex index = new LeaveIndex();
+        index.add(FIRST_NRIC, leave);
+        index.add(SECOND_NRIC, leave);
+
+        // leave of another person -> not removed
+        assertFalse(index.remove(new Nric("S0000003C"), leave));
+
+        assertTrue(index.remove(FIRST_NRIC, leave));
+        assertEquals(Set.of(SECOND_NRIC), index.findOverlapping(date("2025-03-01"), date("2025-03-01")));
+        assertFalse(index.remove(FIRST_NRIC, leave));
+
+        assertTrue(index.remove(SECOND_NRIC, leave));
+        assertEquals(0, index.size());
+        assertFalse(index.hasOverlapping(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void addAndRemove_randomLeaves_sameAsCheckingEveryLeave() {
+        Random random = new Random(2025);
+        Nric[] nrics = {FIRST_NRIC, SECOND_NRIC, new Nric("S0000003C"), new Nric("S0000004D")};
+        LocalDate firstDay = date("2025-01-01");
+        List<Nric> owners = new ArrayList<>();
+        List<Leave> leaves = new ArrayList<>();
+        LeaveIndex index = new LeaveIndex();
+
+        for (int i = 0; i < 2000; i++) {
+            if (!leaves.isEmpty() && random.nextInt(3) == 0) {
+                int removed = random.nextInt(leaves.size());
+                assertTrue(index.remove(owners.remove(removed), leaves.remove(removed)));
+            } else {
+                LocalDate start = firstDay.plusDays(random.nextInt(365));
+                Leave leave = new Leave(start, start.plusDays(random.nextInt(Leave.MAX_LEAVE_DURATION)), "Leave");
+                Nric nric = nrics[random.nextInt(nrics.length)];
+                index.add(nric, leave);
+                owners.add(nric);
+                leaves.add(leave);
+            }
+
+            LocalDate from = firstDay.plusDays(random.nextInt(400) - 20);
+            LocalDate to = from.plusDays(random.nextInt(20));
+            Set<Nric> expected = new LinkedHashSet<>();
+            for (int j = 0; j < leaves.size(); j++) {
+                if (!leaves.get(j).getStartDate().isAfter(to) && !leaves.get(j).getEndDate().isBefore(from)) {
+                    expected.add(owners.get(j));
+                }
+            }
+            assertEquals(expected, index.findOverlapping(from, to));
+            assertEquals(!expected.isEmpty(), index.hasOverlapping(from, to));
+            assertEquals(leaves.size(), index.size());
+        }
+    }
+
+    private static LocalDate date(String date) {
+        return LocalDate.parse(date);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NricsMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        NricsMatchPredicate firstPredicate = new NricsMatchPredicate(List.of(ALICE.getNric()));
+        NricsMatchPredicate secondPredicate = new NricsMatchPredicate(List.of(ALICE.getNric(), BENSON.getNric()));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        NricsMatchPredicate firstPredicateCopy = new NricsMatchPredicate(List.of(ALICE.getNric(), ALICE.getNric()));
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different nrics -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nricMatches_returnsTrue() {
+        // One nric
+        NricsMatchPredicate predicate = new NricsMatchPredicate(List.of(ALICE.getNric()));
+        assertTrue(predicate.test(ALICE));
+
+        // Multiple nrics
+        predicate = new NricsMatchPredicate(List.of(ALICE.getNric(), BENSON.getNric()));
+        assertTrue(predicate.test(BENSON));
+
+        // Same nric, different other fields
+        assertTrue(predicate.test(new PersonBuilder(ALICE).withName("Carol").build()));
+    }
+
+    @Test
+    public void test_nricDoesNotMatch_returnsFalse() {
+        // Zero nrics
+        NricsMatchPredicate predicate = new NricsMatchPredicate(Collections.emptyList());
+        assertFalse(predicate.test(ALICE));
+
+        // Non-matching nric
+        predicate = new NricsMatchPredicate(List.of(ALICE.getNric(), BENSON.getNric()));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NricsMatchPredicate predicate = new NricsMatchPredicate(List.of(ALICE.getNric()));
+
+        String expected = NricsMatchPredicate.class.getCanonicalName() + "{nrics=" + Set.of(ALICE.getNric()) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.comparators.PersonSortOrder;
+import seedu.address.model.person.comparators.PersonSortOrder.SortCriterion;
+import seedu.address.model.person.comparators.SortAttribute;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonOrderIndexTest {
+
+    private static final Person AMY_OLD = new PersonBuilder().withName("Amy").withNric("S0000002A")
+            .withHire("2020-01-01").build();
+    private static final Person AMY_NEW = new PersonBuilder().withName("Amy").withNric("S0000001A")
+            .withHire("2022-01-01").build();
+    private static final Person BOB_OLD = new PersonBuilder().withName("Bob").withNric("S0000003A")
+            .withHire("2020-01-01").build();
+
+    private static final PersonSortOrder NAME_ASCENDING = sortOrder(SortAttribute.NAME, true);
+    private static final PersonSortOrder NAME_DESCENDING = sortOrder(SortAttribute.NAME, false);
+
+    private final Map<Nric, Person> persons = new HashMap<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonOrderIndex(null, List.of()));
+        assertThrows(NullPointerException.class, () -> new PersonOrderIndex(SortAttribute.NAME, null));
+    }
+
+    @Test
+    public void getPersons_ascending_equalKeysInNricOrder() {
+        PersonOrderIndex index = createIndex(SortAttribute.NAME, BOB_OLD, AMY_OLD, AMY_NEW);
+        assertEquals(List.of(AMY_NEW, AMY_OLD, BOB_OLD), index.getPersons(true, NAME_ASCENDING, persons::get));
+    }
+
+    @Test
+    public void getPersons_descending_equalKeysStillInNricOrder() {
+        PersonOrderIndex index = createIndex(SortAttribute.NAME, BOB_OLD, AMY_OLD, AMY_NEW);
+        assertEquals(List.of(BOB_OLD, AMY_NEW, AMY_OLD), index.getPersons(false, NAME_DESCENDING, persons::get));
+    }
+
+    @Test
+    public void getPersons_tieOrder_sortsEqualKeys() {
+        PersonOrderIndex index = createIndex(SortAttribute.HIRE, BOB_OLD, AMY_OLD, AMY_NEW);
+        PersonSortOrder hireThenNameDescending = new PersonSortOrder(List.of(
+                new SortCriterion(SortAttribute.HIRE, true), new SortCriterion(SortAttribute.NAME, false)));
+        assertEquals(List.of(BOB_OLD, AMY_OLD, AMY_NEW),
+                index.getPersons(true, hireThenNameDescending, persons::get));
+    }
+
+    @Test
+    public void getPersons_afterAddAndRemove_indexKeptInOrder() {
+        PersonOrderIndex index = createIndex(SortAttribute.NAME, BOB_OLD);
+        add(index, AMY_OLD);
+        assertEquals(List.of(AMY_OLD, BOB_OLD), index.getPersons(true, NAME_ASCENDING, persons::get));
+
+        Person editedBob = new PersonBuilder(BOB_OLD).withName("Aaron").build();
+        index.remove(BOB_OLD);
+        add(index, editedBob);
+        assertEquals(List.of(editedBob, AMY_OLD), index.getPersons(true, NAME_ASCENDING, persons::get));
+
+        index.remove(AMY_OLD);
+        assertEquals(List.of(editedBob), index.getPersons(true, NAME_ASCENDING, persons::get));
+    }
+
+    @Test
+    public void getPersons_personReplacedInLookup_currentPersonReturned() {
+        PersonOrderIndex index = createIndex(SortAttribute.NAME, AMY_OLD);
+        Person changedAmy = AMY_OLD.copy();
+        persons.put(changedAmy.getNric(), changedAmy);
+        assertSame(changedAmy, index.getPersons(true, NAME_ASCENDING, persons::get).get(0));
+    }
+
+    private PersonOrderIndex createIndex(SortAttribute attribute, Person... indexedPersons) {
+        for (Person person : indexedPersons) {
+            persons.put(person.getNric(), person);
+        }
+        return new PersonOrderIndex(attribute, List.of(indexedPersons));
+    }
+
+    private void add(PersonOrderIndex index, Person person) {
+        persons.put(person.getNric(), person);
+        index.add(person);
+    }
+
+    private static PersonSortOrder sortOrder(SortAttribute attribute, boolean isAscending) {
+        return new PersonSortOrder(List.of(new SortCriterion(attribute, isAscending)));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,8 +13,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.leave.Leave;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -51,6 +55,36 @@ public class PersonTest {
         assertFalse(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void copy_changeCopy_originalUnchanged() {
+        Person person = new PersonBuilder().build();
+        Person copy = person.copy();
+        assertEquals(person, copy);
+        assertNotSame(person.getAttendance(), copy.getAttendance());
+
+        copy.markAttendance(LocalDate.of(2025, 3, 3), false);
+        copy.addLeave(new Leave("2025-03-04", "2025-03-05", "Medical Leave"));
+        assertEquals(0, person.getAttendance().getWorkDayCount());
+        assertTrue(person.getLeaves().isEmpty());
+    }
+
+    @Test
+    public void hasOverlappingLeave_afterLeavesChanged_checksCurrentLeaves() {
+        Person person = new PersonBuilder().withLeaves(new Leave("2025-03-04", "2025-03-05", "Medical Leave"))
+                .build();
+        Leave overlappingLeave = new Leave("2025-03-05", "2025-03-06", "Annual Leave");
+        Leave laterLeave = new Leave("2025-04-01", "2025-04-02", "Annual Leave");
+        assertTrue(person.hasOverlappingLeave(overlappingLeave));
+        assertFalse(person.hasOverlappingLeave(laterLeave));
+
+        person.addLeave(new Leave("2025-03-30", "2025-04-01", "Annual Leave"));
+        assertTrue(person.hasOverlappingLeave(laterLeave));
+
+        person.removeLeave(new Leave("2025-03-04", "2025-03-04", "Medical Leave")); // same start date
+        assertFalse(person.hasOverlappingLeave(overlappingLeave));
+        assertEquals(1, person.getLeaves().size());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -0,0 +1,128 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.leave.Leave;
+import seedu.address.testutil.PersonBuilder;
+
+public class TeamLeaveReportTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+    private static final Tag NOBODY = new Tag("nobody");
+
+    @Test
+    public void of_typicalPersons_countsPersonsOnLeaveEachDay() {
+        TeamLeaveReport report = TeamLeaveReport.of(getTypicalPersons(), Arrays.asList(FRIENDS, OWES_MONEY, NOBODY),
+                LocalDate.of(2021, 10, 9), LocalDate.of(2021, 10, 13));
+
+        assertEquals(5, report.getDayCount());
+        assertEquals(LocalDate.of(2021, 10, 13), report.getEndDate());
+        assertEquals(4, report.getTeamSize(FRIENDS));
+        assertEquals(1, report.getTeamSize(OWES_MONEY));
+        assertEquals(0, report.getTeamSize(NOBODY));
+
+        int[] expectedFriends = {0, 1, 2, 2, 0};
+        for (int day = 0; day < expectedFriends.length; day++) {
+            LocalDate date = LocalDate.of(2021, 10, 9).plusDays(day);
+            assertEquals(expectedFriends[day], report.getOnLeaveCount(FRIENDS, date));
+            assertEquals(0, report.getOnLeaveCount(OWES_MONEY, date));
+            assertEquals(0, report.getOnLeaveCount(NOBODY, date));
+        }
+    }
+
+    @Test
+    public void of_leavesOutsideRange_clampedToRange() {
+        Person person = new PersonBuilder().withTags("friends")
+                .withLeaves(new Leave("2024-12-20", "2025-01-02", "Annual Leave"),
+                        new Leave("2025-01-30", "2025-02-10", "Annual Leave"),
+                        new Leave("2025-03-01", "2025-03-05", "Annual Leave"))
+                .build();
+        TeamLeaveReport report = TeamLeaveReport.of(Collections.singletonList(person), Arrays.asList(FRIENDS),
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        assertEquals(1, report.getOnLeaveCount(FRIENDS, LocalDate.of(2025, 1, 1)));
+        assertEquals(1, report.getOnLeaveCount(FRIENDS, LocalDate.of(2025, 1, 2)));
+        assertEquals(0, report.getOnLeaveCount(FRIENDS, LocalDate.of(2025, 1, 3)));
+        assertEquals(0, report.getOnLeaveCount(FRIENDS, LocalDate.of(2025, 1, 29)));
+        assertEquals(1, report.getOnLeaveCount(FRIENDS, LocalDate.of(2025, 1, 30)));
+        assertEquals(1, report.getOnLeaveCount(FRIENDS, LocalDate.of(2025, 1, 31)));
+    }
+
+    @Test
+    public void of_randomLeaves_matchesCountingEachDay() {
+        Random random = new Random(15);
+        List<Tag> tags = Arrays.asList(new Tag("a"), new Tag("b"), new Tag("c"));
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            PersonBuilder builder = new PersonBuilder().withNric(String.format("S%07dA", i))
+                    .withTags(tags.get(random.nextInt(3)).tagName, tags.get(random.nextInt(3)).tagName);
+            List<Leave> leaves = new ArrayList<>();
+            LocalDate date = LocalDate.of(2024, 12, 1);
+            for (int j = 0; j < 5; j++) {
+                LocalDate start = date.plusDays(1 + random.nextInt(30));
+                date = start.plusDays(random.nextInt(10));
+                leaves.add(new Leave(start, date, "Annual Leave"));
+            }
+            persons.add(builder.withLeaves(leaves.toArray(new Leave[0])).build());
+        }
+
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 3, 31);
+        TeamLeaveReport report = TeamLeaveReport.of(persons, tags, startDate, endDate);
+        for (Tag tag : tags) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                int expected = 0;
+                for (Person person : persons) {
+                    if (person.getTags().getTags().contains(tag) && isOnLeave(person, date)) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, report.getOnLeaveCount(tag, date), tag + " on " + date);
+            }
+        }
+    }
+
+    private static boolean isOnLeave(Person person, LocalDate date) {
+        return person.getLeaves().stream()
+                .anyMatch(leave -> !date.isBefore(leave.getStartDate()) && !date.isAfter(leave.getEndDate()));
+    }
+
+    @Test
+    public void of_duplicateTags_keptOnceInOrder() {
+        TeamLeaveReport report = TeamLeaveReport.of(getTypicalPersons(),
+                Arrays.asList(OWES_MONEY, FRIENDS, OWES_MONEY), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1));
+        assertEquals(Arrays.asList(OWES_MONEY, FRIENDS), report.getTags());
+    }
+
+    @Test
+    public void of_invalidArguments_throwsIllegalArgumentException() {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> TeamLeaveReport.of(getTypicalPersons(),
+                Collections.emptyList(), date, date));
+        assertThrows(IllegalArgumentException.class, () -> TeamLeaveReport.of(getTypicalPersons(),
+                Arrays.asList(FRIENDS), date, date.minusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> TeamLeaveReport.of(getTypicalPersons(),
+                Arrays.asList(FRIENDS), date, date.plusDays(TeamLeaveReport.MAX_DAY_COUNT)));
+    }
+
+    @Test
+    public void getOnLeaveCount_outsideReport_throwsIllegalArgumentException() {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        TeamLeaveReport report = TeamLeaveReport.of(getTypicalPersons(), Arrays.asList(FRIENDS), date, date);
+        assertThrows(IllegalArgumentException.class, () -> report.getOnLeaveCount(FRIENDS, date.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> report.getOnLeaveCount(FRIENDS, date.minusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> report.getOnLeaveCount(OWES_MONEY, date));
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -9,14 +11,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.LazyPersonSourceStub;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +53,37 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void containsNric_lazyPersonSource_personNotMaterialized() {
+        LazyPersonSourceStub source = new LazyPersonSourceStub(Arrays.asList(ALICE));
+        uniquePersonList.setPersons(source);
+        assertTrue(uniquePersonList.containsNric(ALICE.getNric()));
+        assertFalse(uniquePersonList.containsNric(BOB.getNric()));
+        assertEquals(0, source.getMaterializedCount());
+    }
+
+    @Test
+    public void get_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertSame(ALICE, uniquePersonList.get(ALICE.getNric()));
+        assertNull(uniquePersonList.get(BOB.getNric()));
+    }
+
+    @Test
+    public void get_lazilyHeldPerson_returnsPerson() {
+        LazyPersonSourceStub source = new LazyPersonSourceStub(Arrays.asList(ALICE, BOB));
+        uniquePersonList.setPersons(source);
+        assertEquals(BOB, uniquePersonList.get(BOB.getNric()));
+        assertEquals(1, source.getMaterializedCount());
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +139,18 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        // the identity freed up by the edit can be reused
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -156,12 +205,117 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_lazyPersonSource_personsMaterializedOnAccess() {
+        LazyPersonSourceStub source = new LazyPersonSourceStub(Arrays.asList(ALICE, BOB));
+        uniquePersonList.setPersons(source);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertEquals(0, source.getMaterializedCount());
+
+        Person alice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        assertSame(alice, uniquePersonList.asUnmodifiableObservableList().get(0));
+        assertEquals(1, source.getMaterializedCount());
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_lazilyHeldPerson_replacesPerson() {
+        uniquePersonList.setPersons(new LazyPersonSourceStub(Arrays.asList(ALICE, BOB)));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(editedAlice,
+                new PersonBuilder(BOB).withName("Alice Bee").build()));
+    }
+
+    @Test
+    public void remove_lazilyHeldPerson_removesPerson() {
+        uniquePersonList.setPersons(new LazyPersonSourceStub(Arrays.asList(ALICE, BOB)));
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
+    }
+
+    @Test
+    public void markChanged_lazilyHeldPerson_changesKept() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i <= LazyPersonList.CACHE_SIZE; i++) {
+            persons.add(new PersonBuilder().withNric(String.format("S%07dA", i)).build());
+        }
+        uniquePersonList.setPersons(new LazyPersonSourceStub(persons));
+
+        Person person = uniquePersonList.asUnmodifiableObservableList().get(0);
+        person.markAttendance(LocalDate.of(2025, 3, 3), false);
+        uniquePersonList.markChanged(person);
+        // Accesses enough other persons to push the changed person out of the cache
+        for (Person otherPerson : uniquePersonList) {
+            assertTrue(uniquePersonList.contains(otherPerson));
+        }
+        assertEquals(1, uniquePersonList.asUnmodifiableObservableList().get(0).getAttendance().getWorkDayCount());
+    }
+
+    @Test
+    public void endBatch_changesInNestedBatches_reportedOnceAsReplacement() {
+        uniquePersonList.add(ALICE);
+        List<Integer> changeSizes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changeSizes.add(change.getAddedSize());
+            }
+        });
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BOB);
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        uniquePersonList.endBatch();
+        assertEquals(List.of(), changeSizes);
+
+        uniquePersonList.endBatch();
+        assertEquals(List.of(2), changeSizes);
+    }
+
+    @Test
+    public void endBatch_noChanges_nothingReported() {
+        List<Integer> changeSizes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeSizes.add(change.getList().size()));
+        uniquePersonList.beginBatch();
+        uniquePersonList.endBatch();
+        assertEquals(List.of(), changeSizes);
+    }
+
+    @Test
+    public void endBatch_noBatchBegun_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, uniquePersonList::endBatch);
+    }
+
+    @Test
+    public void copy_changePersonInCopy_originalUnchanged() {
+        Person person = new PersonBuilder().build();
+        uniquePersonList.add(person);
+        UniquePersonList copy = uniquePersonList.copy();
+        assertEquals(uniquePersonList, copy);
+
+        copy.asUnmodifiableObservableList().get(0).markAttendance(LocalDate.of(2025, 3, 3), false);
+        assertEquals(0, person.getAttendance().getWorkDayCount());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,103 @@
+package seedu.address.model.person.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.comparators.PersonSortOrder.SortCriterion;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortOrderTest {
+
+    private static final Person SALES_OLD = new PersonBuilder().withName("Bob").withNric("S0000001A")
+            .withHire("2020-01-01").withTags("sales").build();
+    private static final Person SALES_NEW = new PersonBuilder().withName("Amy").withNric("S0000002A")
+            .withHire("2022-01-01").withTags("sales").build();
+    private static final Person HR_NEW = new PersonBuilder().withName("Carl").withNric("S0000003A")
+            .withHire("2022-01-01").withTags("hr").build();
+    private static final Person HR_NEW_TWIN = new PersonBuilder().withName("Carl").withNric("S0000000A")
+            .withHire("2022-01-01").withTags("hr").build();
+
+    @Test
+    public void constructor_noCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonSortOrder(List.of()));
+    }
+
+    @Test
+    public void compare_manyCriteria_laterCriteriaBreakTies() {
+        PersonSortOrder sortOrder = new PersonSortOrder(List.of(
+                new SortCriterion(SortAttribute.TAG, true),
+                new SortCriterion(SortAttribute.HIRE, false),
+                new SortCriterion(SortAttribute.NAME, true)));
+        List<Person> persons = new ArrayList<>(Arrays.asList(SALES_OLD, HR_NEW, SALES_NEW, HR_NEW_TWIN));
+        persons.sort(sortOrder);
+
+        // persons equal in every criterion are sorted by NRIC
+        assertEquals(Arrays.asList(HR_NEW_TWIN, HR_NEW, SALES_NEW, SALES_OLD), persons);
+    }
+
+    @Test
+    public void sort_manyCriteria_sameOrderAsCompare() {
+        PersonSortOrder sortOrder = new PersonSortOrder(List.of(
+                new SortCriterion(SortAttribute.HIRE, false), new SortCriterion(SortAttribute.TAG, true)));
+        List<Person> persons = new ArrayList<>(Arrays.asList(SALES_OLD, HR_NEW, SALES_NEW, HR_NEW_TWIN));
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        expectedPersons.sort(sortOrder);
+
+        sortOrder.sort(persons);
+        assertEquals(Arrays.asList(HR_NEW_TWIN, HR_NEW, SALES_NEW, SALES_OLD), persons);
+        assertEquals(expectedPersons, persons);
+    }
+
+    @Test
+    public void compare_personChanged_newKeysUsed() {
+        PersonSortOrder sortOrder = new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, true)));
+        assertTrue(sortOrder.compare(SALES_NEW, SALES_OLD) < 0);
+
+        Person renamedAmy = new PersonBuilder(SALES_NEW).withName("Zed").build();
+        assertTrue(sortOrder.compare(renamedAmy, SALES_OLD) > 0);
+    }
+
+    @Test
+    public void compare_descending_reversesOrder() {
+        PersonSortOrder sortOrder = new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, false)));
+        assertTrue(sortOrder.compare(SALES_NEW, SALES_OLD) > 0);
+        assertTrue(sortOrder.compare(SALES_OLD, SALES_NEW) < 0);
+        assertEquals(0, sortOrder.compare(SALES_OLD, SALES_OLD));
+    }
+
+    @Test
+    public void getDescription() {
+        PersonSortOrder sortOrder = new PersonSortOrder(List.of(
+                new SortCriterion(SortAttribute.TAG, true), new SortCriterion(SortAttribute.HIRE, false)));
+        assertEquals("tag in ascending order, then hire in descending order", sortOrder.getDescription());
+    }
+
+    @Test
+    public void equals() {
+        PersonSortOrder sortOrder = new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, true)));
+
+        // same values -> returns true
+        assertTrue(sortOrder.equals(new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, true)))));
+
+        // same object -> returns true
+        assertTrue(sortOrder.equals(sortOrder));
+
+        // null -> returns false
+        assertFalse(sortOrder.equals(null));
+
+        // different direction -> returns false
+        assertFalse(sortOrder.equals(new PersonSortOrder(List.of(new SortCriterion(SortAttribute.NAME, false)))));
+
+        // different attribute -> returns false
+        assertFalse(sortOrder.equals(new PersonSortOrder(List.of(new SortCriterion(SortAttribute.HIRE, true)))));
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.model.person.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortAttributeTest {
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(SortAttribute.HIRE), SortAttribute.fromKeyword("hire"));
+        assertEquals(Optional.of(SortAttribute.TAG), SortAttribute.fromKeyword("TAG"));
+        assertEquals(Optional.empty(), SortAttribute.fromKeyword("tags"));
+    }
+
+    @Test
+    public void getSortKey_normalizedKeys() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withEmail("Alice@Example.com")
+                .withHire("2020-01-31").withTags("Sales", "engineering").build();
+        assertEquals("alice pauline", SortAttribute.NAME.getSortKey(person));
+        assertEquals("alice@example.com", SortAttribute.EMAIL.getSortKey(person));
+        assertEquals("2020-01-31", SortAttribute.HIRE.getSortKey(person));
+        assertEquals("engineering", SortAttribute.TAG.getSortKey(person));
+    }
+
+    @Test
+    public void getSortKey_noTags_sortsFirst() {
+        Person person = new PersonBuilder().withTags().build();
+        assertEquals("", SortAttribute.TAG.getSortKey(person));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.NameTrigramIndex.NameMatch;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex(getTypicalPersons());
+
+    @Test
+    public void getTrigrams() {
+        assertEquals(Arrays.asList("$$a", "$al", "ali", "lic", "ice", "ce$", "e$$"),
+                NameTrigramIndex.getTrigrams("alice"));
+        assertEquals(Arrays.asList("$$y", "$yu", "yu$", "u$$"), NameTrigramIndex.getTrigrams("yu"));
+    }
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, NameTrigramIndex.getEditDistance("alice", "alice", 2));
+        assertEquals(1, NameTrigramIndex.getEditDistance("alcie", "alice", 2));
+        assertEquals(1, NameTrigramIndex.getEditDistance("alic", "alice", 2));
+        assertEquals(1, NameTrigramIndex.getEditDistance("alicee", "alice", 2));
+        assertEquals(1, NameTrigramIndex.getEditDistance("alise", "alice", 2));
+        assertEquals(2, NameTrigramIndex.getEditDistance("alsie", "alice", 2));
+
+        // more edits than allowed
+        assertEquals(2, NameTrigramIndex.getEditDistance("bob", "alice", 1));
+        assertEquals(1, NameTrigramIndex.getEditDistance("al", "alice", 0));
+    }
+
+    @Test
+    public void getMaxEdits() {
+        assertEquals(0, NameTrigramIndex.getMaxEdits(2));
+        assertEquals(1, NameTrigramIndex.getMaxEdits(3));
+        assertEquals(1, NameTrigramIndex.getMaxEdits(5));
+        assertEquals(2, NameTrigramIndex.getMaxEdits(6));
+    }
+
+    @Test
+    public void search_typos_closestFirst() {
+        assertSearch(List.of("meier"), BENSON, DANIEL, ELLE);
+        assertSearch(List.of("KURZ"), CARL, FIONA);
+        assertSearch(List.of("alcie"), ALICE);
+        assertSearch(List.of("paulnie"), ALICE);
+        assertSearch(List.of("kruz"), CARL);
+        assertSearch(List.of("xyz"));
+    }
+
+    @Test
+    public void search_manyKeywords_moreMatchedKeywordsFirst() {
+        assertSearch(List.of("elle", "meier"), ELLE, BENSON, DANIEL);
+        assertSearch(List.of("dainel", "meier"), DANIEL, BENSON, ELLE);
+    }
+
+    @Test
+    public void search_shortKeyword_exactOnly() {
+        Person bernice = new PersonBuilder().withName("Bernice Yu").withNric("S7654321A").build();
+        NameTrigramIndex index = new NameTrigramIndex(List.of(bernice));
+        assertEquals(List.of(bernice.getNric()), getNrics(index.search(List.of("yu"))));
+        assertEquals(List.of(), getNrics(index.search(List.of("yo"))));
+    }
+
+    @Test
+    public void addAndRemove_personChanged_searchUpdated() {
+        NameTrigramIndex index = new NameTrigramIndex();
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+
+        assertEquals(List.of(ALICE.getNric()), getNrics(index.search(List.of("alicai"))));
+        assertEquals(List.of(), getNrics(index.search(List.of("pauline"))));
+        index.remove(editedAlice);
+        assertEquals(List.of(), getNrics(index.search(List.of("alicia"))));
+    }
+
+    private void assertSearch(List<String> keywords, Person... expectedPersons) {
+        assertEquals(Arrays.stream(expectedPersons).map(Person::getNric).collect(Collectors.toList()),
+                getNrics(index.search(keywords)));
+    }
+
+    private static List<Nric> getNrics(List<NameMatch> matches) {
+        return matches.stream().map(NameMatch::getNric).collect(Collectors.toList());
+    }
+}
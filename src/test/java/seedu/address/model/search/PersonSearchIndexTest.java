@@ -0,0 +1,95 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex(getTypicalPersons());
+
+    @Test
+    public void tokenize() {
+        assertEquals(Arrays.asList("123", "jurong", "west", "ave", "6", "08", "111"),
+                PersonSearchIndex.tokenize("123, Jurong West Ave 6, #08-111"));
+        assertEquals(Arrays.asList("alice", "example", "com"), PersonSearchIndex.tokenize("Alice@Example.com"));
+        assertEquals(Collections.emptyList(), PersonSearchIndex.tokenize(" @#* "));
+    }
+
+    @Test
+    public void search_anyField_matchesWholeWordsIgnoringCase() {
+        assertSearch(new SearchQuery(List.of("MEIER")), BENSON, DANIEL);
+        assertSearch(new SearchQuery(List.of("jurong")), ALICE);
+        assertSearch(new SearchQuery(List.of("s1234567a")), ALICE);
+        assertSearch(new SearchQuery(List.of("owesmoney", "rivals")), BENSON, ELLE);
+
+        // partial words do not match
+        assertSearch(new SearchQuery(List.of("meie")));
+    }
+
+    @Test
+    public void search_keywordWithManyWords_allWordsInOneField() {
+        assertSearch(new SearchQuery(List.of("alice@example.com")), ALICE);
+        assertSearch(new SearchQuery(List.of("carl-kurz")), CARL);
+
+        // the words are in different fields
+        assertSearch(new SearchQuery(List.of("carl-street")));
+    }
+
+    @Test
+    public void search_fieldKeywords_matchOnlyThatField() {
+        assertSearch(new SearchQuery(Collections.emptyList(), Map.of(SearchField.TAG, List.of("friends"))),
+                ALICE, BENSON, CARL, DANIEL);
+        assertSearch(new SearchQuery(Collections.emptyList(), Map.of(SearchField.NAME, List.of("street"))));
+        assertSearch(new SearchQuery(Collections.emptyList(), Map.of(SearchField.PHONE, List.of("94351253"))),
+                ALICE);
+    }
+
+    @Test
+    public void search_manyFields_matchesEveryField() {
+        assertSearch(new SearchQuery(List.of("street"), Map.of(SearchField.TAG, List.of("friends"))), CARL, DANIEL);
+        assertSearch(new SearchQuery(Collections.emptyList(),
+                Map.of(SearchField.NAME, List.of("meier", "kurz"), SearchField.TAG, List.of("owesMoney"))), BENSON);
+    }
+
+    @Test
+    public void search_prefixKeyword_matchesWordsStartingWithPrefix() {
+        assertSearch(new SearchQuery(List.of("Mei*")), BENSON, DANIEL);
+        assertSearch(new SearchQuery(List.of("carl k*")), CARL);
+        assertSearch(new SearchQuery(List.of("*")));
+    }
+
+    @Test
+    public void addAndRemove_personChanged_searchUpdated() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+        assertEquals(Set.of(ALICE.getNric(), BENSON.getNric()), index.search(new SearchQuery(List.of("friends"))));
+
+        index.remove(ALICE);
+        assertEquals(Set.of(BENSON.getNric()), index.search(new SearchQuery(List.of("friends"))));
+        assertEquals(Set.of(), index.search(new SearchQuery(List.of("alice"))));
+        assertEquals(Set.of(), index.search(new SearchQuery(List.of("ali*"))));
+    }
+
+    private void assertSearch(SearchQuery query, Person... expectedPersons) {
+        Set<Nric> expectedNrics = Arrays.stream(expectedPersons).map(Person::getNric).collect(Collectors.toSet());
+        assertEquals(expectedNrics, index.search(query));
+    }
+}
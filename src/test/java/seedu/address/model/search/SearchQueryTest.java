@@ -0,0 +1,46 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchQueryTest {
+
+    @Test
+    public void isEmpty() {
+        assertTrue(new SearchQuery(Collections.emptyList()).isEmpty());
+        assertTrue(new SearchQuery(Collections.emptyList(), Map.of(SearchField.NAME, List.of())).isEmpty());
+        assertFalse(new SearchQuery(List.of("alice")).isEmpty());
+        assertFalse(new SearchQuery(Collections.emptyList(), Map.of(SearchField.TAG, List.of("sales"))).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        SearchQuery query = new SearchQuery(List.of("alice"), Map.of(SearchField.TAG, List.of("sales")));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // same values -> returns true, ignoring fields without keywords
+        assertTrue(query.equals(new SearchQuery(List.of("alice"),
+                Map.of(SearchField.TAG, List.of("sales"), SearchField.NAME, List.of()))));
+        assertEquals(query.hashCode(), new SearchQuery(List.of("alice"),
+                Map.of(SearchField.TAG, List.of("sales"))).hashCode());
+
+        // different types -> returns false
+        assertFalse(query.equals(1));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(query.equals(new SearchQuery(List.of("bob"), Map.of(SearchField.TAG, List.of("sales")))));
+        assertFalse(query.equals(new SearchQuery(List.of("alice"), Map.of(SearchField.NAME, List.of("sales")))));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DurabilityPolicy;
+
+public class AtomicFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void shouldSync_always_syncedNow() {
+        AtomicFileWriter writer = new AtomicFileWriter(DurabilityPolicy.ALWAYS);
+        assertTrue(writer.shouldSync(testFolder));
+        assertTrue(writer.shouldSync(testFolder));
+        assertFalse(writer.hasPendingSyncs());
+    }
+
+    @Test
+    public void shouldSync_never_notSynced() {
+        AtomicFileWriter writer = new AtomicFileWriter(DurabilityPolicy.NEVER);
+        assertFalse(writer.shouldSync(testFolder));
+        assertFalse(writer.hasPendingSyncs());
+    }
+
+    @Test
+    public void shouldSync_batchedWithinInterval_syncedBySyncPending() {
+        AtomicFileWriter writer = new AtomicFileWriter(DurabilityPolicy.BATCHED);
+        assertTrue(writer.shouldSync(testFolder));
+        assertFalse(writer.shouldSync(testFolder));
+        assertTrue(writer.hasPendingSyncs());
+
+        writer.syncPending();
+        assertFalse(writer.hasPendingSyncs());
+    }
+
+    @Test
+    public void shouldSync_batchedWithinInterval_syncedAtEndOfInterval() throws Exception {
+        AtomicFileWriter writer = new AtomicFileWriter(DurabilityPolicy.BATCHED);
+        writer.shouldSync(testFolder);
+        assertFalse(writer.shouldSync(testFolder.resolve("missing.json")));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (writer.hasPendingSyncs() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(writer.hasPendingSyncs());
+    }
+}
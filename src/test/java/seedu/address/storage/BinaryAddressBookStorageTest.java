@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, DurabilityPolicy.NEVER);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(new PersonBuilder().withName("Carl Kurz").withNric("S0000003C").withTags("manager")
+                .withLeaves(new Leave("2025-01-02", "2025-01-03", "Annual Leave"))
+                .withAttendance(new Attendance(10, 2)).build());
+        original.removePerson(original.getPersonList().get(0));
+        storage.saveAddressBook(original, filePath);
+        assertReadBackEquals(original, storage.readAddressBook(filePath).get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_attendanceLedger_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, DurabilityPolicy.NEVER);
+        AddressBook original = new AddressBook();
+        Person person = new PersonBuilder().withAttendance(new Attendance(5, 1)).build();
+        person.markAttendance(LocalDate.of(2024, 12, 31), true);
+        person.markAttendance(LocalDate.of(2025, 1, 2), false);
+        original.addPerson(person);
+
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_versionWithoutLedger_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withAttendance(new Attendance(3, 1)).build());
+
+        // A record of the first version is the current record without the empty ledger at its end
+        ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+        BinaryPersonCodec.writePerson(original.getPersonList().get(0), new DataOutputStream(recordBuffer),
+                new HashMap<>());
+        byte[] record = Arrays.copyOf(recordBuffer.toByteArray(), recordBuffer.size() - 2 * Integer.BYTES);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(1);
+            out.writeInt(0);
+            out.writeInt(1);
+            out.writeInt(record.length);
+            out.write(record);
+        }
+
+        assertReadBackEquals(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_personsWithSameTag_shareTag() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Alice Pauline").withNric("S0000001A").withTags("hr")
+                .build());
+        original.addPerson(new PersonBuilder().withName("Bob Choo").withNric("S0000002B").withTags("hr").build());
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertSame(readBack.getPersonList().get(0).getTags().getTags().iterator().next(),
+                readBack.getPersonList().get(1).getTags().getTags().iterator().next());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidTag_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.VERSION);
+            out.writeInt(1);
+            out.writeUTF("#friend");
+            out.writeInt(0);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] contents = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(contents, contents.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidFile_readsNewestValidBackup() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(new AddressBook());
+        Files.writeString(filePath, "corrupted");
+
+        assertReadBackEquals(new AddressBook(), storage.readAddressBook().get());
+        Files.writeString(AtomicFileWriter.getBackupPath(filePath, 1), "corrupted");
+        assertReadBackEquals(original, storage.readAddressBook().get());
+    }
+
+    /**
+     * Asserts that {@code actual} has the same persons as {@code expected} in the same order,
+     * including their leaves and attendance, which are not covered by {@code Person#equals}.
+     */
+    private void assertReadBackEquals(AddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected, new AddressBook(actual));
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Person expectedPerson = expected.getPersonList().get(i);
+            Person actualPerson = actual.getPersonList().get(i);
+            assertEquals(expectedPerson.getTags(), actualPerson.getTags());
+            assertEquals(expectedPerson.getLeaves().toString(), actualPerson.getLeaves().toString());
+            assertEquals(expectedPerson.getAttendance(), actualPerson.getAttendance());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    private static final Leave LEAVE = new Leave("2025-01-02", "2025-01-03", "Annual Leave");
+    private static final LocalDate ATTENDANCE_DATE = LocalDate.of(2025, 1, 6);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = createAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(new PersonBuilder().withName("Carl Kurz").withNric("S0000003C").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(storage.getJournalPath()).size());
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = createAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalPath()));
+    }
+
+    @Test
+    public void saveAddressBook_allKindsOfChanges_replayedOnRead() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = createAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Person> persons = original.getPersonList();
+        Person alice = persons.get(1);
+        Person bob = persons.get(0);
+        original.addLeave(alice, LEAVE);
+        original.markAttendance(bob, ATTENDANCE_DATE, false);
+        original.markAttendance(bob, ATTENDANCE_DATE.plusDays(1), true);
+        original.setPerson(alice, new PersonBuilder(alice).withPhone("91234567").withLeaves(LEAVE).build());
+        original.addPerson(new PersonBuilder().withName("Carl Kurz").withNric("S0000003C").build());
+        List<Person> reversedPersons = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversedPersons);
+        original.setPersons(reversedPersons);
+        storage.saveAddressBook(original);
+
+        original.removePerson(original.getPersonList().get(0));
+        storage.saveAddressBook(original);
+
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_changesRecorded_onlyChangedPersonsCompared() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = createAddressBook();
+        storage.saveAddressBook(original);
+
+        // Changed without going through the address book, so the change is not recorded
+        original.getPersonList().get(0).markAttendance(ATTENDANCE_DATE, false);
+        original.addLeave(original.getPersonList().get(1), LEAVE);
+        storage.saveAddressBook(original);
+
+        List<String> journal = Files.readAllLines(storage.getJournalPath());
+        assertEquals(1, journal.size());
+        assertTrue(journal.get(0).contains("S0000001A"));
+    }
+
+    @Test
+    public void saveAddressBook_personsMoved_orderReplayedOnRead() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = createAddressBook();
+        original.addPerson(new PersonBuilder().withName("Carl Kurz").withNric("S0000003C").build());
+        storage.saveAddressBook(original);
+
+        Person bob = original.getPersonList().get(0);
+        original.removePerson(bob);
+        original.addPerson(bob);
+        original.setPerson(original.getPersonList().get(0),
+                new PersonBuilder(original.getPersonList().get(0)).withNric("S0000004D").build());
+        storage.saveAddressBook(original);
+
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void readAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = createAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.markAttendance(readBack.getPersonList().get(0), ATTENDANCE_DATE, false);
+        storage.saveAddressBook(readBack);
+
+        assertTrue(Files.exists(storage.getJournalPath()));
+        assertReadBackEquals(readBack, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_journalExceedsThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = createAddressBook();
+        storage.saveAddressBook(original);
+
+        for (Person person : original.getPersonList()) {
+            original.markAttendance(person, ATTENDANCE_DATE, false);
+        }
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertReadBackEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = createAddressBook();
+        storage.saveAddressBook(original);
+        original.markAttendance(original.getPersonList().get(0), ATTENDANCE_DATE, false);
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getJournalPath(), "{\"type\":\"REM", StandardOpenOption.APPEND);
+
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void readAddressBook_malformedJournalEntry_earlierEntriesKeptAndJournalSetAside() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = createAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(new PersonBuilder().withName("Carl Kurz").withNric("S0000003C").build());
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getJournalPath(), "not json\n{\"type\":\"REMOVE\",\"nric\":\"S0000001A\"}\n",
+                StandardOpenOption.APPEND);
+        String journal = Files.readString(storage.getJournalPath());
+
+        JournalAddressBookStorage readingStorage = new JournalAddressBookStorage(filePath);
+        assertReadBackEquals(original, readingStorage.readAddressBook().get());
+        readingStorage.awaitCompaction();
+
+        Path corruptJournalPath = storage.getJournalPath().resolveSibling("ab.json.journal.corrupt");
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(journal, Files.readString(corruptJournalPath));
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_journalNotRead_journalSetAside() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = createAddressBook();
+        storage.saveAddressBook(original);
+        original.markAttendance(original.getPersonList().get(0), ATTENDANCE_DATE, false);
+        storage.saveAddressBook(original);
+        String journal = Files.readString(storage.getJournalPath());
+
+        AddressBook replacement = new AddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        Path corruptJournalPath = storage.getJournalPath().resolveSibling("ab.json.journal.corrupt");
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(journal, Files.readString(corruptJournalPath));
+        assertReadBackEquals(replacement, filePath);
+    }
+
+    private AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Bob Choo").withNric("S0000002B").build());
+        addressBook.addPerson(new PersonBuilder().withName("Alice Pauline").withNric("S0000001A").build());
+        return addressBook;
+    }
+
+    private void assertReadBackEquals(AddressBook expected, Path filePath) throws Exception {
+        assertReadBackEquals(expected, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    /**
+     * Asserts that {@code actual} has the same persons as {@code expected} in the same order,
+     * including their leaves and attendance, which are not covered by {@code Person#equals}.
+     */
+    private void assertReadBackEquals(AddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected, new AddressBook(actual));
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Person expectedPerson = expected.getPersonList().get(i);
+            Person actualPerson = actual.getPersonList().get(i);
+            assertEquals(expectedPerson.getLeaves().toString(), actualPerson.getLeaves().toString());
+            assertEquals(expectedPerson.getAttendance(), actualPerson.getAttendance());
+        }
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -14,6 +17,9 @@ class JsonAdaptedAttendanceTest {
     private static final int INVALID_NEGATIVE_WORK_DAYS = -1;
     private static final int INVALID_NEGATIVE_ABSENT_DAYS = -1;
     private static final int INVALID_ABSENT_EXCEEDS_WORK_DAYS = 11;
+    // Attendance taken on the 2nd of January only
+    private static final String TRACKED_JANUARY_SECOND =
+            "AAAAAAAAAAIAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
 
     @Test
     void toModelType_validAttendance_success() throws Exception {
@@ -60,4 +66,43 @@ class JsonAdaptedAttendanceTest {
         assertThrows(IllegalValueException.class, jsonAttendance::toModelType);
     }
 
+    @Test
+    void toModelType_fromAttendanceWithLedger_success() throws Exception {
+        Attendance sourceAttendance = new Attendance(VALID_WORK_DAYS, VALID_ABSENT_DAYS);
+        sourceAttendance.mark(LocalDate.of(2024, 12, 31), true);
+        sourceAttendance.mark(LocalDate.of(2025, 1, 2), false);
+        JsonAdaptedAttendance jsonAttendance = new JsonAdaptedAttendance(sourceAttendance);
+
+        assertEquals(sourceAttendance, jsonAttendance.toModelType());
+    }
+
+    @Test
+    void toModelType_duplicateLedgerYear_throwsIllegalValueException() {
+        Attendance sourceAttendance = new Attendance();
+        sourceAttendance.mark(LocalDate.of(2025, 1, 2), false);
+        JsonAdaptedAttendanceYear year = new JsonAdaptedAttendanceYear(sourceAttendance.getLedger(), 2025);
+        JsonAdaptedAttendance jsonAttendance = new JsonAdaptedAttendance(2, 0, List.of(year, year));
+
+        IllegalValueException thrown = assertThrows(IllegalValueException.class, jsonAttendance::toModelType);
+        assertEquals(JsonAdaptedAttendance.MESSAGE_DUPLICATE_YEAR, thrown.getMessage());
+    }
+
+    @Test
+    void toModelType_invalidLedger_throwsIllegalValueException() {
+        // bitset of the wrong length
+        JsonAdaptedAttendance jsonAttendance = new JsonAdaptedAttendance(VALID_WORK_DAYS, VALID_ABSENT_DAYS,
+                List.of(new JsonAdaptedAttendanceYear(2025, "AAAA", List.of())));
+        assertThrows(IllegalValueException.class, jsonAttendance::toModelType);
+
+        // absent on a day attendance was not taken
+        jsonAttendance = new JsonAdaptedAttendance(VALID_WORK_DAYS, VALID_ABSENT_DAYS, List.of(
+                new JsonAdaptedAttendanceYear(2025, TRACKED_JANUARY_SECOND, List.of("2025-01-03"))));
+        assertThrows(IllegalValueException.class, jsonAttendance::toModelType);
+
+        // fewer days counted than recorded in the ledger
+        jsonAttendance = new JsonAdaptedAttendance(0, 0, List.of(
+                new JsonAdaptedAttendanceYear(2025, TRACKED_JANUARY_SECOND, List.of())));
+        assertThrows(IllegalValueException.class, jsonAttendance::toModelType);
+    }
+
 }
@@ -9,15 +9,18 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +63,23 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_personsNotArray_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("personsNotArrayAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("unknownFieldsAddressBook.json").get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals("S1234567A", readBack.getPersonList().get(0).getNric().nric);
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +106,75 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_writtenOnSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true,
+                DurabilityPolicy.NEVER);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_keptAsBackups() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false,
+                DurabilityPolicy.ALWAYS);
+        AddressBook original = new AddressBook();
+
+        for (int i = 0; i <= AtomicFileWriter.BACKUP_COUNT + 1; i++) {
+            original.addPerson(new PersonBuilder().withNric(String.format("S000000%dA", i)).build());
+            jsonAddressBookStorage.saveAddressBook(original);
+        }
+
+        assertFalse(Files.exists(filePath.resolveSibling("TempAddressBook.json.tmp")));
+        for (int i = 1; i <= AtomicFileWriter.BACKUP_COUNT; i++) {
+            ReadOnlyAddressBook backup = new JsonAddressBookStorage(filePath)
+                    .readAddressBook(AtomicFileWriter.getBackupPath(filePath, i)).get();
+            assertEquals(original.getPersonList().size() - i, backup.getPersonList().size());
+        }
+        assertFalse(Files.exists(AtomicFileWriter.getBackupPath(filePath,
+                AtomicFileWriter.BACKUP_COUNT + 1)));
+    }
+
+    @Test
+    public void saveAddressBook_notBackedUp_noBackupsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false,
+                DurabilityPolicy.NEVER, false);
+
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(AtomicFileWriter.getBackupPath(filePath, 1)));
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidFile_newestValidBackupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        // Simulates a crash that left the data file and the newest backup truncated
+        Files.writeString(filePath, "{ \"persons\": [");
+        Files.writeString(AtomicFileWriter.getBackupPath(filePath, 1), "");
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidFileWithoutBackups_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "{ \"persons\": [");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
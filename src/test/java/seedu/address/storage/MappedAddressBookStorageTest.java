@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.leave.Leave;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("ab.map"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("ab.map")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("ab.map"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath, DurabilityPolicy.NEVER);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(new PersonBuilder().withName("Carl Kurz").withNric("S0000003C").withTags("manager")
+                .withLeaves(new Leave("2025-01-02", "2025-01-03", "Annual Leave"))
+                .withAttendance(new Attendance(10, 2)).build());
+        original.removePerson(original.getPersonList().get(0));
+        storage.saveAddressBook(original, filePath);
+        assertReadBackEquals(original, storage.readAddressBook(filePath).get());
+    }
+
+    @Test
+    public void readAddressBook_emptyAddressBook_success() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("ab.map"));
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lookUpByNric_findsPositionOfPerson() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("ab.map"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        MappedAddressBook readBack = (MappedAddressBook) storage.readAddressBook().get();
+        assertEquals(original.getPersonList().size(), readBack.size());
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            Person person = original.getPersonList().get(i);
+            assertEquals(i, readBack.indexOf(person.getNric()));
+            assertEquals(person, readBack.get(i));
+        }
+        assertEquals(-1, readBack.indexOf(new Nric("S9999999Z")));
+        assertThrows(IndexOutOfBoundsException.class, () -> readBack.get(readBack.size()));
+    }
+
+    @Test
+    public void saveAddressBook_changesToReadAddressBook_changesKept() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person person = addressBook.getPersonList().get(1);
+        Leave leave = new Leave("2025-03-04", "2025-03-05", "Medical Leave");
+        addressBook.addLeave(person, leave);
+        addressBook.markAttendance(person, LocalDate.of(2025, 3, 4), true);
+        storage.saveAddressBook(addressBook, filePath);
+
+        Person savedPerson = storage.readAddressBook().get().getPersonList().get(1);
+        assertTrue(savedPerson.hasLeave(leave));
+        assertEquals(person.getAttendance(), savedPerson.getAttendance());
+    }
+
+    @Test
+    public void readAddressBook_notMappedFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        new MappedAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        byte[] contents = Files.readAllBytes(filePath);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.write(contents, 0, 4);
+            out.writeInt(MappedAddressBookStorage.VERSION + 1);
+            out.write(contents, 8, contents.length - 8);
+        }
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_changedRecordByte_onlyChangedPersonNotDecoded() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        AddressBook original = getTypicalAddressBook();
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] contents = Files.readAllBytes(filePath);
+        contents[MappedAddressBookStorage.HEADER_SIZE + 10]++;
+        Files.write(filePath, contents);
+
+        MappedAddressBook readBack = (MappedAddressBook) new MappedAddressBookStorage(filePath).readAddressBook().get();
+        assertThrows(IllegalStateException.class, () -> readBack.get(0));
+        assertEquals(original.getPersonList().get(1), readBack.get(1));
+    }
+
+    @Test
+    public void readAddressBook_changedIndexByte_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] contents = Files.readAllBytes(filePath);
+        contents[contents.length - MappedAddressBookStorage.TRAILER_SIZE - 5]++;
+        Files.write(filePath, contents);
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_readAddressBookUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath, DurabilityPolicy.NEVER);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(new AddressBook());
+        assertReadBackEquals(original, readBack);
+    }
+
+    @Test
+    public void deleteStaleCopies_copiesInFolder_onlyCopiesDeleted() throws Exception {
+        Path copyPath = Files.createFile(testFolder.resolve("addressbook123.mapped"));
+        Path otherPath = Files.createFile(testFolder.resolve("addressbook.json"));
+
+        MappedAddressBookStorage.deleteStaleCopies(testFolder);
+        assertFalse(Files.exists(copyPath));
+        assertTrue(Files.exists(otherPath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] contents = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(contents, contents.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidFile_readsNewestValidBackup() throws Exception {
+        Path filePath = testFolder.resolve("ab.map");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(new AddressBook());
+        Files.writeString(filePath, "corrupted");
+
+        assertReadBackEquals(new AddressBook(), storage.readAddressBook().get());
+        Files.writeString(AtomicFileWriter.getBackupPath(filePath, 1), "corrupted");
+        assertReadBackEquals(original, storage.readAddressBook().get());
+    }
+
+    /**
+     * Asserts that {@code actual} has the same persons as {@code expected} in the same order,
+     * including their leaves and attendance, which are not covered by {@code Person#equals}.
+     */
+    private void assertReadBackEquals(AddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected, new AddressBook(actual));
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Person expectedPerson = expected.getPersonList().get(i);
+            Person actualPerson = actual.getPersonList().get(i);
+            assertEquals(expectedPerson.getTags(), actualPerson.getTags());
+            assertEquals(expectedPerson.getLeaves().toString(), actualPerson.getLeaves().toString());
+            assertEquals(expectedPerson.getAttendance(), actualPerson.getAttendance());
+        }
+    }
+}
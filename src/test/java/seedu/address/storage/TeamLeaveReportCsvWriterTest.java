@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Tag;
+import seedu.address.model.person.TeamLeaveReport;
+
+public class TeamLeaveReportCsvWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final TeamLeaveReport report = TeamLeaveReport.of(getTypicalPersons(),
+            Arrays.asList(new Tag("friends"), new Tag("owesMoney"), new Tag("Sales, East")),
+            LocalDate.of(2021, 10, 10), LocalDate.of(2021, 10, 13));
+
+    private final String expectedCsv = "date,friends,owesMoney,\"Sales, East\"\n"
+            + "2021-10-10,1,0,0\n"
+            + "2021-10-11,2,0,0\n"
+            + "2021-10-12,2,0,0\n"
+            + "2021-10-13,0,0,0\n";
+
+    @Test
+    public void toCsv_report_rowForEachDay() {
+        assertEquals(expectedCsv, TeamLeaveReportCsvWriter.toCsv(report));
+    }
+
+    @Test
+    public void write_missingFolder_createsFile() throws Exception {
+        Path filePath = testFolder.resolve("reports").resolve("capacity.csv");
+        TeamLeaveReportCsvWriter.write(report, filePath);
+        assertEquals(expectedCsv, Files.readString(filePath));
+    }
+}
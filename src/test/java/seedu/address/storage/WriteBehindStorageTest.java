@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class WriteBehindStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenRead_returnsSavedData() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_coalescedIntoLatestSnapshot() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeReleased = new CountDownLatch(1);
+        RecordingStorageManager recordingStorage = new RecordingStorageManager(writeStarted, writeReleased);
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage);
+
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        writeStarted.await();
+        addressBook.addPerson(new PersonBuilder().withName("Alice Pauline").withNric("S0000001A").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(new PersonBuilder().withName("Bob Choo").withNric("S0000002B").build());
+        storage.saveAddressBook(addressBook);
+        writeReleased.countDown();
+        storage.flush();
+
+        assertEquals(2, recordingStorage.saved.size());
+        assertEquals(addressBook, new AddressBook(recordingStorage.saved.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_personChangedAfterSave_writesStateAtSave() {
+        RecordingStorageManager recordingStorage = new RecordingStorageManager(
+                new CountDownLatch(1), new CountDownLatch(0));
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage);
+        Person person = new PersonBuilder().build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+
+        storage.saveAddressBook(addressBook);
+        person.markAttendance(LocalDate.of(2025, 3, 3), false);
+        storage.flush();
+
+        Person savedPerson = recordingStorage.saved.get(0).getPersonList().get(0);
+        assertEquals(0, savedPerson.getAttendance().getWorkDayCount());
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failurePassedToHandler() {
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        });
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        storage.setSaveFailureHandler(failure::set);
+
+        storage.saveAddressBook(new AddressBook());
+        storage.flush();
+
+        assertSame(DUMMY_IO_EXCEPTION, failure.get());
+    }
+
+    /**
+     * A {@code StorageManager} that records the address books it is asked to save instead of writing them.
+     * The first save signals {@code writeStarted} and then waits for {@code writeReleased}.
+     */
+    private class RecordingStorageManager extends StorageManager {
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted;
+        private final CountDownLatch writeReleased;
+
+        RecordingStorageManager(CountDownLatch writeStarted, CountDownLatch writeReleased) {
+            super(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                    new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+            this.writeStarted = writeStarted;
+            this.writeReleased = writeReleased;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            saved.add(addressBook);
+            if (writeStarted.getCount() > 0) {
+                writeStarted.countDown();
+                try {
+                    writeReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.LazyPersonSource;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code LazyPersonSource} address book over a fixed list of persons, which counts how many persons it has
+ * materialized.
+ */
+public class LazyPersonSourceStub implements ReadOnlyAddressBook, LazyPersonSource {
+
+    private final List<Person> persons;
+    private int materializedCount;
+
+    public LazyPersonSourceStub(List<Person> persons) {
+        this.persons = new ArrayList<>(persons);
+    }
+
+    /**
+     * Returns the number of persons materialized by {@link #get(int)} so far.
+     */
+    public int getMaterializedCount() {
+        return materializedCount;
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    public Person get(int index) {
+        materializedCount++;
+        return persons.get(index).copy();
+    }
+
+    @Override
+    public int indexOf(Nric nric) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i).getNric().equals(nric)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+public class DeferredPersonListTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+    private final DeferredPersonList deferredList = new DeferredPersonList(persons);
+    private final List<String> reportedChanges = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        deferredList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                reportedChanges.add(change.getFrom() + "-" + change.getTo() + " removed " + change.getRemovedSize());
+            }
+        });
+    }
+
+    @Test
+    public void get_notDeferring_readsList() {
+        persons.add(ELLE);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE), deferredList);
+        assertEquals(List.of("4-5 removed 0"), reportedChanges);
+    }
+
+    @Test
+    public void get_deferring_showsPersonsShownBefore() {
+        deferredList.get(1);
+        deferredList.deferChanges();
+        persons.remove(0);
+        persons.add(ELLE);
+
+        assertEquals(4, deferredList.size());
+        assertEquals(BENSON, deferredList.get(1));
+        assertNull(deferredList.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> deferredList.get(4));
+        assertEquals(List.of(), reportedChanges);
+    }
+
+    @Test
+    public void applyDeferredChanges_changesInMiddle_reportedAsOneReplacement() {
+        deferredList.deferChanges();
+        persons.set(1, ELLE);
+        persons.remove(2);
+        persons.add(1, FIONA);
+        deferredList.applyDeferredChanges();
+
+        assertEquals(List.of(ALICE, FIONA, ELLE, DANIEL), deferredList);
+        assertEquals(List.of("1-3 removed 2"), reportedChanges);
+    }
+
+    @Test
+    public void applyDeferredChanges_changesAtEnds_reportedAsOneReplacement() {
+        deferredList.deferChanges();
+        persons.remove(0);
+        persons.add(ELLE);
+        deferredList.applyDeferredChanges();
+
+        assertEquals(List.of(BENSON, CARL, DANIEL, ELLE), deferredList);
+        assertEquals(List.of("0-4 removed 4"), reportedChanges);
+    }
+
+    @Test
+    public void applyDeferredChanges_noChanges_nothingReported() {
+        deferredList.deferChanges();
+        deferredList.applyDeferredChanges();
+        deferredList.applyDeferredChanges();
+        assertEquals(List.of(), reportedChanges);
+    }
+}
@@ -75,6 +75,17 @@ public class UiPartTest {
         assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH, new Object()));
     }
 
+    @Test
+    public void constructor_nullRoot_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TestUiPart<Object>((Object) null));
+    }
+
+    @Test
+    public void constructor_root_rootReturned() {
+        TestFxmlObject root = new TestFxmlObject("Built in code");
+        assertEquals(root, new TestUiPart<TestFxmlObject>(root).getRoot());
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);
@@ -109,6 +120,10 @@ public class UiPartTest {
             assertEquals(VALID_FILE_ROOT, validFileRoot);
         }
 
+        TestUiPart(T root) {
+            super(root);
+        }
+
     }
 
 }